@@ -0,0 +1,400 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A certificates manager which generates the keys and certificates in the operator process using the JCA and the
+ * Bouncy Castle PKIX APIs, instead of running an {@code openssl} process for each operation. The generated keys,
+ * certificates and stores are equivalent to those generated by {@link OpenSslCertManager}: 2048 bit RSA keys in
+ * PKCS#8 PEM format, X.509 certificates signed using SHA-256 and PKCS#12 stores.
+ *
+ * <p>Unlike {@link OpenSslCertManager}, it does not create any temporary files.</p>
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class BouncyCastleCertManager implements CertManager {
+    private static final Logger log = LogManager.getLogger(BouncyCastleCertManager.class);
+
+    private static final String KEY_ALGORITHM = "RSA";
+    private static final int KEY_SIZE = 2048;
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+    private final SecureRandom random = new SecureRandom();
+
+    public BouncyCastleCertManager() {}
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, null, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        X509Certificate cert = selfSignedCert(keyPair, sbj, days);
+
+        writePem(keyFile, new JcaPKCS8Generator(keyPair.getPrivate(), null));
+        writePem(certFile, cert);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        PrivateKey privateKey = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+        KeyPair keyPair = new KeyPair(publicKey(privateKey), privateKey);
+
+        writePem(certFile, selfSignedCert(keyPair, sbj, days));
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+
+        // The truststore is created when the file is empty
+        if (trustStoreFile.length() > 0) {
+            try (InputStream is = new FileInputStream(trustStoreFile)) {
+                trustStore.load(is, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(readCertificate(Files.readAllBytes(certFile.toPath()))), null);
+
+        try (OutputStream os = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(os, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        PrivateKey privateKey = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+
+        try (InputStream is = new FileInputStream(certFile)) {
+            Collection<? extends Certificate> chain = certificateFactory().generateCertificates(is);
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, privateKey, keyStorePassword.toCharArray(), chain.toArray(new Certificate[0]));
+
+            try (OutputStream os = new FileOutputStream(keyStoreFile)) {
+                keyStore.store(os, keyStorePassword.toCharArray());
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the keystore " + keyStoreFile, e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+
+        try (InputStream is = new FileInputStream(trustStoreFile)) {
+            trustStore.load(is, trustStorePassword.toCharArray());
+        }
+
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+
+        try (OutputStream os = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(os, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+
+        JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(sbj), keyPair.getPublic());
+        GeneralNames subjectAltNames = subjectAltNames(sbj);
+        if (subjectAltNames != null) {
+            ExtensionsGenerator extensions = new ExtensionsGenerator();
+            extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+        }
+
+        writePem(keyFile, new JcaPKCS8Generator(keyPair.getPrivate(), null));
+        writePem(csrFile, builder.build(signer(keyPair.getPrivate())));
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        PKCS10CertificationRequest csr = readPem(Files.readAllBytes(csrFile.toPath()), PKCS10CertificationRequest.class);
+        PrivateKey caPrivateKey = readPrivateKey(caKey);
+        X509Certificate caCertificate;
+        try {
+            caCertificate = readCertificate(caCert);
+        } catch (CertificateException e) {
+            throw new IOException("Failed to read the CA certificate", e);
+        }
+
+        try {
+            PublicKey publicKey = new JcaPKCS10CertificationRequest(csr).getPublicKey();
+            Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+            // As with "openssl x509 -req", the extensions requested in the CSR are ignored
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                    X500Name.getInstance(caCertificate.getSubjectX500Principal().getEncoded()),
+                    serialNumber(),
+                    Date.from(now),
+                    Date.from(now.plus(days, ChronoUnit.DAYS)),
+                    csr.getSubject(),
+                    publicKey);
+
+            GeneralNames subjectAltNames = subjectAltNames(sbj);
+            if (subjectAltNames != null) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            }
+
+            writePem(crtFile, new JcaX509CertificateConverter().getCertificate(builder.build(signer(caPrivateKey))));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the certificate " + crtFile, e);
+        }
+    }
+
+    private KeyPair generateKeyPair() throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+            generator.initialize(KEY_SIZE, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to generate the private key", e);
+        }
+    }
+
+    /**
+     * Self-signed certificates are used as the CA certificates, so they have the same extensions as the certificates
+     * generated by "openssl req -x509" with the default v3_ca extensions (plus the subject alternative names if any).
+     */
+    private X509Certificate selfSignedCert(KeyPair keyPair, Subject sbj, int days) throws IOException {
+        try {
+            X500Name name = x500Name(sbj);
+            Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                    name,
+                    serialNumber(),
+                    Date.from(now),
+                    Date.from(now.plus(days, ChronoUnit.DAYS)),
+                    name,
+                    keyPair.getPublic())
+                    .addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()))
+                    .addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(keyPair.getPublic()))
+                    .addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+
+            GeneralNames subjectAltNames = subjectAltNames(sbj);
+            if (subjectAltNames != null) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            }
+
+            return new JcaX509CertificateConverter().getCertificate(builder.build(signer(keyPair.getPrivate())));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the self-signed certificate", e);
+        }
+    }
+
+    private ContentSigner signer(PrivateKey privateKey) throws IOException {
+        try {
+            return new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).setSecureRandom(random).build(privateKey);
+        } catch (OperatorCreationException e) {
+            throw new IOException("Failed to create the signer", e);
+        }
+    }
+
+    private BigInteger serialNumber() {
+        return new BigInteger(Long.SIZE, random);
+    }
+
+    private static X500Name x500Name(Subject sbj) {
+        if (sbj == null) {
+            return new X500Name(new RDN[0]);
+        }
+
+        // Same order of the RDNs as in the "/O=.../CN=..." subject passed to openssl
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+        if (sbj.organizationName() != null) {
+            builder.addRDN(BCStyle.O, sbj.organizationName());
+        }
+        if (sbj.commonName() != null) {
+            builder.addRDN(BCStyle.CN, sbj.commonName());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converts the subject alternative names, which use the openssl configuration syntax (e.g. DNS.1 or IP.2), to
+     * general names.
+     */
+    private static GeneralNames subjectAltNames(Subject sbj) throws IOException {
+        if (sbj == null || sbj.subjectAltNames() == null || sbj.subjectAltNames().isEmpty()) {
+            return null;
+        }
+
+        List<GeneralName> names = new ArrayList<>(sbj.subjectAltNames().size());
+        for (Map.Entry<String, String> entry : sbj.subjectAltNames().entrySet()) {
+            int dot = entry.getKey().indexOf('.');
+            String type = dot >= 0 ? entry.getKey().substring(0, dot) : entry.getKey();
+
+            switch (type) {
+                case "DNS":
+                    names.add(new GeneralName(GeneralName.dNSName, entry.getValue()));
+                    break;
+                case "IP":
+                    names.add(new GeneralName(GeneralName.iPAddress, entry.getValue()));
+                    break;
+                case "email":
+                    names.add(new GeneralName(GeneralName.rfc822Name, entry.getValue()));
+                    break;
+                case "URI":
+                    names.add(new GeneralName(GeneralName.uniformResourceIdentifier, entry.getValue()));
+                    break;
+                default:
+                    throw new IOException("Unsupported subject alternative name " + entry.getKey());
+            }
+        }
+
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    /**
+     * Reads a private key in the PKCS#8 format or in the traditional RSA format (used by older openssl versions).
+     */
+    private static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Object object = readPem(pem, Object.class);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+        if (object instanceof PrivateKeyInfo) {
+            return converter.getPrivateKey((PrivateKeyInfo) object);
+        } else if (object instanceof PEMKeyPair) {
+            return converter.getKeyPair((PEMKeyPair) object).getPrivate();
+        } else {
+            throw new IOException("Unsupported private key format " + (object != null ? object.getClass().getName() : null));
+        }
+    }
+
+    private static PublicKey publicKey(PrivateKey privateKey) throws IOException {
+        if (privateKey instanceof RSAPrivateCrtKey) {
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+            try {
+                return KeyFactory.getInstance(KEY_ALGORITHM).generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Failed to get the public key", e);
+            }
+        } else {
+            throw new IOException("Unsupported private key " + privateKey.getAlgorithm());
+        }
+    }
+
+    private static X509Certificate readCertificate(byte[] pem) throws CertificateException {
+        return (X509Certificate) certificateFactory().generateCertificate(new ByteArrayInputStream(pem));
+    }
+
+    private static CertificateFactory certificateFactory() throws CertificateException {
+        return CertificateFactory.getInstance("X.509");
+    }
+
+    private static <T> T readPem(byte[] pem, Class<T> type) throws IOException {
+        try (Reader reader = new StringReader(new String(pem, StandardCharsets.US_ASCII));
+             PEMParser parser = new PEMParser(reader)) {
+            Object object = parser.readObject();
+            if (object != null && !type.isInstance(object)) {
+                throw new IOException("Unexpected PEM object " + object.getClass().getName());
+            }
+            return type.cast(object);
+        }
+    }
+
+    private static void writePem(File file, Object object) throws IOException {
+        log.debug("Writing {}", file);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.US_ASCII);
+             JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(object);
+        }
+    }
+}
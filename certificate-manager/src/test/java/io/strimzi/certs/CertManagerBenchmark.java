@@ -0,0 +1,109 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time needed by the certificate managers to issue a certificate signed by a CA, as done for every
+ * Kafka broker, ZooKeeper node or KafkaUser (key and CSR generation, signing and PKCS#12 keystore creation).
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.mainClass=io.strimzi.certs.CertManagerBenchmark
+ * -Dexec.classpathScope=test} in the certificate-manager module. The openssl benchmark needs the
+ * {@code openssl} binary on the path.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CertManagerBenchmark {
+
+    @Param({"openssl", "bouncycastle"})
+    public String certManager;
+
+    private CertManager manager;
+    private File dir;
+    private File caKey;
+    private File caCert;
+    private Subject subject;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        manager = "openssl".equals(certManager) ? new OpenSslCertManager() : new BouncyCastleCertManager();
+        dir = Files.createTempDirectory(CertManagerBenchmark.class.getSimpleName()).toFile();
+
+        Subject caSubject = new Subject();
+        caSubject.setOrganizationName("io.strimzi");
+        caSubject.setCommonName("cluster-ca");
+        caKey = new File(dir, "ca.key");
+        caCert = new File(dir, "ca.crt");
+        manager.generateSelfSignedCert(caKey, caCert, caSubject, 365);
+
+        Map<String, String> subjectAltNames = new HashMap<>();
+        subjectAltNames.put("DNS.1", "my-cluster-kafka-bootstrap");
+        subjectAltNames.put("DNS.2", "my-cluster-kafka-bootstrap.myproject.svc");
+        subjectAltNames.put("DNS.3", "my-cluster-kafka-0.my-cluster-kafka-brokers.myproject.svc");
+        subject = new Subject();
+        subject.setOrganizationName("io.strimzi");
+        subject.setCommonName("my-cluster-kafka");
+        subject.setSubjectAltNames(subjectAltNames);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Benchmark
+    public File issueCertificate() throws IOException {
+        File key = new File(dir, "broker.key");
+        File csr = new File(dir, "broker.csr");
+        File cert = new File(dir, "broker.crt");
+        File keyStore = new File(dir, "broker.p12");
+
+        manager.generateCsr(key, csr, subject);
+        manager.generateCert(csr, caKey, caCert, cert, subject, 365);
+        manager.addKeyAndCertToKeyStore(key, cert, "broker", keyStore, "password");
+
+        return keyStore;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CertManagerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -39,6 +39,21 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CREATE_CLUSTER_ROLES = "STRIMZI_CREATE_CLUSTER_ROLES";
     public static final String STRIMZI_IMAGE_PULL_POLICY = "STRIMZI_IMAGE_PULL_POLICY";
     public static final String STRIMZI_IMAGE_PULL_SECRETS = "STRIMZI_IMAGE_PULL_SECRETS";
+    public static final String STRIMZI_RESOURCE_CACHE_ENABLED = "STRIMZI_RESOURCE_CACHE_ENABLED";
+    public static final String STRIMZI_RESOURCE_CACHE_MAX_STALENESS_MS = "STRIMZI_RESOURCE_CACHE_MAX_STALENESS_MS";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String STRIMZI_RECONCILIATION_SPREAD_MS = "STRIMZI_RECONCILIATION_SPREAD_MS";
+    public static final String STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS = "STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS";
+    public static final String STRIMZI_SKIP_UNCHANGED_PATCHES = "STRIMZI_SKIP_UNCHANGED_PATCHES";
+    public static final String STRIMZI_CONNECT_API_MAX_POOL_SIZE = "STRIMZI_CONNECT_API_MAX_POOL_SIZE";
+    public static final String STRIMZI_CONNECT_API_REQUEST_TIMEOUT_MS = "STRIMZI_CONNECT_API_REQUEST_TIMEOUT_MS";
+    public static final String STRIMZI_ADMIN_CLIENT_CACHE_IDLE_TIMEOUT_MS = "STRIMZI_ADMIN_CLIENT_CACHE_IDLE_TIMEOUT_MS";
+    public static final String STRIMZI_MAX_PARALLEL_BROKER_RESTARTS = "STRIMZI_MAX_PARALLEL_BROKER_RESTARTS";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_CERT_ISSUANCE_THREADS = "STRIMZI_CERT_ISSUANCE_THREADS";
+    public static final String STRIMZI_KUBERNETES_OPERATIONS_POOL_SIZE = "STRIMZI_KUBERNETES_OPERATIONS_POOL_SIZE";
+    public static final String STRIMZI_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND = "STRIMZI_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND";
+    public static final String STRIMZI_KUBERNETES_API_MAX_RATE = "STRIMZI_KUBERNETES_API_MAX_RATE";
 
     // Env vars for configuring images
     public static final String STRIMZI_KAFKA_IMAGES = "STRIMZI_KAFKA_IMAGES";
@@ -59,6 +74,23 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
+    public static final boolean DEFAULT_RESOURCE_CACHE_ENABLED = false;
+    public static final long DEFAULT_RESOURCE_CACHE_MAX_STALENESS_MS = 300_000;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = 0;
+    public static final long DEFAULT_RECONCILIATION_SPREAD_MS = 0;
+    public static final boolean DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS = false;
+    public static final boolean DEFAULT_SKIP_UNCHANGED_PATCHES = false;
+    public static final int DEFAULT_CONNECT_API_MAX_POOL_SIZE = 5;
+    public static final long DEFAULT_CONNECT_API_REQUEST_TIMEOUT_MS = 0;
+    public static final long DEFAULT_ADMIN_CLIENT_CACHE_IDLE_TIMEOUT_MS = 0;
+    public static final int DEFAULT_MAX_PARALLEL_BROKER_RESTARTS = 1;
+    public static final String CERT_MANAGER_OPENSSL = "openssl";
+    public static final String CERT_MANAGER_BOUNCYCASTLE = "bouncycastle";
+    public static final String DEFAULT_CERT_MANAGER = CERT_MANAGER_OPENSSL;
+    public static final int DEFAULT_CERT_ISSUANCE_THREADS = 1;
+    public static final int DEFAULT_KUBERNETES_OPERATIONS_POOL_SIZE = 30;
+    public static final int DEFAULT_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND = 0;
+    public static final int DEFAULT_KUBERNETES_API_MAX_RATE = 0;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -67,9 +99,24 @@ public class ClusterOperatorConfig {
     private final KafkaVersion.Lookup versions;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
+    private final boolean resourceCacheEnabled;
+    private final long resourceCacheMaxStalenessMs;
+    private final int maxConcurrentReconciliations;
+    private final long reconciliationSpreadMs;
+    private final boolean skipUnchangedReconciliations;
+    private final boolean skipUnchangedPatches;
+    private final int connectApiMaxPoolSize;
+    private final long connectApiRequestTimeoutMs;
+    private final long adminClientCacheIdleTimeoutMs;
+    private final int maxParallelBrokerRestarts;
+    private final String certManager;
+    private final int certIssuanceThreads;
+    private final int kubernetesOperationsPoolSize;
+    private final int kubernetesOperationsMaxConcurrentPerKind;
+    private final int kubernetesApiMaxRate;
 
     /**
-     * Constructor
+     * Constructor. The other options have their default values, use {@link ClusterOperatorConfigBuilder} to set them.
      *
      * @param namespaces namespace in which the operator will run and create resources
      * @param reconciliationIntervalMs    specify every how many milliseconds the reconciliation runs
@@ -80,13 +127,32 @@ public class ClusterOperatorConfig {
      * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
      */
     public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets) {
-        this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
-        this.reconciliationIntervalMs = reconciliationIntervalMs;
-        this.operationTimeoutMs = operationTimeoutMs;
-        this.createClusterRoles = createClusterRoles;
-        this.versions = versions;
-        this.imagePullPolicy = imagePullPolicy;
-        this.imagePullSecrets = imagePullSecrets;
+        this(new ClusterOperatorConfigBuilder(namespaces, reconciliationIntervalMs, operationTimeoutMs, createClusterRoles, versions, imagePullPolicy, imagePullSecrets));
+    }
+
+    private ClusterOperatorConfig(ClusterOperatorConfigBuilder builder) {
+        this.namespaces = unmodifiableSet(new HashSet<>(builder.namespaces));
+        this.reconciliationIntervalMs = builder.reconciliationIntervalMs;
+        this.operationTimeoutMs = builder.operationTimeoutMs;
+        this.createClusterRoles = builder.createClusterRoles;
+        this.versions = builder.versions;
+        this.imagePullPolicy = builder.imagePullPolicy;
+        this.imagePullSecrets = builder.imagePullSecrets;
+        this.resourceCacheEnabled = builder.resourceCacheEnabled;
+        this.resourceCacheMaxStalenessMs = builder.resourceCacheMaxStalenessMs;
+        this.maxConcurrentReconciliations = builder.maxConcurrentReconciliations;
+        this.reconciliationSpreadMs = builder.reconciliationSpreadMs;
+        this.skipUnchangedReconciliations = builder.skipUnchangedReconciliations;
+        this.skipUnchangedPatches = builder.skipUnchangedPatches;
+        this.connectApiMaxPoolSize = builder.connectApiMaxPoolSize;
+        this.connectApiRequestTimeoutMs = builder.connectApiRequestTimeoutMs;
+        this.adminClientCacheIdleTimeoutMs = builder.adminClientCacheIdleTimeoutMs;
+        this.maxParallelBrokerRestarts = builder.maxParallelBrokerRestarts;
+        this.certManager = builder.certManager;
+        this.certIssuanceThreads = builder.certIssuanceThreads;
+        this.kubernetesOperationsPoolSize = builder.kubernetesOperationsPoolSize;
+        this.kubernetesOperationsMaxConcurrentPerKind = builder.kubernetesOperationsMaxConcurrentPerKind;
+        this.kubernetesApiMaxRate = builder.kubernetesApiMaxRate;
     }
 
     /**
@@ -128,8 +194,38 @@ public class ClusterOperatorConfig {
         boolean createClusterRoles = parseCreateClusterRoles(map.get(ClusterOperatorConfig.STRIMZI_CREATE_CLUSTER_ROLES));
         ImagePullPolicy imagePullPolicy = parseImagePullPolicy(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_POLICY));
         List<LocalObjectReference> imagePullSecrets = parseImagePullSecrets(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_SECRETS));
-        return new ClusterOperatorConfig(namespaces, reconciliationInterval, operationTimeout, createClusterRoles, lookup, imagePullPolicy, imagePullSecrets);
-
+        boolean resourceCacheEnabled = parseResourceCacheEnabled(map.get(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED));
+        long resourceCacheMaxStalenessMs = parseResourceCacheMaxStaleness(map.get(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_MAX_STALENESS_MS));
+        int maxConcurrentReconciliations = parseMaxConcurrentReconciliations(map.get(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS));
+        boolean skipUnchangedReconciliations = parseSkipUnchangedReconciliations(map.get(ClusterOperatorConfig.STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS));
+        boolean skipUnchangedPatches = parseSkipUnchangedPatches(map.get(ClusterOperatorConfig.STRIMZI_SKIP_UNCHANGED_PATCHES));
+        long reconciliationSpreadMs = parseReconciliationSpread(map.get(ClusterOperatorConfig.STRIMZI_RECONCILIATION_SPREAD_MS), reconciliationInterval);
+        int connectApiMaxPoolSize = parseConnectApiMaxPoolSize(map.get(ClusterOperatorConfig.STRIMZI_CONNECT_API_MAX_POOL_SIZE));
+        long connectApiRequestTimeoutMs = parseConnectApiRequestTimeout(map.get(ClusterOperatorConfig.STRIMZI_CONNECT_API_REQUEST_TIMEOUT_MS));
+        long adminClientCacheIdleTimeoutMs = parseAdminClientCacheIdleTimeout(map.get(ClusterOperatorConfig.STRIMZI_ADMIN_CLIENT_CACHE_IDLE_TIMEOUT_MS));
+        int maxParallelBrokerRestarts = parseMaxParallelBrokerRestarts(map.get(ClusterOperatorConfig.STRIMZI_MAX_PARALLEL_BROKER_RESTARTS));
+        String certManager = parseCertManager(map.get(ClusterOperatorConfig.STRIMZI_CERT_MANAGER));
+        int certIssuanceThreads = parseCertIssuanceThreads(map.get(ClusterOperatorConfig.STRIMZI_CERT_ISSUANCE_THREADS));
+        int kubernetesOperationsPoolSize = parseKubernetesOperationsPoolSize(map.get(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPERATIONS_POOL_SIZE));
+        int kubernetesOperationsMaxConcurrentPerKind = parseKubernetesOperationsMaxConcurrentPerKind(map.get(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND));
+        int kubernetesApiMaxRate = parseKubernetesApiMaxRate(map.get(ClusterOperatorConfig.STRIMZI_KUBERNETES_API_MAX_RATE));
+        return new ClusterOperatorConfigBuilder(namespaces, reconciliationInterval, operationTimeout, createClusterRoles, lookup, imagePullPolicy, imagePullSecrets)
+                .withResourceCacheEnabled(resourceCacheEnabled)
+                .withResourceCacheMaxStalenessMs(resourceCacheMaxStalenessMs)
+                .withMaxConcurrentReconciliations(maxConcurrentReconciliations)
+                .withReconciliationSpreadMs(reconciliationSpreadMs)
+                .withSkipUnchangedReconciliations(skipUnchangedReconciliations)
+                .withSkipUnchangedPatches(skipUnchangedPatches)
+                .withConnectApiMaxPoolSize(connectApiMaxPoolSize)
+                .withConnectApiRequestTimeoutMs(connectApiRequestTimeoutMs)
+                .withAdminClientCacheIdleTimeoutMs(adminClientCacheIdleTimeoutMs)
+                .withMaxParallelBrokerRestarts(maxParallelBrokerRestarts)
+                .withCertManager(certManager)
+                .withCertIssuanceThreads(certIssuanceThreads)
+                .withKubernetesOperationsPoolSize(kubernetesOperationsPoolSize)
+                .withKubernetesOperationsMaxConcurrentPerKind(kubernetesOperationsMaxConcurrentPerKind)
+                .withKubernetesApiMaxRate(kubernetesApiMaxRate)
+                .build();
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -181,6 +277,200 @@ public class ClusterOperatorConfig {
         return createClusterRoles;
     }
 
+    private static boolean parseResourceCacheEnabled(String resourceCacheEnabledEnvVar) {
+        boolean resourceCacheEnabled = DEFAULT_RESOURCE_CACHE_ENABLED;
+
+        if (resourceCacheEnabledEnvVar != null) {
+            resourceCacheEnabled = Boolean.parseBoolean(resourceCacheEnabledEnvVar);
+        }
+
+        return resourceCacheEnabled;
+    }
+
+    private static long parseResourceCacheMaxStaleness(String resourceCacheMaxStalenessEnvVar) {
+        long resourceCacheMaxStaleness = DEFAULT_RESOURCE_CACHE_MAX_STALENESS_MS;
+
+        if (resourceCacheMaxStalenessEnvVar != null) {
+            resourceCacheMaxStaleness = Long.parseLong(resourceCacheMaxStalenessEnvVar);
+        }
+
+        return resourceCacheMaxStaleness;
+    }
+
+    private static int parseMaxConcurrentReconciliations(String maxConcurrentReconciliationsEnvVar) {
+        int maxConcurrentReconciliations = DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+
+        if (maxConcurrentReconciliationsEnvVar != null) {
+            maxConcurrentReconciliations = Integer.parseInt(maxConcurrentReconciliationsEnvVar);
+
+            if (maxConcurrentReconciliations < 0) {
+                throw new InvalidConfigurationException(STRIMZI_MAX_CONCURRENT_RECONCILIATIONS + " has to be 0 or a positive number");
+            }
+        }
+
+        return maxConcurrentReconciliations;
+    }
+
+    private static long parseReconciliationSpread(String reconciliationSpreadEnvVar, long reconciliationIntervalMs) {
+        long reconciliationSpread = DEFAULT_RECONCILIATION_SPREAD_MS;
+
+        if (reconciliationSpreadEnvVar != null) {
+            reconciliationSpread = Long.parseLong(reconciliationSpreadEnvVar);
+
+            if (reconciliationSpread < 0 || reconciliationSpread >= reconciliationIntervalMs) {
+                throw new InvalidConfigurationException(STRIMZI_RECONCILIATION_SPREAD_MS + " has to be 0 or a positive number lower than " + STRIMZI_FULL_RECONCILIATION_INTERVAL_MS);
+            }
+        }
+
+        return reconciliationSpread;
+    }
+
+    private static boolean parseSkipUnchangedReconciliations(String skipUnchangedReconciliationsEnvVar) {
+        boolean skipUnchangedReconciliations = DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS;
+
+        if (skipUnchangedReconciliationsEnvVar != null) {
+            skipUnchangedReconciliations = Boolean.parseBoolean(skipUnchangedReconciliationsEnvVar);
+        }
+
+        return skipUnchangedReconciliations;
+    }
+
+    private static boolean parseSkipUnchangedPatches(String skipUnchangedPatchesEnvVar) {
+        boolean skipUnchangedPatches = DEFAULT_SKIP_UNCHANGED_PATCHES;
+
+        if (skipUnchangedPatchesEnvVar != null) {
+            skipUnchangedPatches = Boolean.parseBoolean(skipUnchangedPatchesEnvVar);
+        }
+
+        return skipUnchangedPatches;
+    }
+
+    private static int parseConnectApiMaxPoolSize(String connectApiMaxPoolSizeEnvVar) {
+        int connectApiMaxPoolSize = DEFAULT_CONNECT_API_MAX_POOL_SIZE;
+
+        if (connectApiMaxPoolSizeEnvVar != null) {
+            connectApiMaxPoolSize = Integer.parseInt(connectApiMaxPoolSizeEnvVar);
+
+            if (connectApiMaxPoolSize < 1) {
+                throw new InvalidConfigurationException(STRIMZI_CONNECT_API_MAX_POOL_SIZE + " has to be a positive number");
+            }
+        }
+
+        return connectApiMaxPoolSize;
+    }
+
+    private static long parseConnectApiRequestTimeout(String connectApiRequestTimeoutEnvVar) {
+        long connectApiRequestTimeout = DEFAULT_CONNECT_API_REQUEST_TIMEOUT_MS;
+
+        if (connectApiRequestTimeoutEnvVar != null) {
+            connectApiRequestTimeout = Long.parseLong(connectApiRequestTimeoutEnvVar);
+
+            if (connectApiRequestTimeout < 0) {
+                throw new InvalidConfigurationException(STRIMZI_CONNECT_API_REQUEST_TIMEOUT_MS + " has to be 0 or a positive number");
+            }
+        }
+
+        return connectApiRequestTimeout;
+    }
+
+    private static long parseAdminClientCacheIdleTimeout(String adminClientCacheIdleTimeoutEnvVar) {
+        long adminClientCacheIdleTimeout = DEFAULT_ADMIN_CLIENT_CACHE_IDLE_TIMEOUT_MS;
+
+        if (adminClientCacheIdleTimeoutEnvVar != null) {
+            adminClientCacheIdleTimeout = Long.parseLong(adminClientCacheIdleTimeoutEnvVar);
+
+            if (adminClientCacheIdleTimeout < 0) {
+                throw new InvalidConfigurationException(STRIMZI_ADMIN_CLIENT_CACHE_IDLE_TIMEOUT_MS + " has to be 0 or a positive number");
+            }
+        }
+
+        return adminClientCacheIdleTimeout;
+    }
+
+    private static int parseMaxParallelBrokerRestarts(String maxParallelBrokerRestartsEnvVar) {
+        int maxParallelBrokerRestarts = DEFAULT_MAX_PARALLEL_BROKER_RESTARTS;
+
+        if (maxParallelBrokerRestartsEnvVar != null) {
+            maxParallelBrokerRestarts = Integer.parseInt(maxParallelBrokerRestartsEnvVar);
+
+            if (maxParallelBrokerRestarts < 1) {
+                throw new InvalidConfigurationException(STRIMZI_MAX_PARALLEL_BROKER_RESTARTS + " has to be a positive number");
+            }
+        }
+
+        return maxParallelBrokerRestarts;
+    }
+
+    private static String parseCertManager(String certManagerEnvVar) {
+        String certManager = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            certManager = certManagerEnvVar.trim().toLowerCase(Locale.ENGLISH);
+
+            if (!CERT_MANAGER_OPENSSL.equals(certManager) && !CERT_MANAGER_BOUNCYCASTLE.equals(certManager)) {
+                throw new InvalidConfigurationException(STRIMZI_CERT_MANAGER + " has to be " + CERT_MANAGER_OPENSSL + " or " + CERT_MANAGER_BOUNCYCASTLE);
+            }
+        }
+
+        return certManager;
+    }
+
+    private static int parseCertIssuanceThreads(String certIssuanceThreadsEnvVar) {
+        int certIssuanceThreads = DEFAULT_CERT_ISSUANCE_THREADS;
+
+        if (certIssuanceThreadsEnvVar != null) {
+            certIssuanceThreads = Integer.parseInt(certIssuanceThreadsEnvVar);
+
+            if (certIssuanceThreads < 1) {
+                throw new InvalidConfigurationException(STRIMZI_CERT_ISSUANCE_THREADS + " has to be a positive number");
+            }
+        }
+
+        return certIssuanceThreads;
+    }
+
+    private static int parseKubernetesOperationsPoolSize(String kubernetesOperationsPoolSizeEnvVar) {
+        int kubernetesOperationsPoolSize = DEFAULT_KUBERNETES_OPERATIONS_POOL_SIZE;
+
+        if (kubernetesOperationsPoolSizeEnvVar != null) {
+            kubernetesOperationsPoolSize = Integer.parseInt(kubernetesOperationsPoolSizeEnvVar);
+
+            if (kubernetesOperationsPoolSize < 1) {
+                throw new InvalidConfigurationException(STRIMZI_KUBERNETES_OPERATIONS_POOL_SIZE + " has to be a positive number");
+            }
+        }
+
+        return kubernetesOperationsPoolSize;
+    }
+
+    private static int parseKubernetesOperationsMaxConcurrentPerKind(String kubernetesOperationsMaxConcurrentPerKindEnvVar) {
+        int kubernetesOperationsMaxConcurrentPerKind = DEFAULT_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND;
+
+        if (kubernetesOperationsMaxConcurrentPerKindEnvVar != null) {
+            kubernetesOperationsMaxConcurrentPerKind = Integer.parseInt(kubernetesOperationsMaxConcurrentPerKindEnvVar);
+
+            if (kubernetesOperationsMaxConcurrentPerKind < 0) {
+                throw new InvalidConfigurationException(STRIMZI_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND + " cannot be negative");
+            }
+        }
+
+        return kubernetesOperationsMaxConcurrentPerKind;
+    }
+
+    private static int parseKubernetesApiMaxRate(String kubernetesApiMaxRateEnvVar) {
+        int kubernetesApiMaxRate = DEFAULT_KUBERNETES_API_MAX_RATE;
+
+        if (kubernetesApiMaxRateEnvVar != null) {
+            kubernetesApiMaxRate = Integer.parseInt(kubernetesApiMaxRateEnvVar);
+
+            if (kubernetesApiMaxRate < 0) {
+                throw new InvalidConfigurationException(STRIMZI_KUBERNETES_API_MAX_RATE + " cannot be negative");
+            }
+        }
+
+        return kubernetesApiMaxRate;
+    }
+
     private static ImagePullPolicy parseImagePullPolicy(String imagePullPolicyEnvVar) {
         ImagePullPolicy imagePullPolicy = null;
 
@@ -303,6 +593,115 @@ public class ClusterOperatorConfig {
         return imagePullSecrets;
     }
 
+    /**
+     * @return  Indicates whether reads of the owned resources should be served from a local watch-fed cache
+     */
+    public boolean isResourceCacheEnabled() {
+        return resourceCacheEnabled;
+    }
+
+    /**
+     * @return  The maximal age of the local resource cache in milliseconds for it to be used
+     */
+    public long getResourceCacheMaxStalenessMs() {
+        return resourceCacheMaxStalenessMs;
+    }
+
+    /**
+     * @return  The maximal number of reconciliations running at the same time or 0 when unlimited
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return  The maximal random delay of the periodic reconciliations of the individual resources in milliseconds
+     */
+    public long getReconciliationSpreadMs() {
+        return reconciliationSpreadMs;
+    }
+
+    /**
+     * @return  Indicates whether the reconciliation of resources which did not change since their last reconciliation should be skipped
+     */
+    public boolean isSkipUnchangedReconciliations() {
+        return skipUnchangedReconciliations;
+    }
+
+    /**
+     * @return  Indicates whether the patches of resources which did not change since they were last created or patched should be skipped
+     */
+    public boolean isSkipUnchangedPatches() {
+        return skipUnchangedPatches;
+    }
+
+    /**
+     * @return  The maximal number of connections to the REST API of a single Kafka Connect cluster
+     */
+    public int getConnectApiMaxPoolSize() {
+        return connectApiMaxPoolSize;
+    }
+
+    /**
+     * @return  The timeout of the requests to the Kafka Connect REST API in milliseconds or 0 when there is no timeout
+     */
+    public long getConnectApiRequestTimeoutMs() {
+        return connectApiRequestTimeoutMs;
+    }
+
+    /**
+     * @return  The time after which unused cached Kafka Admin clients are closed or 0 when the Admin clients are not cached
+     */
+    public long getAdminClientCacheIdleTimeoutMs() {
+        return adminClientCacheIdleTimeoutMs;
+    }
+
+    /**
+     * @return  The maximal number of Kafka brokers which do not share any partitions restarted at the same time during
+     *          a rolling update (1 to restart the brokers one by one)
+     */
+    public int getMaxParallelBrokerRestarts() {
+        return maxParallelBrokerRestarts;
+    }
+
+    /**
+     * @return  The implementation of the certificate manager used to generate the keys and certificates
+     *          ({@value CERT_MANAGER_OPENSSL} or {@value CERT_MANAGER_BOUNCYCASTLE})
+     */
+    public String getCertManager() {
+        return certManager;
+    }
+
+    /**
+     * @return  The maximal number of certificates of the Kafka and ZooKeeper pods issued at the same time (1 to issue
+     *          them one by one)
+     */
+    public int getCertIssuanceThreads() {
+        return certIssuanceThreads;
+    }
+
+    /**
+     * @return  The number of threads calling the Kubernetes API server
+     */
+    public int getKubernetesOperationsPoolSize() {
+        return kubernetesOperationsPoolSize;
+    }
+
+    /**
+     * @return  The maximal number of Kubernetes API operations on a single kind of resource running at the same time
+     *          or 0 when they are not limited
+     */
+    public int getKubernetesOperationsMaxConcurrentPerKind() {
+        return kubernetesOperationsMaxConcurrentPerKind;
+    }
+
+    /**
+     * @return  The maximal number of Kubernetes API operations started per second or 0 when the rate is not limited
+     */
+    public int getKubernetesApiMaxRate() {
+        return kubernetesApiMaxRate;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -313,6 +712,209 @@ public class ClusterOperatorConfig {
                 ",versions=" + versions +
                 ",imagePullPolicy=" + imagePullPolicy +
                 ",imagePullSecrets=" + imagePullSecrets +
+                ",resourceCacheEnabled=" + resourceCacheEnabled +
+                ",resourceCacheMaxStalenessMs=" + resourceCacheMaxStalenessMs +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",reconciliationSpreadMs=" + reconciliationSpreadMs +
+                ",skipUnchangedReconciliations=" + skipUnchangedReconciliations +
+                ",skipUnchangedPatches=" + skipUnchangedPatches +
+                ",connectApiMaxPoolSize=" + connectApiMaxPoolSize +
+                ",connectApiRequestTimeoutMs=" + connectApiRequestTimeoutMs +
+                ",adminClientCacheIdleTimeoutMs=" + adminClientCacheIdleTimeoutMs +
+                ",maxParallelBrokerRestarts=" + maxParallelBrokerRestarts +
+                ",certManager=" + certManager +
+                ",certIssuanceThreads=" + certIssuanceThreads +
+                ",kubernetesOperationsPoolSize=" + kubernetesOperationsPoolSize +
+                ",kubernetesOperationsMaxConcurrentPerKind=" + kubernetesOperationsMaxConcurrentPerKind +
+                ",kubernetesApiMaxRate=" + kubernetesApiMaxRate +
                 ")";
     }
+
+    /**
+     * Builds the Cluster Operator configuration. The options which are not set have their default values.
+     */
+    public static class ClusterOperatorConfigBuilder {
+        private final Set<String> namespaces;
+        private final long reconciliationIntervalMs;
+        private final long operationTimeoutMs;
+        private final boolean createClusterRoles;
+        private final KafkaVersion.Lookup versions;
+        private final ImagePullPolicy imagePullPolicy;
+        private final List<LocalObjectReference> imagePullSecrets;
+        private boolean resourceCacheEnabled = DEFAULT_RESOURCE_CACHE_ENABLED;
+        private long resourceCacheMaxStalenessMs = DEFAULT_RESOURCE_CACHE_MAX_STALENESS_MS;
+        private int maxConcurrentReconciliations = DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+        private long reconciliationSpreadMs = DEFAULT_RECONCILIATION_SPREAD_MS;
+        private boolean skipUnchangedReconciliations = DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS;
+        private boolean skipUnchangedPatches = DEFAULT_SKIP_UNCHANGED_PATCHES;
+        private int connectApiMaxPoolSize = DEFAULT_CONNECT_API_MAX_POOL_SIZE;
+        private long connectApiRequestTimeoutMs = DEFAULT_CONNECT_API_REQUEST_TIMEOUT_MS;
+        private long adminClientCacheIdleTimeoutMs = DEFAULT_ADMIN_CLIENT_CACHE_IDLE_TIMEOUT_MS;
+        private int maxParallelBrokerRestarts = DEFAULT_MAX_PARALLEL_BROKER_RESTARTS;
+        private String certManager = DEFAULT_CERT_MANAGER;
+        private int certIssuanceThreads = DEFAULT_CERT_ISSUANCE_THREADS;
+        private int kubernetesOperationsPoolSize = DEFAULT_KUBERNETES_OPERATIONS_POOL_SIZE;
+        private int kubernetesOperationsMaxConcurrentPerKind = DEFAULT_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND;
+        private int kubernetesApiMaxRate = DEFAULT_KUBERNETES_API_MAX_RATE;
+
+        /**
+         * Constructor
+         *
+         * @param namespaces namespace in which the operator will run and create resources
+         * @param reconciliationIntervalMs    specify every how many milliseconds the reconciliation runs
+         * @param operationTimeoutMs    timeout for internal operations specified in milliseconds
+         * @param createClusterRoles true to create the cluster roles
+         * @param versions The configured Kafka versions
+         * @param imagePullPolicy Image pull policy configured by the user
+         * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
+         */
+        public ClusterOperatorConfigBuilder(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets) {
+            this.namespaces = namespaces;
+            this.reconciliationIntervalMs = reconciliationIntervalMs;
+            this.operationTimeoutMs = operationTimeoutMs;
+            this.createClusterRoles = createClusterRoles;
+            this.versions = versions;
+            this.imagePullPolicy = imagePullPolicy;
+            this.imagePullSecrets = imagePullSecrets;
+        }
+
+        /**
+         * @param resourceCacheEnabled true to serve reads of owned resources from a local watch-fed cache
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withResourceCacheEnabled(boolean resourceCacheEnabled) {
+            this.resourceCacheEnabled = resourceCacheEnabled;
+            return this;
+        }
+
+        /**
+         * @param resourceCacheMaxStalenessMs maximal age of the local resource cache for it to be used
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withResourceCacheMaxStalenessMs(long resourceCacheMaxStalenessMs) {
+            this.resourceCacheMaxStalenessMs = resourceCacheMaxStalenessMs;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentReconciliations maximal number of reconciliations running at the same time (0 for unlimited)
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withMaxConcurrentReconciliations(int maxConcurrentReconciliations) {
+            this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+            return this;
+        }
+
+        /**
+         * @param reconciliationSpreadMs maximal random delay of the periodic reconciliations of the individual resources
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withReconciliationSpreadMs(long reconciliationSpreadMs) {
+            this.reconciliationSpreadMs = reconciliationSpreadMs;
+            return this;
+        }
+
+        /**
+         * @param skipUnchangedReconciliations true to skip the reconciliation of resources which did not change since their last reconciliation
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withSkipUnchangedReconciliations(boolean skipUnchangedReconciliations) {
+            this.skipUnchangedReconciliations = skipUnchangedReconciliations;
+            return this;
+        }
+
+        /**
+         * @param skipUnchangedPatches true to skip the patches of resources which did not change since they were last created or patched
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withSkipUnchangedPatches(boolean skipUnchangedPatches) {
+            this.skipUnchangedPatches = skipUnchangedPatches;
+            return this;
+        }
+
+        /**
+         * @param connectApiMaxPoolSize maximal number of connections to the REST API of a single Kafka Connect cluster
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withConnectApiMaxPoolSize(int connectApiMaxPoolSize) {
+            this.connectApiMaxPoolSize = connectApiMaxPoolSize;
+            return this;
+        }
+
+        /**
+         * @param connectApiRequestTimeoutMs timeout of the requests to the Kafka Connect REST API in milliseconds (0 for no timeout)
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withConnectApiRequestTimeoutMs(long connectApiRequestTimeoutMs) {
+            this.connectApiRequestTimeoutMs = connectApiRequestTimeoutMs;
+            return this;
+        }
+
+        /**
+         * @param adminClientCacheIdleTimeoutMs time after which unused cached Kafka Admin clients are closed (0 to disable the caching)
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withAdminClientCacheIdleTimeoutMs(long adminClientCacheIdleTimeoutMs) {
+            this.adminClientCacheIdleTimeoutMs = adminClientCacheIdleTimeoutMs;
+            return this;
+        }
+
+        /**
+         * @param maxParallelBrokerRestarts maximal number of Kafka brokers without any common partitions restarted at the same time during rolling updates
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withMaxParallelBrokerRestarts(int maxParallelBrokerRestarts) {
+            this.maxParallelBrokerRestarts = maxParallelBrokerRestarts;
+            return this;
+        }
+
+        /**
+         * @param certManager implementation of the certificate manager used to generate the keys and certificates (openssl or bouncycastle)
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withCertManager(String certManager) {
+            this.certManager = certManager;
+            return this;
+        }
+
+        /**
+         * @param certIssuanceThreads maximal number of certificates of the Kafka and ZooKeeper pods issued at the same time
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withCertIssuanceThreads(int certIssuanceThreads) {
+            this.certIssuanceThreads = certIssuanceThreads;
+            return this;
+        }
+
+        /**
+         * @param kubernetesOperationsPoolSize number of threads calling the Kubernetes API server
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withKubernetesOperationsPoolSize(int kubernetesOperationsPoolSize) {
+            this.kubernetesOperationsPoolSize = kubernetesOperationsPoolSize;
+            return this;
+        }
+
+        /**
+         * @param kubernetesOperationsMaxConcurrentPerKind maximal number of Kubernetes API operations on a single kind of resource running at the same time (0 for unlimited)
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withKubernetesOperationsMaxConcurrentPerKind(int kubernetesOperationsMaxConcurrentPerKind) {
+            this.kubernetesOperationsMaxConcurrentPerKind = kubernetesOperationsMaxConcurrentPerKind;
+            return this;
+        }
+
+        /**
+         * @param kubernetesApiMaxRate maximal number of Kubernetes API operations started per second (0 for unlimited)
+         * @return  This builder
+         */
+        public ClusterOperatorConfigBuilder withKubernetesApiMaxRate(int kubernetesApiMaxRate) {
+            this.kubernetesApiMaxRate = kubernetesApiMaxRate;
+            return this;
+        }
+
+        public ClusterOperatorConfig build() {
+            return new ClusterOperatorConfig(this);
+        }
+    }
 }
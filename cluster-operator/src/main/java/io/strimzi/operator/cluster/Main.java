@@ -9,6 +9,8 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
+import io.strimzi.certs.BouncyCastleCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
@@ -19,7 +21,11 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AdminClientProvider;
+import io.strimzi.operator.common.CachingAdminClientProvider;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.ReconciliationScheduler;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
 import io.vertx.core.CompositeFuture;
@@ -100,9 +106,38 @@ public class Main {
     static CompositeFuture run(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
         Util.printEnvInfo();
 
-        ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs());
+        AdminClientProvider adminClientProvider = new DefaultAdminClientProvider();
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        if (config.getAdminClientCacheIdleTimeoutMs() > 0) {
+            CachingAdminClientProvider cachingAdminClientProvider = new CachingAdminClientProvider(adminClientProvider, config.getAdminClientCacheIdleTimeoutMs());
+            // Closing the Admin clients blocks
+            vertx.setPeriodic(config.getAdminClientCacheIdleTimeoutMs(), timerId -> vertx.executeBlocking(promise -> {
+                cachingAdminClientProvider.evictIdle();
+                promise.complete();
+            }, false, ignored -> { }));
+            adminClientProvider = cachingAdminClientProvider;
+        }
+
+        ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs(), adminClientProvider);
+        resourceOperatorSupplier.enableOperationsPool(vertx, config.getKubernetesOperationsPoolSize(), config.getKubernetesOperationsMaxConcurrentPerKind(), config.getKubernetesApiMaxRate());
+        if (config.isSkipUnchangedPatches()) {
+            resourceOperatorSupplier.enablePatchSkipping();
+        }
+
+        if (config.isResourceCacheEnabled()) {
+            // Until the caches are filled, the reads go directly to the Kubernetes API server, so we do not need to wait
+            resourceOperatorSupplier.enableResourceCaches(config.getNamespaces(), config.getResourceCacheMaxStalenessMs())
+                    .onComplete(res -> {
+                        if (res.succeeded()) {
+                            log.info("Resource caches are ready");
+                        } else {
+                            log.warn("Failed to fill the resource caches, the resources will be read from the Kubernetes API server", res.cause());
+                        }
+                    });
+        }
+
+        CertManager certManager = ClusterOperatorConfig.CERT_MANAGER_BOUNCYCASTLE.equals(config.getCertManager())
+                ? new BouncyCastleCertManager() : new OpenSslCertManager();
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -133,6 +168,26 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
                 new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier);
 
+        if (config.isSkipUnchangedReconciliations()) {
+            kafkaBridgeAssemblyOperator.setSkipUnchanged(true);
+            kafkaMirrorMakerAssemblyOperator.setSkipUnchanged(true);
+        }
+
+        if (config.getMaxConcurrentReconciliations() > 0) {
+            ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, config.getMaxConcurrentReconciliations(),
+                    config.getReconciliationSpreadMs(), resourceOperatorSupplier.metricsProvider);
+
+            kafkaClusterOperations.setScheduler(scheduler);
+            kafkaConnectClusterOperations.setScheduler(scheduler);
+            if (kafkaConnectS2IClusterOperations != null) {
+                kafkaConnectS2IClusterOperations.setScheduler(scheduler);
+            }
+            kafkaMirrorMaker2AssemblyOperator.setScheduler(scheduler);
+            kafkaMirrorMakerAssemblyOperator.setScheduler(scheduler);
+            kafkaBridgeAssemblyOperator.setScheduler(scheduler);
+            kafkaRebalanceAssemblyOperator.setScheduler(scheduler);
+        }
+
         List<Future> futures = new ArrayList<>(config.getNamespaces().size());
         for (String namespace : config.getNamespaces()) {
             Promise<String> prom = Promise.promise();
@@ -15,11 +15,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -34,6 +35,11 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    /**
+     * The config models of the Kafka versions, read from the classpath the first time they are needed
+     */
+    private static final Map<KafkaVersion, VersionedConfigModel> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -81,7 +87,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
      */
     public List<String> validate(KafkaVersion kafkaVersion) {
         List<String> errors = new ArrayList<>();
-        Map<String, ConfigModel> models = readConfigModel(kafkaVersion);
+        Map<String, ConfigModel> models = configModel(kafkaVersion).configs;
         for (Map.Entry<String, String> entry: asOrderedProperties().asMap().entrySet()) {
             String key = entry.getKey();
             String value = entry.getValue();
@@ -96,23 +102,17 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The model is read from the classpath only
+     * once and shared by all callers, so the returned map cannot be modified.
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
-        try {
-            try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                if (!kafkaVersion.version().equals(configModels.getVersion())) {
-                    throw new RuntimeException("Incorrect version");
-                }
-                return configModels.getConfigs();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading from classpath resource " + name, e);
-        }
+        return configModel(kafkaVersion).configs;
+    }
+
+    private static VersionedConfigModel configModel(KafkaVersion kafkaVersion) {
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion, VersionedConfigModel::read);
     }
 
     /**
@@ -153,13 +153,13 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     private Set<String> withScope(KafkaVersion kafkaVersion, Scope scope) {
-        Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
-        List<String> configsOfScope = c.entrySet().stream()
-                .filter(config -> scope.equals(config.getValue().getScope()))
-                .map(config -> config.getKey())
-                .collect(Collectors.toList());
-        Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
-        result.retainAll(configsOfScope);
+        Set<String> configsOfScope = configModel(kafkaVersion).configsOfScope(scope);
+        Set<String> result = new HashSet<>();
+        for (String key : asOrderedProperties().asMap().keySet()) {
+            if (configsOfScope.contains(key)) {
+                result.add(key);
+            }
+        }
         return Collections.unmodifiableSet(result);
     }
 
@@ -170,9 +170,13 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigs(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
-        Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
-        result.removeAll(c.keySet());
+        Map<String, ConfigModel> c = configModel(kafkaVersion).configs;
+        Set<String> result = new HashSet<>();
+        for (String key : asOrderedProperties().asMap().keySet()) {
+            if (!c.containsKey(key)) {
+                result.add(key);
+            }
+        }
         return result;
     }
 
@@ -183,7 +187,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigsWithValues(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> configModel = readConfigModel(kafkaVersion);
+        Map<String, ConfigModel> configModel = configModel(kafkaVersion).configs;
         Set<String> result = new HashSet<>();
         for (Map.Entry<String, String> e :this.asOrderedProperties().asMap().entrySet()) {
             if (!configModel.containsKey(e.getKey())) {
@@ -196,4 +200,47 @@ public class KafkaConfiguration extends AbstractConfiguration {
     public boolean isEmpty() {
         return this.asOrderedProperties().asMap().size() == 0;
     }
+
+    /**
+     * The config model of a single Kafka version together with the names of the configs of each scope
+     */
+    private static final class VersionedConfigModel {
+        private final Map<String, ConfigModel> configs;
+        private final Map<Scope, Set<String>> configsByScope;
+
+        private VersionedConfigModel(Map<String, ConfigModel> configs) {
+            this.configs = Collections.unmodifiableMap(configs);
+
+            Map<Scope, Set<String>> configsByScope = new EnumMap<>(Scope.class);
+            for (Scope scope : Scope.values()) {
+                configsByScope.put(scope, new HashSet<>());
+            }
+            for (Map.Entry<String, ConfigModel> config : configs.entrySet()) {
+                if (config.getValue().getScope() != null) {
+                    configsByScope.get(config.getValue().getScope()).add(config.getKey());
+                }
+            }
+            configsByScope.replaceAll((scope, names) -> Collections.unmodifiableSet(names));
+            this.configsByScope = configsByScope;
+        }
+
+        private Set<String> configsOfScope(Scope scope) {
+            return configsByScope.get(scope);
+        }
+
+        private static VersionedConfigModel read(KafkaVersion kafkaVersion) {
+            String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
+            try {
+                try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
+                    ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
+                    if (!kafkaVersion.version().equals(configModels.getVersion())) {
+                        throw new RuntimeException("Incorrect version");
+                    }
+                    return new VersionedConfigModel(configModels.getConfigs());
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Error reading from classpath resource " + name, e);
+            }
+        }
+    }
 }
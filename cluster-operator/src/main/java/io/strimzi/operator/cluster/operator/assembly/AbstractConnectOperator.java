@@ -114,6 +114,21 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     private final AtomicInteger connectorsResourceCounter;
     private final Timer connectorsReconciliationsTimer;
 
+    /**
+     * Creates a provider which always returns the same Kafka Connect REST API client, so that the pooled keep-alive
+     * connections of the client are reused by all reconciliations of the operator.
+     *
+     * @param vertx The Vertx instance
+     * @param config The Cluster Operator configuration
+     * @param supplier The resource operator supplier (for the metrics provider)
+     * @return The client provider
+     */
+    static Function<Vertx, KafkaConnectApi> sharedConnectClientProvider(Vertx vertx, ClusterOperatorConfig config, ResourceOperatorSupplier supplier) {
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, config.getConnectApiMaxPoolSize(),
+                config.getConnectApiRequestTimeoutMs(), supplier.metricsProvider);
+        return ignored -> client;
+    }
+
     public AbstractConnectOperator(Vertx vertx, PlatformFeaturesAvailability pfa, String kind,
                                    CrdOperator<C, T, L, D> resourceOperator,
                                    ResourceOperatorSupplier supplier, ClusterOperatorConfig config,
@@ -349,12 +364,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(host, port),
+                apiClient.listWithInfoAndStatus(host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(host, port),
                 apiClient.updateConnectLoggers(host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
@@ -365,7 +380,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 connectorsResourceCounter.set(desiredConnectors.size());
             }
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             log.debug("{}: {} cluster: delete connectors: {}", reconciliation, kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
@@ -374,7 +389,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
             log.debug("{}: {} cluster: required connectors: {}", reconciliation, kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector,
+                            runningConnectors.get(connector.getMetadata().getName())));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -402,12 +418,18 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           boolean useResources, String connectorName, KafkaConnector connector,
+                                                           Map<String, Object> infoAndStatus) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         connectorsReconciliationsCounter.increment();
         Timer.Sample connectorsReconciliationsTimerSample = Timer.start(metrics.meterRegistry());
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, infoAndStatus)
                 .onComplete(result -> {
                     connectorsReconciliationsTimerSample.stop(connectorsReconciliationsTimer);
 
@@ -424,7 +446,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<Void> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, Object> infoAndStatus) {
         if (connector == null) {
             if (useResources) {
                 log.info("{}: deleting connector: {}", reconciliation, connectorName);
@@ -443,7 +466,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
                 Promise<Void> promise = Promise.promise();
-                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec())
+                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), infoAndStatus)
                         .onComplete(result -> {
                             if (result.succeeded()) {
                                 maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null)
@@ -472,6 +495,42 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      */
     protected Future<Map<String, Object>> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                        String connectorName, KafkaConnectorSpec connectorSpec) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, null);
+    }
+
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec)},
+     * but uses the connector config and status from {@code infoAndStatus} (one entry of the result of
+     * {@link KafkaConnectApi#listWithInfoAndStatus(String, int)}) instead of requesting them from the REST API when
+     * they are available.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param infoAndStatus The info and status of the running connector or null when not known.
+     * @return A Future whose result, when successfully completed, is a map of the current connector state.
+     */
+    @SuppressWarnings("unchecked")
+    private Future<Map<String, Object>> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                     String connectorName, KafkaConnectorSpec connectorSpec,
+                                                                     Map<String, Object> infoAndStatus) {
+        if (infoAndStatus != null
+                && infoAndStatus.get("info") instanceof Map
+                && ((Map<String, Object>) infoAndStatus.get("info")).get("config") instanceof Map
+                && infoAndStatus.get("status") instanceof Map) {
+            Map<String, String> config = (Map<String, String>) ((Map<String, Object>) infoAndStatus.get("info")).get("config");
+            Map<String, Object> status = (Map<String, Object>) infoAndStatus.get("status");
+
+            if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
+                log.debug("{}: Connector {} exists and has desired config, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+                return pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status);
+            } else {
+                log.debug("{}: Connector {} exists but does not have desired config, {}!={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+                return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
+            }
+        }
+
         return apiClient.getConnectorConfig(new BackOff(200L, 2, 6), host, port, connectorName).compose(
             config -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
@@ -24,6 +24,8 @@ import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
@@ -89,12 +91,14 @@ import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
+import io.strimzi.operator.common.StageGraph;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.IngressOperator;
+import io.strimzi.operator.common.operator.resource.KubernetesOperationsPool;
 import io.strimzi.operator.common.operator.resource.NodeOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
@@ -103,8 +107,10 @@ import io.strimzi.operator.common.operator.resource.RoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.RouteOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
@@ -130,6 +136,10 @@ import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -159,6 +169,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private static final Logger log = LogManager.getLogger(KafkaAssemblyOperator.class.getName());
 
     private final long operationTimeoutMs;
+    private final int maxParallelBrokerRestarts;
+    private final ExecutorService certIssuanceExecutor;
+    private final Timer certIssuanceTimer;
 
     private final ZookeeperSetOperator zkSetOperations;
     private final KafkaSetOperator kafkaSetOperations;
@@ -173,6 +186,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList, DoneableKafka> crdOperator;
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
+    private final StageGraph<ReconciliationState> reconcileStages;
+    private final KubernetesOperationsPool operationsPool;
 
     /**
      * @param vertx The Vertx instance
@@ -189,6 +204,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         super(vertx, pfa, Kafka.RESOURCE_KIND, certManager, passwordGenerator,
                 supplier.kafkaOperator, supplier, config);
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxParallelBrokerRestarts = config.getMaxParallelBrokerRestarts();
+        this.certIssuanceExecutor = config.getCertIssuanceThreads() > 1 ? certIssuanceExecutor(config.getCertIssuanceThreads()) : null;
+        this.certIssuanceTimer = metrics.timer(METRICS_PREFIX + "certificates.issuance",
+                "The time needed to issue a certificate signed by the cluster CA",
+                Tags.of("kind", kind()));
         this.routeOperations = supplier.routeOperations;
         this.zkSetOperations = supplier.zkSetOperations;
         this.kafkaSetOperations = supplier.kafkaSetOperations;
@@ -202,6 +222,43 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.nodeOperator = supplier.nodeOperator;
         this.zkScalerProvider = supplier.zkScalerProvider;
         this.adminClientProvider = supplier.adminClientProvider;
+        this.operationsPool = supplier.operationsPool;
+        this.reconcileStages = reconcileStages();
+    }
+
+    /**
+     * Runs the given blocking code in the Kubernetes operations pool, if enabled, as an operation on the given kind
+     * of resource, or in the shared worker executor otherwise.
+     *
+     * @param kind          The kind of the resource the blocking code works with
+     * @param blockingCode  The blocking code
+     * @param resultHandler The handler of the result
+     * @param <T>           The type of the result
+     */
+    private <T> void executeBlocking(String kind, Handler<Promise<T>> blockingCode, Handler<AsyncResult<T>> resultHandler) {
+        if (operationsPool != null) {
+            operationsPool.execute(kind, blockingCode, resultHandler);
+        } else {
+            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(blockingCode, true, resultHandler);
+        }
+    }
+
+    /**
+     * Creates the bounded pool used to issue the certificates of the Kafka and ZooKeeper pods in parallel. The threads
+     * are created only when needed and terminate when they are idle.
+     *
+     * @param threads The maximal number of certificates issued at the same time.
+     * @return The executor.
+     */
+    private static ExecutorService certIssuanceExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cert-issuance");
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     @Override
@@ -244,112 +301,131 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     }
 
     Future<Void> reconcile(ReconciliationState reconcileState)  {
-        Promise<Void> chainPromise = Promise.promise();
+        return reconcileStages.execute(reconcileState.reconciliation, reconcileState).map((Void) null);
+    }
 
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
+    /**
+     * Builds the graph of the reconciliation stages. Stages which do not depend on each other (for example the
+     * Services, ConfigMaps or ServiceAccounts of one component, or the Entity Operator, Cruise Control, Kafka
+     * Exporter and JmxTrans components) run concurrently. Everything which rolls or scales pods, or which collects
+     * information for the status, is kept in the original order. Stages running on worker threads, like the
+     * generation of the certificates, never run concurrently with stages using the same state.
+     *
+     * @return  Graph of the reconciliation stages
+     */
+    private StageGraph<ReconciliationState> reconcileStages() {
+        return new StageGraph<ReconciliationState>(kind(), metrics)
+                .stage("initialStatus", state -> state.initialStatus())
+                .stage("reconcileCas", state -> state.reconcileCas(this::dateSupplier), "initialStatus")
+                .stage("clusterOperatorSecret", state -> state.clusterOperatorSecret(this::dateSupplier), "reconcileCas")
+                .stage("getKafkaClusterDescription", state -> state.getKafkaClusterDescription(), "clusterOperatorSecret")
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaVersionChangeCheck())
-                .compose(state -> state.kafkaVersionChange(false))
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaVersionChange(true))
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .stage("rollingUpdateForNewCaKey", state -> state.rollingUpdateForNewCaKey(), "getKafkaClusterDescription")
+                .stage("getZookeeperDescription", state -> state.getZookeeperDescription(), "rollingUpdateForNewCaKey")
+                .stage("zkModelWarnings", state -> state.zkModelWarnings(), "getZookeeperDescription")
+                .stage("zkManualPodCleaning", state -> state.zkManualPodCleaning(), "zkModelWarnings")
+                .stage("zkNetPolicy", state -> state.zkNetPolicy(), "zkManualPodCleaning")
+                .stage("zkManualRollingUpdate", state -> state.zkManualRollingUpdate(), "zkNetPolicy")
+                .stage("zkVersionChange", state -> state.zkVersionChange(), "zkManualRollingUpdate")
+                // The certificates are generated on a worker thread into the cluster model, which the other stages read
+                // on the event loop, so they run before any other stage which uses the model
+                .stage("zkGenerateCertificates", state -> state.zkGenerateCertificates(this::dateSupplier), "zkVersionChange")
+                // Independent ZooKeeper resources which have to exist before the StatefulSet
+                .stage("zookeeperServiceAccount", state -> state.zookeeperServiceAccount(), "zkGenerateCertificates")
+                .stage("zkPvcs", state -> state.zkPvcs(), "zkGenerateCertificates")
+                .stage("zkService", state -> state.zkService(), "zkGenerateCertificates")
+                .stage("zkHeadlessService", state -> state.zkHeadlessService(), "zkGenerateCertificates")
+                .stage("zkAncillaryCm", state -> state.zkAncillaryCm(), "zkGenerateCertificates")
+                .stage("zkNodesSecret", state -> state.zkNodesSecret(), "zkGenerateCertificates")
+                .stage("zkPodDisruptionBudget", state -> state.zkPodDisruptionBudget(), "zkGenerateCertificates")
+                .stage("zkStatefulSet", state -> state.zkStatefulSet(),
+                        "zookeeperServiceAccount", "zkPvcs", "zkService", "zkHeadlessService", "zkAncillaryCm", "zkNodesSecret", "zkPodDisruptionBudget")
+                .stage("zkScalingDown", state -> state.zkScalingDown(), "zkStatefulSet")
+                .stage("zkRollingUpdate", state -> state.zkRollingUpdate(), "zkScalingDown")
+                .stage("zkPodsReady", state -> state.zkPodsReady(), "zkRollingUpdate")
+                .stage("zkScalingUp", state -> state.zkScalingUp(), "zkPodsReady")
+                .stage("zkScalingCheck", state -> state.zkScalingCheck(), "zkScalingUp")
+                .stage("zkServiceEndpointReadiness", state -> state.zkServiceEndpointReadiness(), "zkScalingCheck")
+                .stage("zkHeadlessServiceEndpointReadiness", state -> state.zkHeadlessServiceEndpointReadiness(), "zkScalingCheck")
+                .stage("zkPersistentClaimDeletion", state -> state.zkPersistentClaimDeletion(), "zkServiceEndpointReadiness", "zkHeadlessServiceEndpointReadiness")
+
+                .stage("checkKafkaSpec", state -> state.checkKafkaSpec(), "zkPersistentClaimDeletion")
+                .stage("kafkaModelWarnings", state -> state.kafkaModelWarnings(), "checkKafkaSpec")
+                .stage("kafkaManualPodCleaning", state -> state.kafkaManualPodCleaning(), "kafkaModelWarnings")
+                .stage("kafkaNetPolicy", state -> state.kafkaNetPolicy(), "kafkaManualPodCleaning")
+                .stage("kafkaManualRollingUpdate", state -> state.kafkaManualRollingUpdate(), "kafkaNetPolicy")
+                .stage("kafkaVersionChangeCheck", state -> state.kafkaVersionChangeCheck(), "kafkaManualRollingUpdate")
+                .stage("kafkaVersionChange", state -> state.kafkaVersionChange(false), "kafkaVersionChangeCheck")
+                .stage("kafkaPvcs", state -> state.kafkaPvcs(), "kafkaVersionChange")
+                .stage("kafkaInitServiceAccount", state -> state.kafkaInitServiceAccount(), "kafkaVersionChange")
+                .stage("kafkaInitClusterRoleBinding", state -> state.kafkaInitClusterRoleBinding(), "kafkaVersionChange")
+                .stage("kafkaScaleDown", state -> state.kafkaScaleDown(), "kafkaPvcs", "kafkaInitServiceAccount", "kafkaInitClusterRoleBinding")
+                .stage("kafkaServices", state -> state.kafkaServices(), "kafkaScaleDown")
+                .stage("kafkaRoutes", state -> state.kafkaRoutes(), "kafkaScaleDown")
+                .stage("kafkaIngresses", state -> state.kafkaIngresses(), "kafkaScaleDown")
+                // The readiness checks collect the addresses for the certificates and the status, so their order matters
+                .stage("kafkaInternalServicesReady", state -> state.kafkaInternalServicesReady(), "kafkaServices", "kafkaRoutes", "kafkaIngresses")
+                .stage("kafkaLoadBalancerServicesReady", state -> state.kafkaLoadBalancerServicesReady(), "kafkaInternalServicesReady")
+                .stage("kafkaNodePortServicesReady", state -> state.kafkaNodePortServicesReady(), "kafkaLoadBalancerServicesReady")
+                .stage("kafkaRoutesReady", state -> state.kafkaRoutesReady(), "kafkaNodePortServicesReady")
+                .stage("kafkaIngressesReady", state -> state.kafkaIngressesReady(), "kafkaRoutesReady")
+                // Like for ZooKeeper, no other stage uses the cluster model while the certificates are generated
+                .stage("kafkaGenerateCertificates", state -> state.kafkaGenerateCertificates(this::dateSupplier), "kafkaIngressesReady")
+                // Independent Kafka resources which have to exist before the StatefulSet
+                .stage("customListenerCertificates", state -> state.customListenerCertificates(), "kafkaGenerateCertificates")
+                .stage("kafkaAncillaryCm", state -> state.kafkaAncillaryCm(), "kafkaGenerateCertificates")
+                .stage("kafkaBrokersSecret", state -> state.kafkaBrokersSecret(), "kafkaGenerateCertificates")
+                .stage("kafkaJmxSecret", state -> state.kafkaJmxSecret(), "kafkaGenerateCertificates")
+                .stage("kafkaPodDisruptionBudget", state -> state.kafkaPodDisruptionBudget(), "kafkaGenerateCertificates")
+                .stage("kafkaStatefulSet", state -> state.kafkaStatefulSet(),
+                        "customListenerCertificates", "kafkaAncillaryCm", "kafkaBrokersSecret", "kafkaJmxSecret", "kafkaPodDisruptionBudget")
+                .stage("kafkaVersionChangePostponed", state -> state.kafkaVersionChange(true), "kafkaStatefulSet")
+                .stage("kafkaRollingUpdate", state -> state.kafkaRollingUpdate(), "kafkaVersionChangePostponed")
+                .stage("kafkaScaleUp", state -> state.kafkaScaleUp(), "kafkaRollingUpdate")
+                .stage("kafkaPodsReady", state -> state.kafkaPodsReady(), "kafkaScaleUp")
+                .stage("kafkaServiceEndpointReady", state -> state.kafkaServiceEndpointReady(), "kafkaPodsReady")
+                .stage("kafkaHeadlessServiceEndpointReady", state -> state.kafkaHeadlessServiceEndpointReady(), "kafkaPodsReady")
+                .stage("kafkaPersistentClaimDeletion", state -> state.kafkaPersistentClaimDeletion(), "kafkaServiceEndpointReady", "kafkaHeadlessServiceEndpointReady")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.checkUnsupportedTopicOperator())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBinding())
-                .compose(state -> state.entityOperatorUserOpRoleBinding())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
-                .map((Void) null)
-                .onComplete(chainPromise);
-
-        return chainPromise.future();
+                .stage("kafkaNodePortExternalListenerStatus", state -> state.kafkaNodePortExternalListenerStatus(), "kafkaPersistentClaimDeletion")
+                .stage("kafkaCustomCertificatesToStatus", state -> state.kafkaCustomCertificatesToStatus(), "kafkaNodePortExternalListenerStatus")
+
+                .stage("checkUnsupportedTopicOperator", state -> state.checkUnsupportedTopicOperator(), "kafkaCustomCertificatesToStatus")
+
+                // The Entity Operator, Cruise Control, Kafka Exporter and JmxTrans are independent of each other
+                .stage("getEntityOperatorDescription", state -> state.getEntityOperatorDescription(), "checkUnsupportedTopicOperator")
+                .stage("entityOperatorServiceAccount", state -> state.entityOperatorServiceAccount(), "getEntityOperatorDescription")
+                .stage("entityOperatorTopicOpRoleBinding", state -> state.entityOperatorTopicOpRoleBinding(), "getEntityOperatorDescription")
+                .stage("entityOperatorUserOpRoleBinding", state -> state.entityOperatorUserOpRoleBinding(), "getEntityOperatorDescription")
+                .stage("entityOperatorTopicOpAncillaryCm", state -> state.entityOperatorTopicOpAncillaryCm(), "getEntityOperatorDescription")
+                .stage("entityOperatorUserOpAncillaryCm", state -> state.entityOperatorUserOpAncillaryCm(), "getEntityOperatorDescription")
+                .stage("entityOperatorSecret", state -> state.entityOperatorSecret(this::dateSupplier), "getEntityOperatorDescription")
+                .stage("entityOperatorDeployment", state -> state.entityOperatorDeployment(),
+                        "entityOperatorServiceAccount", "entityOperatorTopicOpRoleBinding", "entityOperatorUserOpRoleBinding",
+                        "entityOperatorTopicOpAncillaryCm", "entityOperatorUserOpAncillaryCm", "entityOperatorSecret")
+                .stage("entityOperatorReady", state -> state.entityOperatorReady(), "entityOperatorDeployment")
+
+                .stage("getCruiseControlDescription", state -> state.getCruiseControlDescription(), "checkUnsupportedTopicOperator")
+                .stage("cruiseControlNetPolicy", state -> state.cruiseControlNetPolicy(), "getCruiseControlDescription")
+                .stage("cruiseControlServiceAccount", state -> state.cruiseControlServiceAccount(), "getCruiseControlDescription")
+                .stage("cruiseControlAncillaryCm", state -> state.cruiseControlAncillaryCm(), "getCruiseControlDescription")
+                .stage("cruiseControlSecret", state -> state.cruiseControlSecret(this::dateSupplier), "getCruiseControlDescription")
+                .stage("cruiseControlDeployment", state -> state.cruiseControlDeployment(),
+                        "cruiseControlNetPolicy", "cruiseControlServiceAccount", "cruiseControlAncillaryCm", "cruiseControlSecret")
+                .stage("cruiseControlService", state -> state.cruiseControlService(), "getCruiseControlDescription")
+                .stage("cruiseControlReady", state -> state.cruiseControlReady(), "cruiseControlDeployment", "cruiseControlService")
+
+                .stage("getKafkaExporterDescription", state -> state.getKafkaExporterDescription(), "checkUnsupportedTopicOperator")
+                .stage("kafkaExporterServiceAccount", state -> state.kafkaExporterServiceAccount(), "getKafkaExporterDescription")
+                .stage("kafkaExporterSecret", state -> state.kafkaExporterSecret(this::dateSupplier), "getKafkaExporterDescription")
+                .stage("kafkaExporterDeployment", state -> state.kafkaExporterDeployment(), "kafkaExporterServiceAccount", "kafkaExporterSecret")
+                .stage("kafkaExporterReady", state -> state.kafkaExporterReady(), "kafkaExporterDeployment")
+
+                .stage("getJmxTransDescription", state -> state.getJmxTransDescription(), "checkUnsupportedTopicOperator")
+                .stage("jmxTransServiceAccount", state -> state.jmxTransServiceAccount(), "getJmxTransDescription")
+                .stage("jmxTransConfigMap", state -> state.jmxTransConfigMap(), "getJmxTransDescription")
+                .stage("jmxTransDeployment", state -> state.jmxTransDeployment(), "jmxTransServiceAccount", "jmxTransConfigMap")
+                .stage("jmxTransDeploymentReady", state -> state.jmxTransDeploymentReady(), "jmxTransDeployment");
     }
 
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -561,7 +637,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Labels selectorLabels = Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name());
             Labels caLabels = Labels.generateDefaultLabels(kafkaAssembly, Labels.APPLICATION_NAME, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            KafkaAssemblyOperator.this.<ReconciliationState>executeBlocking("Secret",
                 future -> {
                     try {
                         String clusterCaCertName = AbstractModel.clusterCaCertSecretName(name);
@@ -615,6 +691,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 ModelUtils.getRenewalDays(clusterCaConfig),
                                 clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(),
                                 clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                        clusterCa.setCertIssuance(certIssuanceExecutor, certIssuanceTimer);
                         clusterCa.createRenewOrReplace(
                                 reconciliation.namespace(), reconciliation.name(), caLabels.toMap(),
                                 clusterCaCertLabels, clusterCaCertAnnotations,
@@ -637,34 +714,39 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         clientsCa.createRenewOrReplace(reconciliation.namespace(), reconciliation.name(),
                                 caLabels.toMap(), emptyMap(), emptyMap(), ownerRef, isMaintenanceTimeWindowsSatisfied(dateSupplier));
 
-                        List<Future> secretReconciliations = new ArrayList<>(2);
-
-                        if (clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority())   {
-                            Future clusterSecretReconciliation = secretOperations.reconcile(reconciliation.namespace(), clusterCaCertName, this.clusterCa.caCertSecret())
-                                    .compose(ignored -> secretOperations.reconcile(reconciliation.namespace(), clusterCaKeyName, this.clusterCa.caKeySecret()));
-                            secretReconciliations.add(clusterSecretReconciliation);
-                        }
-
-                        if (clientsCaConfig == null || clientsCaConfig.isGenerateCertificateAuthority())   {
-                            Future clientsSecretReconciliation = secretOperations.reconcile(reconciliation.namespace(), clientsCaCertName, this.clientsCa.caCertSecret())
-                                .compose(ignored -> secretOperations.reconcile(reconciliation.namespace(), clientsCaKeyName, this.clientsCa.caKeySecret()));
-                            secretReconciliations.add(clientsSecretReconciliation);
-                        }
-
-                        CompositeFuture.join(secretReconciliations).onComplete(res -> {
-                            if (res.succeeded())    {
-                                future.complete(this);
-                            } else {
-                                future.fail(res.cause());
-                            }
-                        });
+                        future.complete(this);
                     } catch (Throwable e) {
                         future.fail(e);
                     }
-                }, true,
+                },
                 resultPromise
             );
-            return resultPromise.future();
+            return resultPromise.future().compose(state -> reconcileCaSecrets());
+        }
+
+        /**
+         * Creates or updates the Secrets of the CAs generated by the operator. This runs once the blocking part of
+         * {@link #reconcileCas(Supplier)} is done, so that it does not hold its place in the operations pool while
+         * waiting for the Secret operations.
+         */
+        Future<ReconciliationState> reconcileCaSecrets() {
+            CertificateAuthority clusterCaConfig = kafkaAssembly.getSpec().getClusterCa();
+            CertificateAuthority clientsCaConfig = kafkaAssembly.getSpec().getClientsCa();
+            List<Future> secretReconciliations = new ArrayList<>(2);
+
+            if (clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority())   {
+                Future clusterSecretReconciliation = secretOperations.reconcile(reconciliation.namespace(), AbstractModel.clusterCaCertSecretName(name), this.clusterCa.caCertSecret())
+                        .compose(ignored -> secretOperations.reconcile(reconciliation.namespace(), AbstractModel.clusterCaKeySecretName(name), this.clusterCa.caKeySecret()));
+                secretReconciliations.add(clusterSecretReconciliation);
+            }
+
+            if (clientsCaConfig == null || clientsCaConfig.isGenerateCertificateAuthority())   {
+                Future clientsSecretReconciliation = secretOperations.reconcile(reconciliation.namespace(), KafkaCluster.clientsCaCertSecretName(name), this.clientsCa.caCertSecret())
+                    .compose(ignored -> secretOperations.reconcile(reconciliation.namespace(), KafkaCluster.clientsCaKeySecretName(name), this.clientsCa.caKeySecret()));
+                secretReconciliations.add(clientsSecretReconciliation);
+            }
+
+            return withVoid(CompositeFuture.join(secretReconciliations));
         }
 
         /**
@@ -715,7 +797,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
                         .compose(sts -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion())
+                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), maxParallelBrokerRestarts)
                             .rollingRestart(rollPodAndLogReason))
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
@@ -1286,7 +1368,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return adminClientSecrets()
                 .compose(compositeFuture -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                     () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion())
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), maxParallelBrokerRestarts)
                     .rollingRestart(podNeedsRestart));
         }
 
@@ -1649,7 +1731,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> zkGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            KafkaAssemblyOperator.this.<ReconciliationState>executeBlocking("Secret",
                 future -> {
                     try {
                         zkCluster.generateCertificates(kafkaAssembly, clusterCa, isMaintenanceTimeWindowsSatisfied(dateSupplier));
@@ -1658,7 +1740,6 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         future.fail(e);
                     }
                 },
-                true,
                 resultPromise);
             return resultPromise.future();
         }
@@ -2304,7 +2385,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> kafkaGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            KafkaAssemblyOperator.this.<ReconciliationState>executeBlocking("Secret",
                 future -> {
                     try {
                         kafkaCluster.generateCertificates(kafkaAssembly,
@@ -2315,7 +2396,6 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         future.fail(e);
                     }
                 },
-                true,
                 resultPromise);
             return resultPromise.future();
         }
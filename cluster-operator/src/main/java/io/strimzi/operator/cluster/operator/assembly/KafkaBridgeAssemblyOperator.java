@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -27,13 +28,16 @@ import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * <p>Assembly operator for a "Kafka Bridge" assembly, which manages:</p>
@@ -118,6 +122,25 @@ public class KafkaBridgeAssemblyOperator extends AbstractAssemblyOperator<Kubern
         return createOrUpdatePromise.future();
     }
 
+    @Override
+    protected Future<List<HasMetadata>> ownedResources(Reconciliation reconciliation, KafkaBridge resource) {
+        String namespace = reconciliation.namespace();
+        String name = resource.getMetadata().getName();
+
+        List<Future> resources = new ArrayList<>(6);
+        resources.add(serviceAccountOperations.getAsync(namespace, KafkaBridgeResources.serviceAccountName(name)));
+        resources.add(serviceOperations.getAsync(namespace, KafkaBridgeResources.serviceName(name)));
+        resources.add(configMapOperations.getAsync(namespace, KafkaBridgeResources.metricsAndLogConfigMapName(name)));
+        resources.add(podDisruptionBudgetOperator.getAsync(namespace, KafkaBridgeResources.deploymentName(name)));
+        resources.add(deploymentOperations.getAsync(namespace, KafkaBridgeResources.deploymentName(name)));
+
+        if (resource.getSpec().getLogging() instanceof ExternalLogging) {
+            resources.add(configMapOperations.getAsync(namespace, ((ExternalLogging) resource.getSpec().getLogging()).getName()));
+        }
+
+        return CompositeFuture.join(resources).map(result -> result.<HasMetadata>list());
+    }
+
     @Override
     protected KafkaBridgeStatus createStatus() {
         return new KafkaBridgeStatus();
@@ -107,6 +107,20 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=info&expand=status}, which returns the config and the
+     * status of all connectors at once.
+     * Kafka Connect versions which do not support the {@code expand} query parameter return just the names of the
+     * connectors. The names are then mapped to {@code null} and the info and status have to be retrieved using
+     * {@link #getConnectorConfig(BackOff, String, int, String)} and {@link #status(String, int, String)}.
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map of the connector names to objects with the {@code info} and {@code status} of the connector
+     * (or {@code null} when not supported).
+     */
+    Future<Map<String, Map<String, Object>>> listWithInfoAndStatus(String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param host The host to make the request to.
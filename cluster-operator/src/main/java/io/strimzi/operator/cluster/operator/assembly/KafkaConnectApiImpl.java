@@ -6,9 +6,18 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.vertx.core.Future;
@@ -18,8 +27,12 @@ import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -32,7 +45,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiConsumer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
@@ -48,11 +63,63 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<Map<String, Map<String, String>>>() {
 
     };
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_TREES = new TypeReference<Map<String, Map<String, Object>>>() {
+    };
+    public static final int DEFAULT_MAX_POOL_SIZE = 5;
+    public static final String REQUEST_DURATION_METRIC = AbstractOperator.METRICS_PREFIX + "connect.api.request.duration";
+
+    /**
+     * Idle connections are closed by the client before the Kafka Connect REST server (which closes them after 30
+     * seconds by default) does so, to avoid sending requests on connections which are just being closed.
+     */
+    private static final int KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final int maxPoolSize;
+    private final long requestTimeoutMs;
+    private final MetricsProvider metrics;
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+    private HttpClient httpClient;
 
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, DEFAULT_MAX_POOL_SIZE, 0, defaultMetricsProvider());
+    }
+
+    /**
+     * The HTTP client is shared by all requests sent through this instance. It keeps a separate pool of keep-alive
+     * connections for every host and port, so each Kafka Connect cluster gets its own pool. The client is created
+     * with the first request, so that it is created from within the Vert.x context which sends the requests.
+     *
+     * @param vertx The Vertx instance
+     * @param maxPoolSize The maximal number of connections to a single Kafka Connect cluster
+     * @param requestTimeoutMs The timeout of the individual requests in milliseconds or 0 for no timeout
+     * @param metrics The metrics provider
+     */
+    public KafkaConnectApiImpl(Vertx vertx, int maxPoolSize, long requestTimeoutMs, MetricsProvider metrics) {
         this.vertx = vertx;
+        this.maxPoolSize = maxPoolSize;
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Uses the Micrometer registry of Vert.x when Vert.x has a metrics backend and a private registry otherwise, so
+     * that the request timers can always be created.
+     */
+    private static MetricsProvider defaultMetricsProvider() {
+        MeterRegistry registry = BackendRegistries.getDefaultNow();
+        return new MicrometerMetricsProvider(registry != null ? registry : new SimpleMeterRegistry());
+    }
+
+    private synchronized HttpClient httpClient() {
+        if (httpClient == null) {
+            httpClient = vertx.createHttpClient(new HttpClientOptions()
+                    .setKeepAlive(true)
+                    .setKeepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS)
+                    .setMaxPoolSize(maxPoolSize));
+        }
+        return httpClient;
     }
 
     @Override
@@ -63,8 +130,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         log.debug("Making PUT request to {} with body {}", path, configJson);
-        return withHttpClient((httpClient, result) ->
-            httpClient.put(port, host, path, response -> {
+        return execute("PUT", "/connectors/{name}/config", result ->
+            request(HttpMethod.PUT, port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (response.statusCode() == 200 || response.statusCode() == 201) {
                     response.bodyHandler(buffer -> {
@@ -95,41 +162,50 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     /**
-     * Perform the given operation, which completes the promise, using an HTTP client instance,
-     * after which the client is closed and the future for the promise returned.
+     * Perform the given operation, which sends a request and completes the promise, and records the time until the
+     * promise is completed in the request duration metric of the given endpoint.
+     * @param method The HTTP method (used for the metrics).
+     * @param endpoint The endpoint with the connector or logger names left out (used for the metrics).
      * @param operation The operation to perform.
      * @param <T> The type of the result
      * @return A future which is completed with the result performed by the operation
      */
-    private <T> Future<T> withHttpClient(BiConsumer<HttpClient, Promise<T>> operation) {
-        HttpClient httpClient = vertx.createHttpClient(new HttpClientOptions().setLogActivity(true));
+    private <T> Future<T> execute(String method, String endpoint, Consumer<Promise<T>> operation) {
+        Timer timer = requestTimers.computeIfAbsent(method + " " + endpoint, key -> metrics.timer(REQUEST_DURATION_METRIC,
+                "The time requests to the Kafka Connect REST API take to complete",
+                Tags.of(Tag.of("method", method), Tag.of("endpoint", endpoint))));
+        long startNanos = System.nanoTime();
+
         Promise<T> promise = Promise.promise();
-        operation.accept(httpClient, promise);
-        return promise.future().compose(
-            result -> {
-                httpClient.close();
-                return Future.succeededFuture(result);
-            },
-            error -> {
-                httpClient.close();
-                return Future.failedFuture(error);
-            });
+        operation.accept(promise);
+        return promise.future().onComplete(ignored -> timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Creates a request using the pooled HTTP client and applies the request timeout.
+     */
+    private HttpClientRequest request(HttpMethod method, int port, String host, String path, Handler<HttpClientResponse> responseHandler) {
+        HttpClientRequest request = httpClient().request(method, port, host, path, responseHandler);
+        if (requestTimeoutMs > 0) {
+            request.setTimeout(requestTimeoutMs);
+        }
+        return request;
     }
 
     @Override
     public Future<Map<String, Object>> getConnector(
             String host, int port,
             String connectorName) {
-        return doGet(host, port, String.format("/connectors/%s", connectorName),
+        return doGet(host, port, String.format("/connectors/%s", connectorName), "/connectors/{name}",
                 new HashSet<>(asList(200, 201)),
                 TREE_TYPE);
     }
 
     @SuppressWarnings("unchecked")
-    private <T> Future<T> doGet(String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
+    private <T> Future<T> doGet(String host, int port, String path, String endpoint, Set<Integer> okStatusCodes, TypeReference<T> type) {
         log.debug("Making GET request to {}", path);
-        return withHttpClient((httpClient, result) ->
-            httpClient.get(port, host, path, response -> {
+        return execute("GET", endpoint, result ->
+            request(HttpMethod.GET, port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (okStatusCodes.contains(response.statusCode())) {
                     response.bodyHandler(buffer -> {
@@ -160,7 +236,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Map<String, String>> getConnectorConfig(
             String host, int port,
             String connectorName) {
-        return doGet(host, port, String.format("/connectors/%s/config", connectorName),
+        return doGet(host, port, String.format("/connectors/%s/config", connectorName), "/connectors/{name}/config",
                 new HashSet<>(asList(200, 201)),
                 MAP_OF_STRINGS);
     }
@@ -174,8 +250,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Void> delete(String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
-        return withHttpClient((httpClient, result) ->
-            httpClient.delete(port, host, path, response -> {
+        return execute("DELETE", "/connectors/{name}", result ->
+            request(HttpMethod.DELETE, port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (response.statusCode() == 204) {
                     result.complete();
@@ -256,22 +332,22 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, Object>> status(String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName + "/status";
-        return doGet(host, port, path, Collections.singleton(200), TREE_TYPE);
+        return doGet(host, port, path, "/connectors/{name}/status", Collections.singleton(200), TREE_TYPE);
     }
 
     @Override
     public Future<Void> pause(String host, int port, String connectorName) {
-        return pauseResume(host, port, "/connectors/" + connectorName + "/pause");
+        return pauseResume(host, port, "/connectors/" + connectorName + "/pause", "/connectors/{name}/pause");
     }
 
     @Override
     public Future<Void> resume(String host, int port, String connectorName) {
-        return pauseResume(host, port, "/connectors/" + connectorName + "/resume");
+        return pauseResume(host, port, "/connectors/" + connectorName + "/resume", "/connectors/{name}/resume");
     }
 
-    private Future<Void> pauseResume(String host, int port, String path) {
-        return withHttpClient((httpClient, result) -> httpClient
-                .put(port, host, path, response -> {
+    private Future<Void> pauseResume(String host, int port, String path, String endpoint) {
+        return execute("PUT", endpoint, result ->
+                request(HttpMethod.PUT, port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 202) {
                         result.complete();
@@ -289,8 +365,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> list(String host, int port) {
         String path = "/connectors";
-        return withHttpClient((httpClient, result) -> httpClient
-                .get(port, host, path, response -> {
+        return execute("GET", path, result ->
+                request(HttpMethod.GET, port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 200) {
                         response.bodyHandler(buffer -> {
@@ -315,11 +391,45 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .end());
     }
 
+    @Override
+    public Future<Map<String, Map<String, Object>>> listWithInfoAndStatus(String host, int port) {
+        String path = "/connectors?expand=info&expand=status";
+        return execute("GET", path, result ->
+                request(HttpMethod.GET, port, host, path, response -> {
+                    response.exceptionHandler(result::tryFail);
+                    if (response.statusCode() == 200) {
+                        response.bodyHandler(buffer -> {
+                            try {
+                                JsonNode json = mapper.readTree(buffer.getBytes());
+                                if (json.isArray()) {
+                                    // Older Kafka Connect versions ignore the expand parameter
+                                    Map<String, Map<String, Object>> names = new LinkedHashMap<>(json.size());
+                                    for (JsonNode name : json) {
+                                        names.put(name.asText(), null);
+                                    }
+                                    result.complete(names);
+                                } else {
+                                    result.complete(mapper.convertValue(json, MAP_OF_TREES));
+                                }
+                            } catch (IOException | IllegalArgumentException e) {
+                                result.fail(new ConnectRestException(response, "Could not deserialize response: " + e));
+                            }
+                        });
+                    } else {
+                        result.fail(new ConnectRestException(response, "Unexpected status code"));
+                    }
+                })
+                .exceptionHandler(result::tryFail)
+                .setFollowRedirects(true)
+                .putHeader("Accept", "application/json")
+                .end());
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(String host, int port) {
         String path = "/connector-plugins";
-        return withHttpClient((httpClient, result) -> httpClient
-                .get(port, host, path, response -> {
+        return execute("GET", path, result ->
+                request(HttpMethod.GET, port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 200) {
                         response.bodyHandler(buffer -> {
@@ -345,33 +455,32 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         log.debug("Making PUT request to {} with body {}", path, levelJO);
-        return withHttpClient((httpClient, result) -> {
+        return execute("PUT", "/admin/loggers/{name}", result -> {
             Buffer buffer = levelJO.toBuffer();
-            httpClient
-                    .put(port, host, path, response -> {
-                        response.exceptionHandler(result::tryFail);
-                        response.bodyHandler(body -> {
-                        });
-                        if (response.statusCode() == 200) {
-                            log.debug("Logger {} updated to level {}", logger, level);
-                            result.complete();
-                        } else {
-                            log.debug("Logger {} did not update to level {} (http code {})", logger, level, response.statusCode());
-                            result.fail(new ConnectRestException(response, "Unexpected status code"));
-                        }
-                    })
-                    .exceptionHandler(result::tryFail)
-                    .putHeader("Content-Type", "application/json")
-                    .setFollowRedirects(true)
-                    .end(buffer);
+            request(HttpMethod.PUT, port, host, path, response -> {
+                response.exceptionHandler(result::tryFail);
+                response.bodyHandler(body -> {
+                });
+                if (response.statusCode() == 200) {
+                    log.debug("Logger {} updated to level {}", logger, level);
+                    result.complete();
+                } else {
+                    log.debug("Logger {} did not update to level {} (http code {})", logger, level, response.statusCode());
+                    result.fail(new ConnectRestException(response, "Unexpected status code"));
+                }
+            })
+                .exceptionHandler(result::tryFail)
+                .putHeader("Content-Type", "application/json")
+                .setFollowRedirects(true)
+                .end(buffer);
         });
     }
 
     @Override
     public Future<Map<String, Map<String, String>>> listConnectLoggers(String host, int port) {
         String path = "/admin/loggers/";
-        return withHttpClient((httpClient, result) -> httpClient
-                .get(port, host, path, response -> {
+        return execute("GET", path, result ->
+                request(HttpMethod.GET, port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 200) {
                         response.bodyHandler(buffer -> {
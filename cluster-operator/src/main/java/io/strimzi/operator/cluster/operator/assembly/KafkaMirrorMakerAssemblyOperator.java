@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -28,13 +29,16 @@ import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -117,6 +121,24 @@ public class KafkaMirrorMakerAssemblyOperator extends AbstractAssemblyOperator<K
         return createOrUpdatePromise.future();
     }
 
+    @Override
+    protected Future<List<HasMetadata>> ownedResources(Reconciliation reconciliation, KafkaMirrorMaker resource) {
+        String namespace = reconciliation.namespace();
+        String name = resource.getMetadata().getName();
+
+        List<Future> resources = new ArrayList<>(6);
+        resources.add(serviceAccountOperations.getAsync(namespace, KafkaMirrorMakerResources.serviceAccountName(name)));
+        resources.add(configMapOperations.getAsync(namespace, KafkaMirrorMakerResources.metricsAndLogConfigMapName(name)));
+        resources.add(podDisruptionBudgetOperator.getAsync(namespace, KafkaMirrorMakerResources.deploymentName(name)));
+        resources.add(deploymentOperations.getAsync(namespace, KafkaMirrorMakerResources.deploymentName(name)));
+
+        if (resource.getSpec().getLogging() instanceof ExternalLogging) {
+            resources.add(configMapOperations.getAsync(namespace, ((ExternalLogging) resource.getSpec().getLogging()).getName()));
+        }
+
+        return CompositeFuture.join(resources).map(result -> result.<HasMetadata>list());
+    }
+
     @Override
     protected KafkaMirrorMakerStatus createStatus() {
         return new KafkaMirrorMakerStatus();
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.kafka.clients.admin.Admin;
@@ -11,43 +12,113 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>An instance is meant to be used for checking all brokers of a single rolling update:</p>
+ * <ul>
+ * <li>The index of the topic descriptions is built from the descriptions of all topics when the first broker is
+ *     checked and reused for the other brokers.</li>
+ * <li>The topics are listed again for each check. The deleted topics are dropped from the index and only the
+ *     topics created since the last check are described and added to it.</li>
+ * <li>Only the topics with replicas on the checked broker are described again for each check, to get their current
+ *     ISR. The topics deleted in the meantime are ignored.</li>
+ * <li>The {@code min.insync.replicas} of the topics is described only once and cached.</li>
+ * <li>The same index tells which brokers share partitions with each broker, so that the brokers without any common
+ *     partitions can be rolled at the same time. It is rebuilt from the descriptions of all topics for this purpose,
+ *     because the partitions might have been reassigned since it was built.</li>
+ * </ul>
  */
 class KafkaAvailability {
 
     private static final Logger log = LogManager.getLogger(KafkaAvailability.class.getName());
 
     private final Admin ac;
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final Map<String, Integer> minIsrs = new ConcurrentHashMap<>();
+    private Future<Index> index;
+
+    /**
+     * The last known descriptions of the topics, from which the topics with replicas on each broker and the other
+     * brokers hosting replicas of the same partitions are derived
+     */
+    private static class Index {
+        private final Map<String, TopicDescription> descriptions = new HashMap<>();
+
+        Index(Collection<TopicDescription> tds) {
+            update(emptySet(), tds);
+        }
+
+        /**
+         * Drops the topics which are not in the given names and returns the names which are not described yet.
+         */
+        synchronized Set<String> retain(Set<String> names) {
+            descriptions.keySet().retainAll(names);
+            Set<String> undescribed = new HashSet<>(names);
+            undescribed.removeAll(descriptions.keySet());
+            return undescribed;
+        }
+
+        /**
+         * Replaces the descriptions of the given topics. The described topics without a description were deleted.
+         */
+        synchronized void update(Set<String> described, Collection<TopicDescription> tds) {
+            descriptions.keySet().removeAll(described);
+            for (TopicDescription td : tds) {
+                log.trace("{}", td);
+                descriptions.put(td.name(), td);
+            }
+        }
+
+        synchronized Set<String> topicsOn(int broker) {
+            return descriptions.values().stream()
+                    .filter(td -> hasReplicaOn(td, broker))
+                    .map(TopicDescription::name)
+                    .collect(Collectors.toSet());
+        }
+
+        synchronized Set<Integer> peersOf(int broker) {
+            Set<Integer> peers = new HashSet<>();
+            for (TopicDescription td : descriptions.values()) {
+                for (TopicPartitionInfo pd : td.partitions()) {
+                    if (contains(pd.replicas(), broker)) {
+                        for (Node peer : pd.replicas()) {
+                            if (peer.id() != broker) {
+                                peers.add(peer.id());
+                            }
+                        }
+                    }
+                }
+            }
+            return peers;
+        }
+    }
 
     KafkaAvailability(Admin ac) {
         this.ac = ac;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            log.debug("Got {} topic names", names.size());
-            log.trace("Topic names {}", names);
-            return describeTopics(names);
-        });
     }
 
     /**
@@ -56,28 +127,90 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         log.debug("Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(podId);
+    }
+
+    /**
+     * Returns the ids of the other brokers which host a replica of at least one partition which has a replica on
+     * the given broker. The given broker can be rolled at the same time as any broker not in the returned set.
+     * All the topics are described again, so that partitions reassigned since the last call are taken into account.
+     */
+    Future<Set<Integer>> brokersSharingPartitionsWith(int podId) {
+        return buildIndex().map(index -> index.peersOf(podId));
+    }
+
+    /**
+     * Returns the index of the topic descriptions. The index is built when this method is called the first time
+     * (or after building it failed). Otherwise the topics are listed again to drop the deleted topics from the index
+     * and to add the descriptions of the new topics to it.
+     */
+    private synchronized Future<Index> index() {
+        if (index == null || index.failed()) {
+            return buildIndex();
+        } else {
+            return index.compose(current -> topicNames()
+                    .compose(names -> {
+                        Set<String> created = current.retain(names);
+                        if (created.isEmpty()) {
+                            return Future.succeededFuture(current);
+                        } else {
+                            log.debug("Got {} new topics", created.size());
+                            return describeTopics(created).map(tds -> {
+                                current.update(created, tds);
+                                return current;
+                            });
+                        }
+                    }));
+        }
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
+    /**
+     * Builds the index from the descriptions of all topics, replacing the current one.
+     */
+    private synchronized Future<Index> buildIndex() {
+        // 1. Get all topic names
+        // 2. Get topic descriptions
+        index = topicNames()
+                .compose(names -> {
+                    log.debug("Got {} topic names", names.size());
+                    log.trace("Topic names {}", names);
+                    return describeTopics(names);
+                })
+                .map(topicDescriptions -> {
                     log.debug("Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
+                    return new Index(topicDescriptions);
+                });
+        return index;
+    }
+
+    private Future<Boolean> canRollBroker(int podId) {
+        Future<Collection<TopicDescription>> topicsOnGivenBroker = index()
+                .compose(index -> {
+                    Set<String> names = index.topicsOn(podId);
+                    if (names.isEmpty()) {
+                        return Future.<Collection<TopicDescription>>succeededFuture(emptyList());
+                    } else {
+                        // Describe the topics again to get their current ISR
+                        return describeTopics(names)
+                                .<Collection<TopicDescription>>map(tds -> {
+                                    index.update(names, tds);
+                                    return tds.stream().filter(td -> hasReplicaOn(td, podId)).collect(Collectors.toList());
+                                });
+                    }
                 }).recover(error -> {
                     log.warn(error);
                     return Future.failedFuture(error);
                 });
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+        // 3. Get the min.insync.replicas of the topics on $broker
+        Future<Map<String, Integer>> minIsrsOnGivenBroker = topicsOnGivenBroker
+                .compose(td -> minIsrs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
 
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
+        // 4. join
+        return minIsrsOnGivenBroker.map(topicNameToMinIsr -> {
             Collection<TopicDescription> tds = topicsOnGivenBroker.result();
             boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+                td -> wouldAffectAvailability(podId, topicNameToMinIsr.get(td.name()), td));
             if (!canRoll) {
                 log.debug("Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
             }
@@ -88,15 +221,10 @@ class KafkaAvailability {
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
+    private boolean wouldAffectAvailability(int broker, int minIsr, TopicDescription td) {
+        if (minIsr >= 0) {
             log.debug("{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
-            minIsr = -1;
             log.debug("{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
 
@@ -142,57 +270,95 @@ class KafkaAvailability {
         return nodes.stream().map(n -> String.valueOf(n.id())).collect(Collectors.joining(",", "[", "]"));
     }
 
-    private boolean contains(List<Node> isr, int broker) {
+    private static boolean contains(List<Node> isr, int broker) {
         return isr.stream().anyMatch(node -> node.id() == broker);
     }
 
-    private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
-        log.debug("Getting topic configs for {} topics", topicNames.size());
+    /**
+     * Returns the {@code min.insync.replicas} of the given topics (or -1 for the topics without it). Only the configs
+     * of the topics which are not cached yet are described.
+     */
+    private Future<Map<String, Integer>> minIsrs(Collection<String> topicNames) {
         List<ConfigResource> configs = topicNames.stream()
+                .filter(topicName -> !minIsrs.containsKey(topicName))
                 .map((String topicName) -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
                 .collect(Collectors.toList());
-        Promise<Map<String, Config>> promise = Promise.promise();
-        ac.describeConfigs(configs).all().whenComplete((topicNameToConfig, error) -> {
-            if (error != null) {
-                promise.fail(error);
-            } else {
-                log.debug("Got topic configs for {} topics", topicNames.size());
-                promise.complete(topicNameToConfig.entrySet().stream()
-                        .collect(Collectors.toMap(
-                            entry -> entry.getKey().name(),
-                            entry -> entry.getValue())));
-            }
-        });
-        return promise.future();
-    }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            log.trace("{}", td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
+        Future<Void> described;
+        if (configs.isEmpty()) {
+            described = Future.succeededFuture();
+        } else {
+            log.debug("Getting topic configs for {} topics", configs.size());
+            Promise<Void> promise = Promise.promise();
+            ac.describeConfigs(configs).all().whenComplete((topicNameToConfig, error) -> {
+                if (error != null) {
+                    promise.fail(error);
+                } else {
+                    log.debug("Got topic configs for {} topics", configs.size());
+                    for (Map.Entry<ConfigResource, Config> entry : topicNameToConfig.entrySet()) {
+                        minIsrs.put(entry.getKey().name(), minIsr(entry.getValue()));
                     }
+                    promise.complete();
+                }
+            });
+            described = promise.future();
+        }
+
+        return described.map(ignored -> topicNames.stream()
+                .collect(Collectors.toMap(topicName -> topicName, topicName -> minIsrs.getOrDefault(topicName, -1))));
+    }
+
+    private static int minIsr(Config config) {
+        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+        if (minIsrConfig != null && minIsrConfig.value() != null) {
+            return parseInt(minIsrConfig.value());
+        } else {
+            return -1;
+        }
+    }
+
+    private static boolean hasReplicaOn(TopicDescription td, int podId) {
+        for (TopicPartitionInfo pd : td.partitions()) {
+            for (Node broker : pd.replicas()) {
+                if (podId == broker.id()) {
+                    return true;
                 }
             }
         }
-        return topicPartitionInfos;
+        return false;
     }
 
+    /**
+     * Describes the given topics. The topics which were deleted in the meantime are left out of the result.
+     */
+    @SuppressWarnings("rawtypes")
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
-        Promise<Collection<TopicDescription>> descPromise = Promise.promise();
-        ac.describeTopics(names).all()
-                .whenComplete((tds, error) -> {
-                    if (error != null) {
-                        descPromise.fail(error);
-                    } else {
-                        log.debug("Got topic descriptions for {} topics", tds.size());
-                        descPromise.complete(tds.values());
-                    }
-                });
-        return descPromise.future();
+        Map<String, KafkaFuture<TopicDescription>> values = ac.describeTopics(names).values();
+        List<Future> futures = new ArrayList<>(values.size());
+        for (Map.Entry<String, KafkaFuture<TopicDescription>> entry : values.entrySet()) {
+            Promise<TopicDescription> descPromise = Promise.promise();
+            entry.getValue().whenComplete((td, error) -> {
+                if (error instanceof UnknownTopicOrPartitionException) {
+                    log.debug("Topic {} was deleted", entry.getKey());
+                    descPromise.complete(null);
+                } else if (error != null) {
+                    descPromise.fail(error);
+                } else {
+                    descPromise.complete(td);
+                }
+            });
+            futures.add(descPromise.future());
+        }
+        return CompositeFuture.all(futures).map(ignored -> {
+            List<TopicDescription> tds = new ArrayList<>(futures.size());
+            for (Future future : futures) {
+                if (future.result() != null) {
+                    tds.add((TopicDescription) future.result());
+                }
+            }
+            log.debug("Got topic descriptions for {} topics", tds.size());
+            return tds;
+        });
     }
 
     protected Future<Set<String>> topicNames() {
@@ -10,6 +10,7 @@ import java.net.Socket;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -101,6 +102,12 @@ import static java.util.Collections.singletonList;
  *     <li>even pods which aren't candidates for rolling are checked for readiness which partly avoids
  *     successive reconciliations each restarting a pod which never becomes ready</li>
  * </ul>
+ *
+ * <p>By default, the pods are considered one at a time. When {@code maxParallelRestarts} is bigger than 1, up to that
+ * many pods are considered at the same time, as long as their brokers do not host replicas of the same partitions
+ * (as determined by {@link KafkaAvailability#brokersSharingPartitionsWith(int)}). Each partition then loses at most one
+ * replica at a time, so checking each broker for availability separately remains sufficient. Pods which share
+ * partitions with a pod being considered wait until it is done.</p>
  */
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class KafkaRoller {
@@ -122,7 +129,10 @@ public class KafkaRoller {
     private final String kafkaLogging;
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
+    private final int maxParallelRestarts;
+    private final Set<Integer> podsInProgress = new HashSet<>();
     private Admin allClient;
+    private KafkaAvailability kafkaAvailability;
 
     public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
             long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -137,6 +147,16 @@ public class KafkaRoller {
                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion) {
+        this(vertx, reconciliation, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, 1);
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                       StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, int maxParallelRestarts) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -152,6 +172,10 @@ public class KafkaRoller {
         this.kafkaLogging = kafkaLogging;
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
+        this.maxParallelRestarts = maxParallelRestarts;
+        this.executor = maxParallelRestarts > 1
+                ? Executors.newScheduledThreadPool(maxParallelRestarts, runnable -> new Thread(runnable, "kafka-roller"))
+                : Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "kafka-roller"));
     }
 
     /**
@@ -162,8 +186,7 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaCluster.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
+    private final ScheduledExecutorService executor;
 
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, List<String>> podNeedsRestart;
@@ -172,7 +195,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(IntStream.range(0, numPods).boxed().collect(Collectors.toList()), false);
@@ -206,7 +229,7 @@ public class KafkaRoller {
         }
         Promise<Void> result = Promise.promise();
         CompositeFuture.join(futures).onComplete(ar -> {
-            singleExecutor.shutdown();
+            executor.shutdown();
             try {
                 if (allClient != null) {
                     allClient.close(Duration.ofSeconds(30));
@@ -257,7 +280,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled one-at-a-time (or a few at a time when they do not share partitions) so the delay may be overrun.
      * @param podId The pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -266,9 +289,17 @@ public class KafkaRoller {
     private Future<Void> schedule(int podId, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podId,
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             log.debug("{}: Considering restart of pod {} after delay of {} {}", reconciliation, podId, delay, unit);
+            boolean inProgress = false;
             try {
+                if (!startProgress(podId)) {
+                    // Waiting for a pod sharing partitions with this one does not count as a failed attempt
+                    log.debug("{}: Pod {} shares partitions with pods {} which are being considered", reconciliation, podId, podsInProgress());
+                    schedule(podId, pollingIntervalMs, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                inProgress = true;
                 restartIfNecessary(podId, ctx);
                 ctx.promise.complete();
             } catch (InterruptedException e) {
@@ -278,7 +309,7 @@ public class KafkaRoller {
                 log.info("{}: Could not restart pod {}, giving up after {} attempts. Total delay between attempts {}ms",
                         reconciliation, podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -295,11 +326,76 @@ public class KafkaRoller {
                             reconciliation, podId, e, delay1);
                     schedule(podId, delay1, TimeUnit.MILLISECONDS);
                 }
+            } finally {
+                if (inProgress) {
+                    endProgress(podId);
+                }
             }
         }, delay, unit);
         return ctx.promise.future();
     }
 
+    /**
+     * Marks the given pod as being considered, unless its broker shares partitions with a broker of another pod which
+     * is already being considered. Without parallel restarts, the pods are always considered one at a time.
+     * @param podId The id of the pod.
+     * @return true if the pod can be considered now, false if it has to wait.
+     */
+    private boolean startProgress(int podId) throws InterruptedException {
+        if (maxParallelRestarts <= 1) {
+            return true;
+        }
+
+        Set<Integer> peers = podsInProgress().isEmpty() ? null : brokersSharingPartitionsWith(podId);
+
+        synchronized (podsInProgress) {
+            // When the partitions of the broker are not known, wait until no other pod is being considered.
+            // A retry of the pod might start before the previous attempt finished, in which case it waits as well.
+            if (podsInProgress.contains(podId)) {
+                return false;
+            } else if (podsInProgress.isEmpty()
+                    || (peers != null && podsInProgress.size() < maxParallelRestarts && Collections.disjoint(peers, podsInProgress))) {
+                podsInProgress.add(podId);
+                return true;
+            } else {
+                return false;
+            }
+        }
+    }
+
+    private void endProgress(int podId) {
+        if (maxParallelRestarts > 1) {
+            synchronized (podsInProgress) {
+                podsInProgress.remove(podId);
+            }
+        }
+    }
+
+    private Set<Integer> podsInProgress() {
+        synchronized (podsInProgress) {
+            return new HashSet<>(podsInProgress);
+        }
+    }
+
+    /**
+     * Returns the brokers sharing partitions with the given broker or null when they cannot be determined.
+     * The topics are described again for each call, so that a pod is never admitted based on outdated partition
+     * assignments.
+     */
+    private Set<Integer> brokersSharingPartitionsWith(int podId) throws InterruptedException {
+        if (!initAdminClient()) {
+            return null;
+        }
+
+        try {
+            return await(kafkaAvailability().brokersSharingPartitionsWith(podId), 60_000, TimeUnit.MILLISECONDS,
+                t -> new ForceableProblem("An error while trying to determine the brokers sharing partitions", t));
+        } catch (ForceableProblem e) {
+            log.debug("{}: Could not determine the brokers sharing partitions with pod {}", reconciliation, podId, e);
+            return null;
+        }
+    }
+
     /** Described how the "restart" (which might actually just be a reconfigure) will be performed. */
     static class RestartPlan {
         private final boolean needsRestart;
@@ -600,7 +696,7 @@ public class KafkaRoller {
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            return await(kafkaAvailability().canRoll(podId), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -698,6 +794,16 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * The same instance is used for all pods, so that it can reuse the topic metadata it already has
+     */
+    private synchronized KafkaAvailability kafkaAvailability() {
+        if (kafkaAvailability == null) {
+            kafkaAvailability = availability(allClient);
+        }
+        return kafkaAvailability;
+    }
+
     protected KafkaAvailability availability(Admin ac) {
         return new KafkaAvailability(ac);
     }
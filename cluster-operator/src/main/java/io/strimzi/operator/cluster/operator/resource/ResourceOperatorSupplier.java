@@ -36,6 +36,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
@@ -44,6 +45,8 @@ import io.strimzi.operator.common.operator.resource.DeploymentConfigOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ImageStreamOperator;
 import io.strimzi.operator.common.operator.resource.IngressOperator;
+import io.strimzi.operator.common.operator.resource.KubernetesApiRateLimiter;
+import io.strimzi.operator.common.operator.resource.KubernetesOperationsPool;
 import io.strimzi.operator.common.operator.resource.NetworkPolicyOperator;
 import io.strimzi.operator.common.operator.resource.NodeOperator;
 import io.strimzi.operator.common.operator.resource.PodDisruptionBudgetOperator;
@@ -57,8 +60,16 @@ import io.strimzi.operator.common.operator.resource.ServiceOperator;
 
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+
 @SuppressWarnings("checkstyle:ClassDataAbstractionCoupling")
 public class ResourceOperatorSupplier {
     public final SecretOperator secretOperations;
@@ -92,15 +103,26 @@ public class ResourceOperatorSupplier {
     public final ZookeeperScalerProvider zkScalerProvider;
     public final MetricsProvider metricsProvider;
     public AdminClientProvider adminClientProvider;
+    public KubernetesOperationsPool operationsPool;
 
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, long operationTimeoutMs) {
+        this(vertx, client, pfa, operationTimeoutMs, new DefaultAdminClientProvider());
+    }
+
+    public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, long operationTimeoutMs,
+                                    AdminClientProvider adminClientProvider) {
+        this(vertx, client, pfa, operationTimeoutMs, adminClientProvider, new MicrometerMetricsProvider());
+    }
+
+    private ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, long operationTimeoutMs,
+                                     AdminClientProvider adminClientProvider, MetricsProvider metricsProvider) {
         this(vertx, client,
             new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client),
             // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
-                () -> new BackOff(5_000, 2, 4)),
-                    new DefaultAdminClientProvider(),
+                () -> new BackOff(5_000, 2, 4), metricsProvider),
+                    adminClientProvider,
                     new DefaultZookeeperScalerProvider(),
-                    new MicrometerMetricsProvider(),
+                    metricsProvider,
                     pfa, operationTimeoutMs);
     }
 
@@ -203,4 +225,105 @@ public class ResourceOperatorSupplier {
         this.metricsProvider = metricsProvider;
         this.adminClientProvider = adminClientProvider;
     }
+
+    /**
+     * Enables the local resource caches for the kinds of resources which are read most often while reconciling the
+     * custom resources. The custom resources themselves are not cached, because the reconciliation and the status
+     * updates need to see their latest version.
+     *
+     * @param namespaces        Namespaces which should be cached
+     * @param maxStalenessMs    Maximal age of the caches for them to be used
+     *
+     * @return  Future which completes when all the caches were filled for the first time
+     */
+    @SuppressWarnings("rawtypes")
+    public Future<Void> enableResourceCaches(Set<String> namespaces, long maxStalenessMs) {
+        List<Future> futures = new ArrayList<>();
+
+        // The Kafka and ZooKeeper StatefulSets are the same kind of resource, so they share a single cache and watch
+        zkSetOperations.shareCaches(kafkaSetOperations);
+
+        for (String namespace : namespaces) {
+            futures.add(secretOperations.enableCache(namespace, maxStalenessMs, metricsProvider));
+            futures.add(serviceOperations.enableCache(namespace, maxStalenessMs, metricsProvider));
+            futures.add(configMapOperations.enableCache(namespace, maxStalenessMs, metricsProvider));
+            futures.add(serviceAccountOperations.enableCache(namespace, maxStalenessMs, metricsProvider));
+            futures.add(networkPolicyOperator.enableCache(namespace, maxStalenessMs, metricsProvider));
+            futures.add(podDisruptionBudgetOperator.enableCache(namespace, maxStalenessMs, metricsProvider));
+            futures.add(pvcOperations.enableCache(namespace, maxStalenessMs, metricsProvider));
+            futures.add(podOperations.enableCache(namespace, maxStalenessMs, metricsProvider));
+            futures.add(deploymentOperations.enableCache(namespace, maxStalenessMs, metricsProvider));
+            futures.add(kafkaSetOperations.enableCache(namespace, maxStalenessMs, metricsProvider));
+        }
+
+        return CompositeFuture.join(futures).map((Void) null);
+    }
+
+    /**
+     * Runs the blocking Kubernetes API operations of the resource operators in a pool of the given size, limiting the
+     * operations on each kind of resource running at the same time and the rate at which the operations are started.
+     *
+     * @param vertx                 Vertx instance
+     * @param poolSize              Number of threads of the pool
+     * @param maxConcurrentPerKind  Maximal number of operations on a single kind of resource running at the same time
+     *                              (0 for unlimited)
+     * @param maxRate               Maximal number of operations started per second (0 for unlimited)
+     */
+    public void enableOperationsPool(Vertx vertx, int poolSize, int maxConcurrentPerKind, int maxRate) {
+        KubernetesApiRateLimiter rateLimiter = maxRate > 0 ? new KubernetesApiRateLimiter(vertx, maxRate, metricsProvider) : null;
+        KubernetesOperationsPool pool = new KubernetesOperationsPool(vertx, poolSize, maxConcurrentPerKind, rateLimiter, metricsProvider);
+
+        // The OpenShift specific operators are null on Kubernetes
+        List<AbstractResourceOperator<?, ?, ?, ?, ?>> operators = asList(
+                secretOperations, serviceOperations, routeOperations, zkSetOperations, kafkaSetOperations,
+                configMapOperations, pvcOperations, deploymentOperations, serviceAccountOperations, roleBindingOperations,
+                kafkaOperator, connectOperator, connectS2IOperator, mirrorMakerOperator, kafkaBridgeOperator,
+                kafkaConnectorOperator, mirrorMaker2Operator, kafkaRebalanceOperator, networkPolicyOperator,
+                podDisruptionBudgetOperator, podOperations, ingressOperations, imagesStreamOperations,
+                buildConfigOperations, deploymentConfigOperations);
+
+        for (AbstractResourceOperator<?, ?, ?, ?, ?> operator : operators) {
+            if (operator != null) {
+                operator.enableOperationsPool(pool);
+            }
+        }
+
+        storageClassOperations.enableOperationsPool(pool);
+        nodeOperator.enableOperationsPool(pool);
+
+        this.operationsPool = pool;
+    }
+
+    /**
+     * Enables skipping the patches of the resources owned by the operands which did not change since they were last
+     * created or patched by this operator.
+     */
+    public void enablePatchSkipping() {
+        secretOperations.enablePatchSkipping(metricsProvider);
+        serviceOperations.enablePatchSkipping(metricsProvider);
+        zkSetOperations.enablePatchSkipping(metricsProvider);
+        kafkaSetOperations.enablePatchSkipping(metricsProvider);
+        configMapOperations.enablePatchSkipping(metricsProvider);
+        pvcOperations.enablePatchSkipping(metricsProvider);
+        deploymentOperations.enablePatchSkipping(metricsProvider);
+        serviceAccountOperations.enablePatchSkipping(metricsProvider);
+        roleBindingOperations.enablePatchSkipping(metricsProvider);
+        networkPolicyOperator.enablePatchSkipping(metricsProvider);
+        podDisruptionBudgetOperator.enablePatchSkipping(metricsProvider);
+        ingressOperations.enablePatchSkipping(metricsProvider);
+
+        // The OpenShift specific operators are null on Kubernetes
+        if (routeOperations != null) {
+            routeOperations.enablePatchSkipping(metricsProvider);
+        }
+        if (imagesStreamOperations != null) {
+            imagesStreamOperations.enablePatchSkipping(metricsProvider);
+        }
+        if (buildConfigOperations != null) {
+            buildConfigOperations.enablePatchSkipping(metricsProvider);
+        }
+        if (deploymentConfigOperations != null) {
+            deploymentConfigOperations.enablePatchSkipping(metricsProvider);
+        }
+    }
 }
@@ -7,10 +7,10 @@ package io.strimzi.operator.cluster.operator.resource;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.operator.resource.AbstractResourceDiff;
+import io.strimzi.operator.common.operator.resource.JsonTreeDiff;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -25,34 +25,34 @@ public class StatefulSetDiff extends AbstractResourceDiff {
 
     private static final String SHORTENED_STRIMZI_DOMAIN = Annotations.STRIMZI_DOMAIN.substring(0, Annotations.STRIMZI_DOMAIN.length() - 1);
 
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-        "^(/metadata/managedFields"
-        + "|/spec/revisionHistoryLimit"
-        + "|/spec/template/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1generation"
-        + "|/spec/template/spec/initContainers/[0-9]+/resources"
-        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePath"
-        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePolicy"
-        + "|/spec/template/spec/initContainers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
-        + "|/spec/template/spec/containers/[0-9]+/resources"
-        + "|/spec/template/spec/containers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
-        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/failureThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/periodSeconds"
-        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/successThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/failureThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/periodSeconds"
-        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/successThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePath"
-        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePolicy"
-        + "|/spec/template/spec/dnsPolicy"
-        + "|/spec/template/spec/restartPolicy"
-        + "|/spec/template/spec/securityContext"
-        + "|/spec/template/spec/volumes/[0-9]+/configMap/defaultMode"
-        + "|/spec/template/spec/volumes/[0-9]+/secret/defaultMode"
-        + "|/spec/volumeClaimTemplates/[0-9]+/status"
-        + "|/spec/volumeClaimTemplates/[0-9]+/spec/volumeMode"
-        + "|/spec/volumeClaimTemplates/[0-9]+/spec/dataSource"
-        + "|/spec/template/spec/serviceAccount"
-        + "|/status)$");
+    private static final JsonTreeDiff DIFF = new JsonTreeDiff(
+        "/metadata/managedFields",
+        "/spec/revisionHistoryLimit",
+        "/spec/template/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1generation",
+        "/spec/template/spec/initContainers/*/resources",
+        "/spec/template/spec/initContainers/*/terminationMessagePath",
+        "/spec/template/spec/initContainers/*/terminationMessagePolicy",
+        "/spec/template/spec/initContainers/*/env/*/valueFrom/fieldRef/apiVersion",
+        "/spec/template/spec/containers/*/resources",
+        "/spec/template/spec/containers/*/env/*/valueFrom/fieldRef/apiVersion",
+        "/spec/template/spec/containers/*/livenessProbe/failureThreshold",
+        "/spec/template/spec/containers/*/livenessProbe/periodSeconds",
+        "/spec/template/spec/containers/*/livenessProbe/successThreshold",
+        "/spec/template/spec/containers/*/readinessProbe/failureThreshold",
+        "/spec/template/spec/containers/*/readinessProbe/periodSeconds",
+        "/spec/template/spec/containers/*/readinessProbe/successThreshold",
+        "/spec/template/spec/containers/*/terminationMessagePath",
+        "/spec/template/spec/containers/*/terminationMessagePolicy",
+        "/spec/template/spec/dnsPolicy",
+        "/spec/template/spec/restartPolicy",
+        "/spec/template/spec/securityContext",
+        "/spec/template/spec/volumes/*/configMap/defaultMode",
+        "/spec/template/spec/volumes/*/secret/defaultMode",
+        "/spec/volumeClaimTemplates/*/status",
+        "/spec/volumeClaimTemplates/*/spec/volumeMode",
+        "/spec/volumeClaimTemplates/*/spec/dataSource",
+        "/spec/template/spec/serviceAccount",
+        "/status");
 
     private static final Pattern RESOURCE_PATH = Pattern.compile("^/spec/template/spec/(?:initContainers|containers)/[0-9]+/resources/(?:limits|requests)/(memory|cpu)$");
     private static final Pattern VOLUME_SIZE = Pattern.compile("^/spec/volumeClaimTemplates/[0-9]+/spec/resources/.*$");
@@ -72,36 +72,52 @@ public class StatefulSetDiff extends AbstractResourceDiff {
     public StatefulSetDiff(StatefulSet current, StatefulSet desired) {
         JsonNode source = patchMapper().valueToTree(current);
         JsonNode target = patchMapper().valueToTree(desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-        int num = 0;
-        boolean changesVolumeClaimTemplate = false;
-        boolean changesVolumeSize = false;
-        boolean changesSpecTemplate = false;
-        boolean changesLabels = false;
-        boolean changesSpecReplicas = false;
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                ObjectMeta md = current.getMetadata();
-                log.debug("StatefulSet {}/{} ignoring diff {}", md.getNamespace(), md.getName(), d);
-                continue;
-            }
+        ObjectMeta md = current.getMetadata();
+
+        DiffVisitor visitor = new DiffVisitor(md);
+        DIFF.diff(source, target, visitor);
+
+        this.isEmpty = visitor.num == 0;
+        this.changesLabels = visitor.changesLabels;
+        this.changesSpecReplicas = visitor.changesSpecReplicas;
+        this.changesSpecTemplate = visitor.changesSpecTemplate;
+        this.changesVolumeClaimTemplate = visitor.changesVolumeClaimTemplate;
+        this.changesVolumeSize = visitor.changesVolumeSize;
+    }
+
+    /**
+     * Collects the differences which are not ignorable
+     */
+    private static class DiffVisitor implements JsonTreeDiff.Visitor {
+        private final ObjectMeta md;
+        private int num = 0;
+        private boolean changesVolumeClaimTemplate = false;
+        private boolean changesVolumeSize = false;
+        private boolean changesSpecTemplate = false;
+        private boolean changesLabels = false;
+        private boolean changesSpecReplicas = false;
+
+        DiffVisitor(ObjectMeta md) {
+            this.md = md;
+        }
+
+        @Override
+        public boolean difference(String pathValue, JsonNode source, JsonNode target) {
             Matcher resourceMatchers = RESOURCE_PATH.matcher(pathValue);
             if (resourceMatchers.matches()) {
-                if ("replace".equals(d.path("op").asText())) {
-                    boolean same = compareMemoryAndCpuResources(source, target, pathValue, resourceMatchers);
+                // Replaced value
+                if (!source.isMissingNode() && !target.isMissingNode()) {
+                    boolean same = compareMemoryAndCpuResources(source, target, resourceMatchers);
                     if (same) {
-                        ObjectMeta md = current.getMetadata();
-                        log.debug("StatefulSet {}/{} ignoring diff {}", md.getNamespace(), md.getName(), d);
-                        continue;
+                        ignored(pathValue, source, target);
+                        return true;
                     }
                 }
             }
             if (log.isDebugEnabled()) {
-                ObjectMeta md = current.getMetadata();
-                log.debug("StatefulSet {}/{} differs: {}", md.getNamespace(), md.getName(), d);
-                log.debug("Current StatefulSet path {} has value {}", pathValue, lookupPath(source, pathValue));
-                log.debug("Desired StatefulSet path {} has value {}", pathValue, lookupPath(target, pathValue));
+                log.debug("StatefulSet {}/{} differs at path {}", md.getNamespace(), md.getName(), pathValue);
+                log.debug("Current StatefulSet path {} has value {}", pathValue, source);
+                log.debug("Desired StatefulSet path {} has value {}", pathValue, target);
             }
 
             num++;
@@ -114,27 +130,28 @@ public class StatefulSetDiff extends AbstractResourceDiff {
             changesSpecTemplate |= equalsOrPrefix("/spec/template", pathValue);
             changesLabels |= equalsOrPrefix("/metadata/labels", pathValue);
             changesSpecReplicas |= equalsOrPrefix("/spec/replicas", pathValue);
+            return true;
+        }
+
+        @Override
+        public void ignored(String pathValue, JsonNode source, JsonNode target) {
+            log.debug("StatefulSet {}/{} ignoring diff at path {}", md.getNamespace(), md.getName(), pathValue);
+        }
+
+        @Override
+        public boolean reportIgnored() {
+            return log.isDebugEnabled();
         }
-        this.isEmpty = num == 0;
-        this.changesLabels = changesLabels;
-        this.changesSpecReplicas = changesSpecReplicas;
-        this.changesSpecTemplate = changesSpecTemplate;
-        this.changesVolumeClaimTemplate = changesVolumeClaimTemplate;
-        this.changesVolumeSize = changesVolumeSize;
     }
 
-    private boolean isVolumeSizeChanged(String pathValue, JsonNode source, JsonNode target) {
+    private static boolean isVolumeSizeChanged(String pathValue, JsonNode current, JsonNode desired) {
         if (VOLUME_SIZE.matcher(pathValue).matches()) {
-            JsonNode current = lookupPath(source, pathValue);
-            JsonNode desired = lookupPath(target, pathValue);
             return StorageUtils.parseMemory(current.asText()) != StorageUtils.parseMemory(desired.asText());
         }
         return false;
     }
 
-    boolean compareMemoryAndCpuResources(JsonNode source, JsonNode target, String pathValue, Matcher resourceMatchers) {
-        JsonNode s = lookupPath(source, pathValue);
-        JsonNode t = lookupPath(target, pathValue);
+    static boolean compareMemoryAndCpuResources(JsonNode s, JsonNode t, Matcher resourceMatchers) {
         String group = resourceMatchers.group(1);
         if (!s.isMissingNode()
             && !t.isMissingNode()) {
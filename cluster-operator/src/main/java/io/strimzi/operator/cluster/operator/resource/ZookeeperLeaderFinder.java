@@ -6,11 +6,15 @@ package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
@@ -19,6 +23,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
@@ -32,6 +37,10 @@ import java.security.cert.CertificateFactory;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -52,11 +61,42 @@ public class ZookeeperLeaderFinder {
     private final Vertx vertx;
     final SecretOperator secretOperator;
     private final Supplier<BackOff> backOffSupplier;
+    private final MetricsProvider metrics;
+    private Timer leaderDiscoveryTimer;
 
     public ZookeeperLeaderFinder(Vertx vertx, SecretOperator secretOperator, Supplier<BackOff> backOffSupplier) {
+        this(vertx, secretOperator, backOffSupplier, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance
+     * @param secretOperator    Secret operator used to get the cluster CA certificate
+     * @param backOffSupplier   Supplier of the back-off used between the attempts to find the leader
+     * @param metrics           Metrics provider used for the leader discovery time, or null
+     */
+    public ZookeeperLeaderFinder(Vertx vertx, SecretOperator secretOperator, Supplier<BackOff> backOffSupplier, MetricsProvider metrics) {
         this.vertx = vertx;
         this.secretOperator = secretOperator;
         this.backOffSupplier = backOffSupplier;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Records the time needed to find the leader. The timer is registered on first use, so that the finder can be
+     * created before the metrics backend is available.
+     */
+    private synchronized void recordLeaderDiscovery(long durationNanos) {
+        if (metrics == null) {
+            return;
+        }
+        if (leaderDiscoveryTimer == null) {
+            leaderDiscoveryTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "zookeeper.leader.discovery",
+                    "The time needed to find the leader of a ZooKeeper cluster, including the back-off between the attempts",
+                    Tags.empty());
+        }
+        leaderDiscoveryTimer.record(durationNanos, TimeUnit.NANOSECONDS);
     }
 
     /*test*/ NetClientOptions clientOptions(Secret coCertKeySecret, Secret clusterCaCertificateSecret) {
@@ -159,10 +199,13 @@ public class ZookeeperLeaderFinder {
                                             NetClientOptions netClientOptions) {
         Promise<Integer> result = Promise.promise();
         BackOff backOff = backOffSupplier.get();
+        long startNanos = System.nanoTime();
+        // A single client, and so a single TLS context, is used for all the connections of the search
+        NetClient netClient = vertx.createNetClient(netClientOptions);
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long tid) {
-                zookeeperLeader(pods, netClientOptions).onComplete(leader -> {
+                zookeeperLeader(pods, netClient).onComplete(leader -> {
                     if (leader.succeeded()) {
                         if (leader.result() != UNKNOWN_LEADER) {
                             result.complete(leader.result());
@@ -172,6 +215,8 @@ public class ZookeeperLeaderFinder {
                     } else {
                         log.debug("Ignoring error", leader.cause());
                         if (backOff.done()) {
+                            log.warn("Giving up trying to find the leader of {}/{} after {} attempts: {}",
+                                    namespace, cluster, backOff.maxAttempts(), leader.cause().getMessage());
                             result.complete(UNKNOWN_LEADER);
                         } else {
                             rescheduleOrComplete(tid);
@@ -200,53 +245,92 @@ public class ZookeeperLeaderFinder {
             }
         };
         handler.handle(null);
-        return result.future();
+        return result.future().onComplete(ignored -> {
+            netClient.close();
+            recordLeaderDiscovery(System.nanoTime() - startNanos);
+        });
     }
 
     /**
-     * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Pod, NetClientOptions)}.
+     * Find the leader by testing all the pods in the given list at the same time
+     * using {@link #isLeader(Pod, NetClient)}. Completes with the index of the first pod answering that it is
+     * the leader, without waiting for the other pods, or with {@link #UNKNOWN_LEADER} when no pod is the leader.
+     * When no pod is the leader and some of the pods could not be checked, fails with an error reporting the
+     * failures of all these pods.
      */
-    private Future<Integer> zookeeperLeader(List<Pod> pods, NetClientOptions netClientOptions) {
-        try {
-            Future<Integer> f = Future.succeededFuture(UNKNOWN_LEADER);
-            for (int i = 0; i < pods.size(); i++) {
-                final int podNum = i;
-                Pod pod = pods.get(i);
-                String podName = pod.getMetadata().getName();
-                f = f.compose(leader -> {
-                    if (leader == UNKNOWN_LEADER) {
-                        log.debug("Checker whether {} is leader", podName);
-                        return isLeader(pod, netClientOptions).map(isLeader -> {
-                            if (isLeader != null && isLeader) {
-                                log.info("Pod {} is leader", podName);
-                                return podNum;
-                            } else {
-                                log.info("Pod {} is not a leader", podName);
-                                return UNKNOWN_LEADER;
-                            }
-                        });
+    /*test*/ Future<Integer> zookeeperLeader(List<Pod> pods, NetClient netClient) {
+        Promise<Integer> result = Promise.promise();
+        AtomicInteger remaining = new AtomicInteger(pods.size());
+        Map<String, Throwable> errors = new ConcurrentHashMap<>();
+        for (int i = 0; i < pods.size(); i++) {
+            final int podNum = i;
+            Pod pod = pods.get(i);
+            String podName = pod.getMetadata().getName();
+            Future<Boolean> isLeader;
+            try {
+                log.debug("Checker whether {} is leader", podName);
+                isLeader = isLeader(pod, netClient);
+            } catch (Throwable t) {
+                isLeader = Future.failedFuture(t);
+            }
+            isLeader.onComplete(ar -> {
+                if (ar.succeeded() && Boolean.TRUE.equals(ar.result())) {
+                    log.info("Pod {} is leader", podName);
+                    result.tryComplete(podNum);
+                } else if (ar.failed()) {
+                    errors.put(podName, ar.cause());
+                } else {
+                    log.info("Pod {} is not a leader", podName);
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    if (!errors.isEmpty()) {
+                        result.tryFail(leaderCheckFailure(errors));
                     } else {
-                        return Future.succeededFuture(leader);
+                        result.tryComplete(UNKNOWN_LEADER);
                     }
-                });
+                }
+            });
+        }
+        if (pods.isEmpty()) {
+            result.tryComplete(UNKNOWN_LEADER);
+        }
+        return result.future();
+    }
+
+    /**
+     * Creates an error reporting the failures of all the pods which could not be checked. The first failure is the
+     * cause of the error and the other failures are suppressed by it.
+     */
+    private static RuntimeException leaderCheckFailure(Map<String, Throwable> errors) {
+        StringBuilder message = new StringBuilder("Failed to check whether ")
+                .append(errors.size())
+                .append(" pod(s) are the leader:");
+        Throwable cause = null;
+        for (Map.Entry<String, Throwable> error : new TreeMap<>(errors).entrySet()) {
+            message.append(' ').append(error.getKey()).append(": ").append(error.getValue().getMessage()).append(';');
+            if (cause == null) {
+                cause = error.getValue();
             }
-            return f;
-        } catch (Throwable t) {
-            return Future.failedFuture(t);
         }
+        RuntimeException exception = new RuntimeException(message.toString(), cause);
+        for (Throwable error : errors.values()) {
+            if (error != cause) {
+                exception.addSuppressed(error);
+            }
+        }
+        return exception;
     }
 
     /**
-     * Returns whether the given pod is the zookeeper leader.
+     * Returns whether the given pod is the zookeeper leader. Fails when the pod could not be checked.
      */
-    protected Future<Boolean> isLeader(Pod pod, NetClientOptions netClientOptions) {
+    protected Future<Boolean> isLeader(Pod pod, NetClient netClient) {
 
         Promise<Boolean> promise = Promise.promise();
         String host = host(pod);
         int port = port(pod);
         log.debug("Connecting to zookeeper on {}:{}", host, port);
-        vertx.createNetClient(netClientOptions)
+        netClient
             .connect(port, host, ar -> {
                 if (ar.failed()) {
                     log.warn("ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
@@ -288,10 +372,8 @@ public class ZookeeperLeaderFinder {
                 }
 
             });
-        return promise.future().recover(error -> {
-            log.debug("ZK {}:{}: Error trying to determine whether leader ({}) => not leader", host, port, error);
-            return Future.succeededFuture(Boolean.FALSE);
-        });
+        // The failures are not turned into "not leader", so that they can be reported when no leader is found
+        return promise.future().onFailure(error -> log.debug("ZK {}:{}: Error trying to determine whether leader", host, port, error));
     }
 
     /** The hostname for connecting to zookeeper in the given pod. */
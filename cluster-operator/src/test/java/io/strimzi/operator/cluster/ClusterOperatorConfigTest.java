@@ -54,6 +54,166 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(ClusterOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS));
         assertThat(config.getOperationTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS));
+        assertThat(config.isResourceCacheEnabled(), is(ClusterOperatorConfig.DEFAULT_RESOURCE_CACHE_ENABLED));
+        assertThat(config.getResourceCacheMaxStalenessMs(), is(ClusterOperatorConfig.DEFAULT_RESOURCE_CACHE_MAX_STALENESS_MS));
+    }
+
+    @Test
+    public void testResourceCacheEnvVars() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED, "true");
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_MAX_STALENESS_MS, "60000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        assertThat(config.isResourceCacheEnabled(), is(true));
+        assertThat(config.getResourceCacheMaxStalenessMs(), is(60_000L));
+    }
+
+    @Test
+    public void testReconciliationSchedulingEnvVars() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "5");
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_SPREAD_MS, "10000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        assertThat(config.getMaxConcurrentReconciliations(), is(5));
+        assertThat(config.getReconciliationSpreadMs(), is(10_000L));
+    }
+
+    @Test
+    public void testSkipUnchangedReconciliationsEnvVar() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isSkipUnchangedReconciliations(), is(false));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS, "true");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isSkipUnchangedReconciliations(), is(true));
+    }
+
+    @Test
+    public void testSkipUnchangedPatchesEnvVar() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isSkipUnchangedPatches(), is(false));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_SKIP_UNCHANGED_PATCHES, "true");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isSkipUnchangedPatches(), is(true));
+    }
+
+    @Test
+    public void testConnectApiEnvVars() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECT_API_MAX_POOL_SIZE, "10");
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECT_API_REQUEST_TIMEOUT_MS, "30000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getConnectApiMaxPoolSize(), is(10));
+        assertThat(config.getConnectApiRequestTimeoutMs(), is(30_000L));
+    }
+
+    @Test
+    public void testAdminClientCacheIdleTimeoutEnvVar() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getAdminClientCacheIdleTimeoutMs(), is(0L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_ADMIN_CLIENT_CACHE_IDLE_TIMEOUT_MS, "300000");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getAdminClientCacheIdleTimeoutMs(), is(300_000L));
+    }
+
+    @Test
+    public void testMaxParallelBrokerRestartsEnvVar() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxParallelBrokerRestarts(), is(1));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_PARALLEL_BROKER_RESTARTS, "3");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxParallelBrokerRestarts(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_PARALLEL_BROKER_RESTARTS, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testCertManagerEnvVar() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManager(), is(ClusterOperatorConfig.CERT_MANAGER_OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "BouncyCastle");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManager(), is(ClusterOperatorConfig.CERT_MANAGER_BOUNCYCASTLE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "keytool");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testCertIssuanceThreadsEnvVar() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertIssuanceThreads(), is(ClusterOperatorConfig.DEFAULT_CERT_ISSUANCE_THREADS));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_ISSUANCE_THREADS, "4");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertIssuanceThreads(), is(4));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_ISSUANCE_THREADS, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testKubernetesOperationsEnvVars() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKubernetesOperationsPoolSize(), is(ClusterOperatorConfig.DEFAULT_KUBERNETES_OPERATIONS_POOL_SIZE));
+        assertThat(config.getKubernetesOperationsMaxConcurrentPerKind(), is(ClusterOperatorConfig.DEFAULT_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPERATIONS_POOL_SIZE, "40");
+        envVars.put(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND, "8");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKubernetesOperationsPoolSize(), is(40));
+        assertThat(config.getKubernetesOperationsMaxConcurrentPerKind(), is(8));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPERATIONS_POOL_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPERATIONS_POOL_SIZE, "40");
+        envVars.put(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPERATIONS_MAX_CONCURRENT_PER_KIND, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testKubernetesApiMaxRateEnvVar() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKubernetesApiMaxRate(), is(ClusterOperatorConfig.DEFAULT_KUBERNETES_API_MAX_RATE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KUBERNETES_API_MAX_RATE, "50");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKubernetesApiMaxRate(), is(50));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KUBERNETES_API_MAX_RATE, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testInvalidConnectApiMaxPoolSizeThrows() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECT_API_MAX_POOL_SIZE, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testReconciliationSpreadLongerThanIntervalThrows() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_SPREAD_MS, envVars.get(ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_INTERVAL_MS));
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
     }
 
     @Test
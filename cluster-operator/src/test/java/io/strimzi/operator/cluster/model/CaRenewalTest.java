@@ -6,6 +6,8 @@ package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.Subject;
 import io.vertx.junit5.VertxExtension;
@@ -17,6 +19,10 @@ import java.io.IOException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -326,4 +332,75 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parallelIssuanceOfStatefulSetCertificates() throws IOException {
+        int replicas = 3;
+        // Every certificate is generated only once all of them are being generated at the same time
+        CountDownLatch inProgress = new CountDownLatch(replicas);
+
+        Ca mockedCa = new Ca(null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            public boolean isExpiring(Secret secret, String certKey)  {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject,
+                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+                inProgress.countDown();
+
+                try {
+                    if (!inProgress.await(10, TimeUnit.SECONDS)) {
+                        throw new IOException("The certificates were not generated in parallel");
+                    }
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+
+                return new CertAndKey(
+                        ("new-key-" + subject.commonName()).getBytes(),
+                        ("new-cert-" + subject.commonName()).getBytes(),
+                        ("new-truststore-" + subject.commonName()).getBytes(),
+                        ("new-keystore-" + subject.commonName()).getBytes(),
+                        "new-password-" + subject.commonName()
+                );
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(replicas);
+        Timer timer = new SimpleMeterRegistry().timer("certificates.issuance");
+        mockedCa.setCertIssuance(executor, timer);
+
+        Function<Integer, Subject> subjectFn = i -> {
+            Subject subject = new Subject();
+            subject.setCommonName("pod" + i);
+            return subject;
+        };
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        try {
+            Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(replicas,
+                    subjectFn,
+                    null,
+                    podNameFn,
+                    true);
+
+            assertThat(newCerts.size(), is(replicas));
+            for (int i = 0; i < replicas; i++) {
+                assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert-pod" + i));
+                assertThat(new String(newCerts.get("pod" + i).key()), is("new-key-pod" + i));
+                assertThat(new String(newCerts.get("pod" + i).keyStore()), is("new-keystore-pod" + i));
+                assertThat(newCerts.get("pod" + i).storePassword(), is("new-password-pod" + i));
+            }
+            assertThat(timer.count(), is((long) replicas));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation and the classification of a large broker configuration, as done for every broker of every
+ * Kafka cluster in each reconciliation.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.mainClass=io.strimzi.operator.cluster.model.KafkaConfigurationBenchmark
+ * -Dexec.classpathScope=test} in the cluster-operator module.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class KafkaConfigurationBenchmark {
+
+    private KafkaVersion kafkaVersion;
+    private KafkaConfiguration configuration;
+
+    @Setup
+    public void setup() {
+        kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion();
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("auto.create.topics.enable", "false");
+        config.put("background.threads", 10);
+        config.put("compression.type", "producer");
+        config.put("default.replication.factor", 3);
+        config.put("delete.topic.enable", "true");
+        config.put("log.cleaner.enable", "true");
+        config.put("log.cleaner.threads", 2);
+        config.put("log.cleanup.policy", "compact, delete");
+        config.put("log.flush.interval.messages", 10000);
+        config.put("log.message.format.version", "2.6");
+        config.put("log.message.timestamp.type", "CreateTime");
+        config.put("log.retention.bytes", 1073741824L);
+        config.put("log.retention.check.interval.ms", 300000);
+        config.put("log.retention.hours", 168);
+        config.put("log.roll.hours", 168);
+        config.put("log.segment.bytes", 1073741824);
+        config.put("message.max.bytes", 1048588);
+        config.put("min.insync.replicas", 2);
+        config.put("num.io.threads", 8);
+        config.put("num.network.threads", 3);
+        config.put("num.partitions", 12);
+        config.put("num.recovery.threads.per.data.dir", 1);
+        config.put("num.replica.fetchers", 4);
+        config.put("offsets.retention.minutes", 10080);
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("replica.lag.time.max.ms", 30000);
+        config.put("socket.receive.buffer.bytes", 102400);
+        config.put("socket.request.max.bytes", 104857600);
+        config.put("socket.send.buffer.bytes", 102400);
+        config.put("transaction.state.log.min.isr", 2);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("unclean.leader.election.enable", "false");
+        config.put("zookeeper.session.timeout.ms", 18000);
+        // Configurations of broker plugins which are not known to the config model
+        for (int i = 0; i < 50; i++) {
+            config.put("plugin.config." + i, "value-" + i);
+        }
+
+        configuration = new KafkaConfiguration(config.entrySet());
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        blackhole.consume(configuration.validate(kafkaVersion));
+    }
+
+    @Benchmark
+    public void classify(Blackhole blackhole) {
+        blackhole.consume(configuration.readOnlyConfigs(kafkaVersion));
+        blackhole.consume(configuration.perBrokerConfigs(kafkaVersion));
+        blackhole.consume(configuration.clusterWideConfigs(kafkaVersion));
+        blackhole.consume(configuration.unknownConfigs(kafkaVersion));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KafkaConfigurationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -7,10 +7,15 @@ package io.strimzi.operator.cluster.model;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class KafkaConfigurationTests {
 
@@ -91,4 +96,26 @@ public class KafkaConfigurationTests {
     public void validVersion() {
         assertNoError("inter.broker.protocol.version", "2.5-IV0");
     }
+
+    @Test
+    public void configModelIsReadOnlyOnce() {
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion) == KafkaConfiguration.readConfigModel(kafkaVersion), is(true));
+        assertThrows(UnsupportedOperationException.class, () -> KafkaConfiguration.readConfigModel(kafkaVersion).remove("broker.id"));
+    }
+
+    @Test
+    public void configsByScope() {
+        Map<String, String> config = new HashMap<>();
+        config.put("broker.id", "1");
+        config.put("log.retention.ms", "86400000");
+        config.put("sasl.enabled.mechanisms", "PLAIN");
+        config.put("foo", "bar");
+        KafkaConfiguration kafkaConfiguration = KafkaConfiguration.unvalidated(config);
+
+        assertThat(kafkaConfiguration.readOnlyConfigs(kafkaVersion), is(singleton("broker.id")));
+        assertThat(kafkaConfiguration.clusterWideConfigs(kafkaVersion), is(singleton("log.retention.ms")));
+        assertThat(kafkaConfiguration.perBrokerConfigs(kafkaVersion), is(singleton("sasl.enabled.mechanisms")));
+        assertThat(kafkaConfiguration.unknownConfigs(kafkaVersion), is(singleton("foo")));
+        assertThat(kafkaConfiguration.unknownConfigsWithValues(kafkaVersion), is(singleton("foo=bar")));
+    }
 }
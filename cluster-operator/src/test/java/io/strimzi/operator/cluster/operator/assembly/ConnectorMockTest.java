@@ -67,6 +67,7 @@ import java.util.stream.Collectors;
 
 import static io.strimzi.test.TestUtils.map;
 import static io.strimzi.test.TestUtils.waitFor;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
@@ -141,6 +142,25 @@ public class ConnectorMockTest {
         vertx.close();
     }
 
+    /**
+     * Mocks the listing of the running connectors of a Connect cluster together with their config and status
+     */
+    private void mockListWithInfoAndStatus() {
+        when(api.listWithInfoAndStatus(any(), anyInt())).thenAnswer(i -> {
+            String host = i.getArgument(0);
+            String matchingKeyPrefix = host + "##";
+            return Future.succeededFuture(runningConnectors.entrySet().stream()
+                    .filter(e -> e.getKey().startsWith(matchingKeyPrefix))
+                    .map(e -> e.getKey().substring(matchingKeyPrefix.length()))
+                    .collect(Collectors.toMap(connectorName -> connectorName, connectorName -> map(
+                            "info", map(
+                                    "name", connectorName,
+                                    "config", new HashMap<>(runningConnectors.get(key(host, connectorName)).config.getMap()),
+                                    "tasks", emptyList()),
+                            "status", kafkaConnectApiStatusMock(host, connectorName).result()))));
+        });
+    }
+
     @BeforeEach
     public void setup(VertxTestContext testContext) {
         client = new MockKube()
@@ -157,14 +177,7 @@ public class ConnectorMockTest {
         api = mock(KafkaConnectApi.class);
         runningConnectors = new HashMap<>();
 
-        when(api.list(any(), anyInt())).thenAnswer(i -> {
-            String host = i.getArgument(0);
-            String matchingKeyPrefix = host + "##";
-            return Future.succeededFuture(runningConnectors.keySet().stream()
-                    .filter(s -> s.startsWith(matchingKeyPrefix))
-                    .map(s -> s.substring(matchingKeyPrefix.length()))
-                    .collect(Collectors.toList()));
-        });
+        mockListWithInfoAndStatus();
         when(api.listConnectorPlugins(any(), anyInt())).thenAnswer(i -> {
             ConnectorPlugin connectorPlugin = new ConnectorPluginBuilder()
                     .withConnectorClass("io.strimzi.MyClass")
@@ -497,7 +510,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -518,7 +531,7 @@ public class ConnectorMockTest {
             .done();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -557,7 +570,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
             "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -577,7 +590,7 @@ public class ConnectorMockTest {
                 .done();
         waitForConnectReady(connectName);
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered three times (Connect creation, Connector Status update, Connect Status update)
         verify(api, times(3)).createOrUpdatePutRequest(
@@ -617,7 +630,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -638,7 +651,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered twice (Connect creation, Connector Status update)
         verify(api, times(2)).createOrUpdatePutRequest(
@@ -678,7 +691,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
                 "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -699,7 +712,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered at least two times (Connect creation, Connector Status update)
         verify(api, atLeast(2)).createOrUpdatePutRequest(
@@ -838,7 +851,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered atleast once (Connect creation)
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -857,7 +870,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName,
                 "ConnectRestException", "GET /foo returned 500 (Internal server error): Bad stuff happened");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -885,7 +898,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -906,7 +919,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -971,7 +984,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -992,14 +1005,14 @@ public class ConnectorMockTest {
                 .done();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithInfoAndStatus(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1035,7 +1048,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -1056,14 +1069,14 @@ public class ConnectorMockTest {
                 .done();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithInfoAndStatus(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithInfoAndStatus(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -0,0 +1,138 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaConnectApiImplTest {
+    private static Vertx vertx;
+    private HttpServer server;
+    private int port;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void startServer(VertxTestContext context) {
+        connections.set(0);
+        server = vertx.createHttpServer()
+            .connectionHandler(connection -> connections.incrementAndGet())
+            .requestHandler(request -> {
+                // Requests for the connector called "slow" never get a response
+                if (!request.path().startsWith("/connectors/slow")) {
+                    request.response()
+                            .putHeader("Content-Type", "application/json")
+                            .end("[\"my-connector\"]");
+                }
+            })
+            .listen(0, context.succeeding(httpServer -> {
+                port = httpServer.actualPort();
+                context.completeNow();
+            }));
+    }
+
+    @AfterEach
+    public void stopServer(VertxTestContext context) {
+        server.close(context.succeeding(v -> context.completeNow()));
+    }
+
+    @Test
+    public void testRequestsReuseKeepAliveConnection(VertxTestContext context) {
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, 5, 0, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        Checkpoint async = context.checkpoint();
+
+        client.list("localhost", port)
+            .compose(ignored -> client.list("localhost", port))
+            .compose(ignored -> client.list("localhost", port))
+            .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                assertThat(connectors, is(singletonList("my-connector")));
+                assertThat(connections.get(), is(1));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testRequestTimeout(VertxTestContext context) {
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, 5, 100, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        Checkpoint async = context.checkpoint();
+
+        client.status("localhost", port, "slow")
+            .onComplete(context.failing(error -> context.verify(() -> {
+                assertThat(error, instanceOf(TimeoutException.class));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testRequestDurationIsRecorded(VertxTestContext context) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, 5, 100, new MicrometerMetricsProvider(registry));
+        Checkpoint async = context.checkpoint();
+
+        client.list("localhost", port)
+            .compose(ignored -> client.list("localhost", port))
+            .compose(ignored -> client.status("localhost", port, "slow").recover(error -> Future.succeededFuture()))
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                Timer listTimer = registry.find(KafkaConnectApiImpl.REQUEST_DURATION_METRIC)
+                        .tag("method", "GET")
+                        .tag("endpoint", "/connectors")
+                        .timer();
+                assertThat(listTimer, notNullValue());
+                assertThat(listTimer.count(), is(2L));
+
+                Timer statusTimer = registry.find(KafkaConnectApiImpl.REQUEST_DURATION_METRIC)
+                        .tag("method", "GET")
+                        .tag("endpoint", "/connectors/{name}/status")
+                        .timer();
+                assertThat(statusTimer, notNullValue());
+                assertThat(statusTimer.count(), is(1L));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testDefaultConstructorWithoutMetricsBackend(VertxTestContext context) {
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx);
+        Checkpoint async = context.checkpoint();
+
+        client.list("localhost", port)
+            .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                assertThat(connectors, is(singletonList("my-connector")));
+                async.flag();
+            })));
+    }
+}
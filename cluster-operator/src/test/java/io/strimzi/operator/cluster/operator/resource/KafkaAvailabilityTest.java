@@ -36,12 +36,17 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -201,25 +206,36 @@ public class KafkaAvailabilityTest {
                 } else {
                     Map<String, TopicDescription> tds = topics.entrySet().stream().collect(Collectors.toMap(
                         e -> e.getKey(),
-                        e -> {
-                            TSB tsb = e.getValue();
-                            return new TopicDescription(tsb.name, tsb.internal,
-                                    tsb.partitions.entrySet().stream().map(e1 -> {
-                                        TSB.PSB psb = e1.getValue();
-                                        return new TopicPartitionInfo(psb.id,
-                                                psb.leader != null ? node(psb.leader) : Node.noNode(),
-                                                Arrays.stream(psb.replicaOn).boxed().map(broker -> node(broker)).collect(Collectors.toList()),
-                                                Arrays.stream(psb.isr).boxed().map(broker -> node(broker)).collect(Collectors.toList()));
-                                    }).collect(Collectors.toList()));
-                        }
+                        e -> topicDescription(e.getValue())
                     ));
                     when(dtr.all()).thenReturn(KafkaFuture.completedFuture(tds));
-                    when(dtr.values()).thenThrow(notImplemented());
                 }
+                Map<String, KafkaFuture<TopicDescription>> values = new HashMap<>();
+                for (String topicName : topicNames) {
+                    if (describeTopicsResult.containsKey(topicName)) {
+                        values.put(topicName, failedFuture(describeTopicsResult.get(topicName)));
+                    } else if (!topics.containsKey(topicName)) {
+                        values.put(topicName, failedFuture(new UnknownTopicOrPartitionException()));
+                    } else {
+                        values.put(topicName, KafkaFuture.completedFuture(topicDescription(topics.get(topicName))));
+                    }
+                }
+                when(dtr.values()).thenReturn(values);
                 return dtr;
             });
         }
 
+        private TopicDescription topicDescription(TSB tsb) {
+            return new TopicDescription(tsb.name, tsb.internal,
+                    tsb.partitions.entrySet().stream().map(e1 -> {
+                        TSB.PSB psb = e1.getValue();
+                        return new TopicPartitionInfo(psb.id,
+                                psb.leader != null ? node(psb.leader) : Node.noNode(),
+                                Arrays.stream(psb.replicaOn).boxed().map(broker -> node(broker)).collect(Collectors.toList()),
+                                Arrays.stream(psb.isr).boxed().map(broker -> node(broker)).collect(Collectors.toList()));
+                    }).collect(Collectors.toList()));
+        }
+
         private Node node(int id) {
             return nodes.computeIfAbsent(id, x -> {
                 throw new RuntimeException("Unknown node " + id);
@@ -533,6 +549,175 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testTopicMetadataIsReusedAcrossBrokers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(3);
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> kafkaAvailability.canRoll(1))
+            .compose(canRoll -> kafkaAvailability.canRoll(2))
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertTrue(canRoll);
+                // The topics are listed for each checked broker, but only described again when they are on it
+                verify(ac, times(3)).listTopics(any());
+                // One description of all topics to build the index and one per checked broker
+                verify(ac, times(4)).describeTopics(any());
+                verify(ac, times(1)).describeConfigs(any());
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testBrokersSharingPartitions(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                    .addNewPartition(1)
+                        .replicaOn(2, 3)
+                        .leader(2)
+                        .isr(2, 3)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(5);
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.brokersSharingPartitionsWith(0)
+            .compose(peers -> {
+                context.verify(() -> assertThat(peers, is(singleton(1))));
+                return kafkaAvailability.brokersSharingPartitionsWith(3);
+            })
+            .compose(peers -> {
+                context.verify(() -> assertThat(peers, is(singleton(2))));
+                return kafkaAvailability.brokersSharingPartitionsWith(4);
+            })
+            .compose(peers -> {
+                context.verify(() -> assertThat(peers, is(emptySet())));
+                // Reassign A/1 from broker 3 to broker 4
+                ksb.addNewTopic("A", false)
+                        .addNewPartition(1)
+                            .replicaOn(2, 4)
+                            .isr(2, 4)
+                        .endPartition();
+                return kafkaAvailability.brokersSharingPartitionsWith(4);
+            })
+            .compose(peers -> {
+                context.verify(() -> assertThat(peers, is(singleton(2))));
+                return kafkaAvailability.brokersSharingPartitionsWith(3);
+            })
+            .onComplete(context.succeeding(peers -> context.verify(() -> {
+                assertThat(peers, is(emptySet()));
+                verify(ac, times(5)).listTopics(any());
+                verify(ac, times(5)).describeTopics(any());
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testTopicDeletedDuringRollIsIgnored(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(1)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(3);
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                // B is deleted after it was listed, A is deleted before the next check lists the topics
+                ksb.describeTopicsResult("B", new UnknownTopicOrPartitionException());
+                return kafkaAvailability.canRoll(1);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll));
+                ksb.topics.remove("A");
+                return kafkaAvailability.canRoll(2);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertTrue(canRoll);
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testTopicCreatedDuringRollIsChecked(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(3);
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll));
+                ksb.addNewTopic("B", false)
+                        .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                        .addNewPartition(0)
+                            .replicaOn(1, 2, 3)
+                            .leader(1)
+                            .isr(1, 3)
+                        .endPartition()
+                    .endTopic();
+                return kafkaAvailability.canRoll(1);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> assertFalse(canRoll, "broker 1 should not be rollable, being in the ISR of B at minisr = 2"));
+                return kafkaAvailability.brokersSharingPartitionsWith(3);
+            })
+            .onComplete(context.succeeding(peers -> context.verify(() -> {
+                assertThat(peers, is(new HashSet<>(Arrays.asList(1, 2))));
+                a.flag();
+            })));
+    }
+
     // TODO when AC throws various exceptions (e.g. UnknownTopicOrPartitionException)
     @Test
     public void testCanRollThrowsTimeoutExceptionWhenTopicsListThrowsException(VertxTestContext context) {
@@ -589,14 +774,14 @@ public class KafkaAvailabilityTest {
                 .endTopic()
 
                 .addBroker(3)
-                .describeTopicsResult("A", new UnknownTopicOrPartitionException());
+                .describeTopicsResult("A", new TimeoutException());
 
         KafkaAvailability kafkaAvailability = new KafkaAvailability(ksb.ac());
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
             kafkaAvailability.canRoll(brokerId).onComplete(context.failing(e -> context.verify(() -> {
-                assertThat(e, instanceOf(UnknownTopicOrPartitionException.class));
+                assertThat(e, instanceOf(TimeoutException.class));
                 a.flag();
             })));
         }
@@ -7,10 +7,13 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -24,11 +27,13 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -49,13 +54,16 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -440,6 +448,98 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testParallelRollOfBrokersWithoutCommonPartitions(VertxTestContext testContext) {
+        List<Set<Integer>> rollingTogether = Collections.synchronizedList(new ArrayList<>());
+        PodOperator podOps = mockSlowPodOps(300, rollingTogether);
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, podOps,
+            brokerId -> succeededFuture(true), 2, podId -> emptySet(), -1);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(new HashSet<>(restarted()), is(new HashSet<>(asList(0, 1, 2, 3, 4))));
+                assertThat(rollingTogether.stream().mapToInt(Set::size).max().getAsInt(), is(2));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testParallelRollOfBrokersWithCommonPartitions(VertxTestContext testContext) {
+        List<Set<Integer>> rollingTogether = Collections.synchronizedList(new ArrayList<>());
+        PodOperator podOps = mockSlowPodOps(300, rollingTogether);
+        StatefulSet sts = buildStatefulSet();
+        // 0 and 1 share partitions, as do 2 and 3
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, podOps,
+            brokerId -> succeededFuture(true), 2, podId -> podId < 4 ? Collections.singleton(podId ^ 1) : emptySet(), -1);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(new HashSet<>(restarted()), is(new HashSet<>(asList(0, 1, 2, 3, 4))));
+                for (Set<Integer> pods : rollingTogether) {
+                    assertFalse(pods.containsAll(asList(0, 1)), "Pods 0 and 1 rolled at the same time");
+                    assertFalse(pods.containsAll(asList(2, 3)), "Pods 2 and 3 rolled at the same time");
+                }
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testWaitingForBrokersWithCommonPartitionsDoesNotUseBackOff(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        Map<Integer, AtomicInteger> waits = new ConcurrentHashMap<>();
+        Set<Integer> allPods = new HashSet<>(asList(0, 1, 2, 3, 4));
+        AtomicInteger first = new AtomicInteger(-1);
+        // All brokers share partitions, and the first pod is held until another pod waited more often than its back-off allows
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, podOps,
+            brokerId -> {
+                if (!first.compareAndSet(-1, brokerId)) {
+                    return succeededFuture(true);
+                }
+                Promise<Boolean> canRoll = Promise.promise();
+                vertx.setPeriodic(100, timerId -> {
+                    if (waits.values().stream().anyMatch(count -> count.get() > 4)) {
+                        vertx.cancelTimer(timerId);
+                        canRoll.complete(true);
+                    }
+                });
+                return canRoll.future();
+            }, 2,
+            podId -> {
+                waits.computeIfAbsent(podId, id -> new AtomicInteger()).incrementAndGet();
+                Set<Integer> peers = new HashSet<>(allPods);
+                peers.remove(podId);
+                return peers;
+            }, -1);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(new HashSet<>(restarted()), is(allPods));
+                assertThat(restarted().get(0), is(first.get()));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testParallelRollWithPod2AsController(VertxTestContext testContext) {
+        PodOperator podOps = mockSlowPodOps(300, Collections.synchronizedList(new ArrayList<>()));
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, podOps,
+            brokerId -> succeededFuture(true), 2, podId -> emptySet(), 2);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(new HashSet<>(restarted()), is(new HashSet<>(asList(0, 1, 2, 3, 4))));
+                assertThat(restarted().get(4), is(2));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -516,7 +616,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -549,6 +649,31 @@ public class KafkaRollerTest {
         return podOps;
     }
 
+    /**
+     * Mocks the readiness of the restarted pods to take the given time and collects the pods which were being rolled
+     * when each pod was restarted.
+     */
+    private PodOperator mockSlowPodOps(long readinessMs, List<Set<Integer>> rollingTogether) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        Set<Integer> rolling = new HashSet<>();
+        doAnswer(invocationOnMock -> {
+            int podId = podName2Number(invocationOnMock.getArgument(1));
+            synchronized (rolling) {
+                rolling.add(podId);
+                rollingTogether.add(new HashSet<>(rolling));
+            }
+            Promise<Void> ready = Promise.promise();
+            vertx.setTimer(readinessMs, timerId -> {
+                synchronized (rolling) {
+                    rolling.remove(podId);
+                }
+                ready.complete();
+            });
+            return ready.future();
+        }).when(podOps).readiness(any(), any(), anyLong(), anyLong());
+        return podOps;
+    }
+
     private StatefulSet buildStatefulSet() {
         return new StatefulSetBuilder()
                 .withNewMetadata()
@@ -569,6 +694,7 @@ public class KafkaRollerTest {
         private final Function<List<Integer>, RuntimeException> acOpenException;
         private final Throwable acCloseException;
         private final Function<Integer, Future<Boolean>> canRollFn;
+        private final Function<Integer, Set<Integer>> peersFn;
         private final Function<Integer, Throwable> controllerException;
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
@@ -583,10 +709,36 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, 1, podId -> emptySet(), controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet sts, PodOperator podOps,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int maxParallelRestarts,
+                                   Function<Integer, Set<Integer>> peersFn,
+                                   int... controllers) {
+            this(sts, null, null, podOps, noException(), null, noException(), noException(), noException(),
+                    canRollFn, maxParallelRestarts, peersFn, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int maxParallelRestarts,
+                                   Function<Integer, Set<Integer>> peersFn,
+                                   int... controllers) {
             super(KafkaRollerTest.vertx, new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion());
+                sts, clusterCaCertSecret, coKeySecret, new DefaultAdminClientProvider(), "", "", KafkaVersionTestUtils.getLatestVersion(), maxParallelRestarts);
             this.controllers = controllers;
+            this.peersFn = peersFn;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
             this.acOpenException = acOpenException;
@@ -636,6 +788,11 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Set<Integer>> brokersSharingPartitionsWith(int podId) {
+                    return succeededFuture(peersFn.apply(podId));
+                }
             };
         }
 
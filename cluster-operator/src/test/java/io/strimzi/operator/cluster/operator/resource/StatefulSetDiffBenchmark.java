@@ -0,0 +1,100 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * Compares the diff of a Kafka StatefulSet, as done for every StatefulSet in each reconciliation, with the JSON patch
+ * based diff it replaced. The current StatefulSet differs from the desired one only in the fields set by Kubernetes.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.mainClass=io.strimzi.operator.cluster.operator.resource.StatefulSetDiffBenchmark
+ * -Dexec.classpathScope=test} in the cluster-operator module.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class StatefulSetDiffBenchmark {
+
+    private StatefulSet current;
+    private StatefulSet desired;
+
+    @Setup
+    public void setup() {
+        desired = KafkaCluster.fromCrd(ResourceUtils.createKafka("my-namespace", "my-cluster", 3, "my-image", 120, 30),
+                KafkaVersionTestUtils.getKafkaVersionLookup())
+                .generateStatefulSet(false, null, null);
+
+        current = new StatefulSetBuilder(desired)
+                .editMetadata()
+                    .withResourceVersion("12345")
+                    .withGeneration(3L)
+                .endMetadata()
+                .editSpec()
+                    .withRevisionHistoryLimit(10)
+                    .editTemplate()
+                        .editSpec()
+                            .withDnsPolicy("ClusterFirst")
+                            .withSchedulerName("default-scheduler")
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .withNewStatus()
+                    .withReplicas(3)
+                    .withReadyReplicas(3)
+                    .withCurrentReplicas(3)
+                    .withObservedGeneration(3L)
+                .endStatus()
+                .build();
+    }
+
+    @Benchmark
+    public void structuralDiff(Blackhole blackhole) {
+        blackhole.consume(new StatefulSetDiff(current, desired).isEmpty());
+    }
+
+    @Benchmark
+    public void jsonPatchDiff(Blackhole blackhole) {
+        JsonNode source = patchMapper().valueToTree(current);
+        JsonNode target = patchMapper().valueToTree(desired);
+        for (JsonNode operation : JsonDiff.asJson(source, target)) {
+            blackhole.consume(operation.get("path").asText());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StatefulSetDiffBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
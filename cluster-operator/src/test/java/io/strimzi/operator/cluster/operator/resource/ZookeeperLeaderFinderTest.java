@@ -8,16 +8,21 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.ClusterOperator;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetServer;
 import io.vertx.core.net.NetServerOptions;
@@ -50,6 +55,7 @@ import static java.lang.Integer.parseInt;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -86,7 +92,11 @@ public class ZookeeperLeaderFinderTest {
         private final int[] ports;
 
         public TestingZookeeperLeaderFinder(Supplier<BackOff> backOffSupplier, int[] ports) {
-            super(vertx, mock, backOffSupplier);
+            this(backOffSupplier, ports, null);
+        }
+
+        public TestingZookeeperLeaderFinder(Supplier<BackOff> backOffSupplier, int[] ports, MetricsProvider metrics) {
+            super(vertx, mock, backOffSupplier, metrics);
             this.ports = ports;
         }
 
@@ -466,6 +476,52 @@ public class ZookeeperLeaderFinderTest {
             })));
     }
 
+    @Test
+    public void testAllPodsAreCheckedAtTheSameTime(VertxTestContext context) throws InterruptedException {
+        int leader = 0;
+        when(mock.getAsync(eq(NAMESPACE), eq(KafkaResources.clusterCaCertificateSecretName(CLUSTER))))
+                .thenAnswer(i -> Future.succeededFuture(
+                        new SecretBuilder()
+                                .withNewMetadata()
+                                .withName(KafkaResources.clusterCaCertificateSecretName(CLUSTER))
+                                .withNamespace(NAMESPACE)
+                                .endMetadata()
+                                .withData(map(Ca.CA_CRT, "notacert"))
+                                .build()));
+
+        int[] ports = startMockZks(context, 3, (id, attempt) -> id == leader);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports, new MicrometerMetricsProvider(registry));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(CLUSTER, NAMESPACE, asList(createPodWithId(0), createPodWithId(1), createPodWithId(2)), coKeySecret())
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leader));
+                assertThat(registry.get("strimzi.zookeeper.leader.discovery").timer().count(), is(1L));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testFailuresOfAllPodsAreReported(VertxTestContext context) {
+        ZookeeperLeaderFinder finder = new ZookeeperLeaderFinder(vertx, mock, this::backoff) {
+            @Override
+            protected Future<Boolean> isLeader(Pod pod, NetClient netClient) {
+                return Future.failedFuture(new RuntimeException("connection refused by " + pod.getMetadata().getName()));
+            }
+        };
+
+        Checkpoint a = context.checkpoint();
+        finder.zookeeperLeader(asList(createPodWithId(0), createPodWithId(1)), null)
+            .onComplete(context.failing(error -> context.verify(() -> {
+                assertThat(error.getMessage(), containsString("connection refused by my-cluster-kafka-0"));
+                assertThat(error.getMessage(), containsString("connection refused by my-cluster-kafka-1"));
+                assertThat(error.getSuppressed().length, is(1));
+                a.flag();
+            })));
+    }
+
     Pod createPodWithId(int id) {
         return new PodBuilder()
                 .withNewMetadata()
@@ -7,6 +7,7 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
@@ -42,8 +43,13 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -190,6 +196,8 @@ public abstract class Ca {
     private RenewalType renewalType;
     private boolean caCertsRemoved;
     private final CertificateExpirationPolicy policy;
+    private ExecutorService certIssuanceExecutor;
+    private Timer certIssuanceTimer;
 
     public Ca(CertManager certManager, PasswordGenerator passwordGenerator, String commonName,
               String caCertSecretName, Secret caCertSecret,
@@ -209,6 +217,18 @@ public abstract class Ca {
         this.renewalType = RenewalType.NOOP;
     }
 
+    /**
+     * Configures how the certificates signed by this CA are issued.
+     *
+     * @param executor The executor used to issue the certificates of the different pods in parallel. When null, the
+     *                 certificates are issued one after another in the calling thread.
+     * @param timer The timer recording the time needed to issue a single certificate. May be null.
+     */
+    public void setCertIssuance(ExecutorService executor, Timer timer) {
+        this.certIssuanceExecutor = executor;
+        this.certIssuanceTimer = timer;
+    }
+
     private static void delete(File file) {
         if (!file.delete()) {
             log.warn("{} cannot be deleted", file.getName());
@@ -325,7 +345,7 @@ public abstract class Ca {
 
         subject.setCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject,
+        CertAndKey result = timedGenerateSignedCert(subject,
                 csrFile, keyFile, certFile, keyStoreFile);
 
         delete(csrFile);
@@ -352,13 +372,10 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        Map<String, CertAndKey> certs = new HashMap<>(replicas);
+        // the subjects of the certificates which have to be (re)generated, in the order of the pods
+        Map<String, Subject> subjectsToGenerate = new LinkedHashMap<>();
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -399,9 +416,7 @@ public abstract class Ca {
 
             if (!reasons.isEmpty())  {
                 log.debug("Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
-
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                subjectsToGenerate.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -414,18 +429,109 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             log.debug("Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+            subjectsToGenerate.put(podName, subjectFn.apply(i));
         }
-        delete(brokerCsrFile);
-        delete(brokerKeyFile);
-        delete(brokerCertFile);
-        delete(brokerKeyStoreFile);
+
+        certs.putAll(generateSignedCerts(subjectsToGenerate));
 
         return certs;
     }
 
+    /**
+     * Generates the certificates signed by this CA for the given subjects. The certificates of the different pods are
+     * independent, so they are issued in parallel when an executor was configured using
+     * {@link #setCertIssuance(ExecutorService, Timer)}.
+     *
+     * @param subjects The subjects of the certificates to generate, keyed by the name of the pod.
+     * @return The generated certificates keyed by the name of the pod.
+     * @throws IOException If any of the certificates could not be generated.
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Map<String, Subject> subjects) throws IOException {
+        Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+
+        if (subjects.isEmpty()) {
+            return certs;
+        } else if (certIssuanceExecutor == null || subjects.size() == 1) {
+            File csrFile = File.createTempFile("tls", "broker-csr");
+            File keyFile = File.createTempFile("tls", "broker-key");
+            File certFile = File.createTempFile("tls", "broker-cert");
+            File keyStoreFile = File.createTempFile("tls", "broker-p12");
+
+            try {
+                for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+                    certs.put(entry.getKey(), timedGenerateSignedCert(entry.getValue(), csrFile, keyFile, certFile, keyStoreFile));
+                }
+            } finally {
+                delete(csrFile);
+                delete(keyFile);
+                delete(certFile);
+                delete(keyStoreFile);
+            }
+
+            return certs;
+        }
+
+        Map<String, Future<CertAndKey>> futures = new LinkedHashMap<>(subjects.size());
+        for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+            Subject subject = entry.getValue();
+            // every task uses its own temporary files
+            futures.put(entry.getKey(), certIssuanceExecutor.submit(() -> {
+                File csrFile = File.createTempFile("tls", "broker-csr");
+                File keyFile = File.createTempFile("tls", "broker-key");
+                File certFile = File.createTempFile("tls", "broker-cert");
+                File keyStoreFile = File.createTempFile("tls", "broker-p12");
+
+                try {
+                    return timedGenerateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+                } finally {
+                    delete(csrFile);
+                    delete(keyFile);
+                    delete(certFile);
+                    delete(keyStoreFile);
+                }
+            }));
+        }
+
+        try {
+            for (Map.Entry<String, Future<CertAndKey>> entry : futures.entrySet()) {
+                certs.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating the certificates signed by " + this, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new IOException("Failed to generate the certificates signed by " + this, e.getCause());
+            }
+        } finally {
+            // the certificates which are not needed anymore after a failure do not have to be generated
+            futures.values().forEach(future -> future.cancel(false));
+        }
+
+        return certs;
+    }
+
+    /**
+     * Calls {@link #generateSignedCert(Subject, File, File, File, File)} and records the time it took in the
+     * certificate issuance timer (if configured).
+     */
+    private CertAndKey timedGenerateSignedCert(Subject subject,
+                                               File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+        long start = System.nanoTime();
+
+        CertAndKey result = generateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+
+        if (certIssuanceTimer != null) {
+            certIssuanceTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        return result;
+    }
+
     /**
      * Returns whether the certificate is expiring or not
      *
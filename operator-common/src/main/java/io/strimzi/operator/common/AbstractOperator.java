@@ -4,6 +4,10 @@
  */
 package io.strimzi.operator.common;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClientException;
@@ -36,7 +40,9 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.Map;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -73,6 +79,7 @@ public abstract class AbstractOperator<
     private static final Logger log = LogManager.getLogger(AbstractOperator.class);
 
     protected static final int LOCK_TIMEOUT_MS = 10000;
+    private static final ObjectMapper FINGERPRINT_MAPPER = new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
     public static final String METRICS_PREFIX = "strimzi.";
 
     protected final Vertx vertx;
@@ -85,10 +92,34 @@ public abstract class AbstractOperator<
     private final Counter failedReconciliationsCounter;
     private final Counter successfulReconciliationsCounter;
     private final Counter lockedReconciliationsCounter;
+    private final Counter coalescedReconciliationsCounter;
+    private final Counter skippedReconciliationsCounter;
     private final AtomicInteger resourceCounter;
     private final Timer reconciliationsTimer;
     private final Map<Tags, AtomicInteger> resourcesStateCounter;
 
+    private volatile ReconciliationScheduler scheduler;
+
+    private volatile boolean skipUnchanged = false;
+
+    /**
+     * Fingerprints recorded after the last successful reconciliation, keyed by namespace/name
+     */
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Reconciliations currently running without a scheduler, keyed by namespace::kind::name
+     */
+    private final Map<String, InFlight> inFlight = new HashMap<>();
+
+    /**
+     * A running reconciliation and the follow-up reconciliation requested while it was running
+     */
+    private static class InFlight {
+        private Reconciliation followUp;
+        private Promise<Void> followUpPromise;
+    }
+
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics) {
         this.vertx = vertx;
         this.kind = kind;
@@ -118,6 +149,14 @@ public abstract class AbstractOperator<
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running",
                 metricTags);
 
+        coalescedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.coalesced",
+                "Number of reconciliations merged into a single follow-up reconciliation because another reconciliation for the same resource was still running",
+                metricTags);
+
+        skippedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.skipped",
+                "Number of reconciliations skipped because neither the resource nor the resources it owns changed since the last successful reconciliation",
+                metricTags);
+
         resourceCounter = metrics.gauge(METRICS_PREFIX + "resources",
                 "Number of custom resources the operator sees",
                 metricTags);
@@ -134,6 +173,105 @@ public abstract class AbstractOperator<
         return kind;
     }
 
+    /**
+     * Sets the scheduler used to queue the reconciliations triggered by watch events and by the periodic
+     * reconciliation. Without a scheduler, reconciliations are started right away.
+     *
+     * @param scheduler The scheduler shared by the operators.
+     */
+    public void setScheduler(ReconciliationScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Enables or disables the skipping of unchanged resources. When enabled, the reconciliation of a resource is
+     * skipped when neither its spec, labels and annotations nor the resourceVersions of the resources it owns (see
+     * {@link #ownedResources(Reconciliation, CustomResource)}) changed since its last successful reconciliation.
+     *
+     * @param skipUnchanged True to skip the reconciliation of unchanged resources.
+     */
+    public void setSkipUnchanged(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    @Override
+    public Future<Void> schedule(Reconciliation reconciliation, ReconciliationScheduler.Priority priority) {
+        ReconciliationScheduler scheduler = this.scheduler;
+        if (scheduler != null) {
+            return scheduler.submit(reconciliation, priority, () -> reconcile(reconciliation));
+        } else {
+            return coalesce(reconciliation);
+        }
+    }
+
+    /**
+     * Starts the reconciliation right away unless another reconciliation of the same resource is running. In that
+     * case, the resource is marked as dirty and reconciled once more after the running reconciliation completes.
+     * All the reconciliations requested while the resource is dirty are merged into this single follow-up
+     * reconciliation, so that bursts of watch events do not queue up on the lock.
+     *
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation or of the follow-up reconciliation
+     * it was merged into.
+     */
+    private Future<Void> coalesce(Reconciliation reconciliation) {
+        String key = reconciliation.namespace() + "::" + kind() + "::" + reconciliation.name();
+
+        synchronized (inFlight) {
+            InFlight running = inFlight.get(key);
+
+            if (running != null) {
+                log.debug("{}: Another reconciliation is running, merging into a follow-up reconciliation", reconciliation);
+                coalescedReconciliationsCounter.increment();
+
+                if (running.followUpPromise == null) {
+                    running.followUpPromise = Promise.promise();
+                }
+                running.followUp = reconciliation;
+
+                return running.followUpPromise.future();
+            }
+
+            inFlight.put(key, new InFlight());
+        }
+
+        return runCoalesced(key, reconciliation);
+    }
+
+    private Future<Void> runCoalesced(String key, Reconciliation reconciliation) {
+        Future<Void> result;
+        try {
+            result = reconcile(reconciliation);
+        } catch (Throwable t) {
+            // The in-flight entry is removed only when the result completes
+            result = Future.failedFuture(t);
+        }
+
+        result.onComplete(ignored -> {
+            Reconciliation followUp;
+            Promise<Void> followUpPromise;
+
+            synchronized (inFlight) {
+                InFlight state = inFlight.get(key);
+                followUp = state.followUp;
+                followUpPromise = state.followUpPromise;
+
+                if (followUp == null) {
+                    inFlight.remove(key);
+                } else {
+                    state.followUp = null;
+                    state.followUpPromise = null;
+                }
+            }
+
+            if (followUp != null) {
+                runCoalesced(key, followUp).onComplete(followUpPromise);
+            }
+        });
+
+        return result;
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -214,41 +352,14 @@ public abstract class AbstractOperator<
 
                 Set<Condition> unknownAndDeprecatedConditions = validate(cr);
 
-                log.info("{}: {} {} will be checked for creation or modification", reconciliation, kind, name);
-
-                createOrUpdate(reconciliation, cr)
-                        .onComplete(res -> {
-                            if (res.succeeded()) {
-                                S status = res.result();
-
-                                addWarningsToStatus(status, unknownAndDeprecatedConditions);
-                                updateStatus(reconciliation, status).onComplete(statusResult -> {
-                                    if (statusResult.succeeded()) {
-                                        createOrUpdate.complete();
-                                    } else {
-                                        createOrUpdate.fail(statusResult.cause());
-                                    }
-                                });
-                            } else {
-                                if (res.cause() instanceof ReconciliationException) {
-                                    ReconciliationException e = (ReconciliationException) res.cause();
-                                    Status status = e.getStatus();
-                                    addWarningsToStatus(status, unknownAndDeprecatedConditions);
-
-                                    log.error("{}: createOrUpdate failed", reconciliation, e.getCause());
-
-                                    updateStatus(reconciliation, (S) status).onComplete(statusResult -> {
-                                        createOrUpdate.fail(e.getCause());
-                                    });
-                                } else {
-                                    log.error("{}: createOrUpdate failed", reconciliation, res.cause());
-                                    createOrUpdate.fail(res.cause());
-                                }
-                            }
-                        });
-
-                return createOrUpdate.future();
+                if (skipUnchanged) {
+                    return reconcileIfChanged(reconciliation, cr, unknownAndDeprecatedConditions);
+                } else {
+                    log.info("{}: {} {} will be checked for creation or modification", reconciliation, kind, name);
+                    return createOrUpdateWithStatus(reconciliation, cr, unknownAndDeprecatedConditions);
+                }
             } else {
+                fingerprints.remove(fingerprintKey(namespace, name));
                 log.info("{}: {} {} should be deleted", reconciliation, kind, name);
                 return delete(reconciliation).map(deleteResult -> {
                     if (deleteResult) {
@@ -273,6 +384,149 @@ public abstract class AbstractOperator<
         return result.future();
     }
 
+    /**
+     * Creates or updates the resources of the given custom resource and updates its status.
+     */
+    @SuppressWarnings("unchecked")
+    private Future<Void> createOrUpdateWithStatus(Reconciliation reconciliation, T cr, Set<Condition> unknownAndDeprecatedConditions) {
+        Promise<Void> createOrUpdate = Promise.promise();
+
+        createOrUpdate(reconciliation, cr)
+                .onComplete(res -> {
+                    if (res.succeeded()) {
+                        S status = res.result();
+
+                        addWarningsToStatus(status, unknownAndDeprecatedConditions);
+                        updateStatus(reconciliation, status).onComplete(statusResult -> {
+                            if (statusResult.succeeded()) {
+                                createOrUpdate.complete();
+                            } else {
+                                createOrUpdate.fail(statusResult.cause());
+                            }
+                        });
+                    } else {
+                        if (res.cause() instanceof ReconciliationException) {
+                            ReconciliationException e = (ReconciliationException) res.cause();
+                            Status status = e.getStatus();
+                            addWarningsToStatus(status, unknownAndDeprecatedConditions);
+
+                            log.error("{}: createOrUpdate failed", reconciliation, e.getCause());
+
+                            updateStatus(reconciliation, (S) status).onComplete(statusResult -> {
+                                createOrUpdate.fail(e.getCause());
+                            });
+                        } else {
+                            log.error("{}: createOrUpdate failed", reconciliation, res.cause());
+                            createOrUpdate.fail(res.cause());
+                        }
+                    }
+                });
+
+        return createOrUpdate.future();
+    }
+
+    /**
+     * Used when skipping of unchanged resources is enabled. Computes the fingerprint of the custom resource and of
+     * the resources it owns and compares it with the fingerprint recorded after the last successful reconciliation.
+     * When they match, nothing changed and the reconciliation is skipped. Otherwise the resources are reconciled and
+     * the fingerprint is recorded again when the reconciliation succeeds.
+     */
+    private Future<Void> reconcileIfChanged(Reconciliation reconciliation, T cr, Set<Condition> unknownAndDeprecatedConditions) {
+        String key = fingerprintKey(reconciliation.namespace(), reconciliation.name());
+        // The fingerprint is removed so that it does not survive a failed reconciliation
+        String lastFingerprint = fingerprints.remove(key);
+
+        return fingerprint(reconciliation, cr)
+                .compose(fingerprint -> {
+                    if (fingerprint != null && fingerprint.equals(lastFingerprint)) {
+                        log.info("{}: {} {} and the resources it owns did not change since the last reconciliation, skipping it", reconciliation, kind, reconciliation.name());
+                        skippedReconciliationsCounter.increment();
+                        fingerprints.put(key, fingerprint);
+                        return Future.succeededFuture();
+                    }
+
+                    log.info("{}: {} {} will be checked for creation or modification", reconciliation, kind, reconciliation.name());
+                    return createOrUpdateWithStatus(reconciliation, cr, unknownAndDeprecatedConditions)
+                            .compose(ignored -> fingerprint(reconciliation, cr))
+                            .map(newFingerprint -> {
+                                if (newFingerprint != null) {
+                                    fingerprints.put(key, newFingerprint);
+                                }
+                                return (Void) null;
+                            });
+                });
+    }
+
+    /**
+     * Computes the fingerprint of the spec, labels and annotations of the custom resource and of the
+     * resourceVersions of the resources it owns.
+     *
+     * @return A Future with the fingerprint or with null when it cannot be computed
+     */
+    private Future<String> fingerprint(Reconciliation reconciliation, T cr) {
+        Future<List<HasMetadata>> owned;
+        try {
+            owned = ownedResources(reconciliation, cr);
+        } catch (Throwable t) {
+            owned = Future.failedFuture(t);
+        }
+
+        return owned
+                .map(ownedResources -> {
+                    if (ownedResources == null) {
+                        return null;
+                    }
+
+                    StringBuilder fingerprint = new StringBuilder();
+
+                    try {
+                        fingerprint.append(FINGERPRINT_MAPPER.writeValueAsString(cr.getSpec()))
+                                .append(FINGERPRINT_MAPPER.writeValueAsString(cr.getMetadata().getLabels()))
+                                .append(FINGERPRINT_MAPPER.writeValueAsString(cr.getMetadata().getAnnotations()));
+                    } catch (JsonProcessingException e) {
+                        throw new RuntimeException(e);
+                    }
+
+                    for (HasMetadata resource : ownedResources) {
+                        if (resource != null) {
+                            fingerprint.append(';')
+                                    .append(resource.getKind())
+                                    .append('/')
+                                    .append(resource.getMetadata().getName())
+                                    .append('@')
+                                    .append(resource.getMetadata().getResourceVersion());
+                        } else {
+                            fingerprint.append(";missing");
+                        }
+                    }
+
+                    return Util.stringHash(fingerprint.toString());
+                })
+                .recover(error -> {
+                    log.warn("{}: Failed to compute the fingerprint of {} {}, it will be fully reconciled", reconciliation, kind, reconciliation.name(), error);
+                    return Future.succeededFuture(null);
+                });
+    }
+
+    private static String fingerprintKey(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Lists the resources owned by the given custom resource for the skipping of unchanged resources (see
+     * {@link #setSkipUnchanged(boolean)}). The list has to be returned in a stable order and it may contain
+     * null for expected resources which do not exist.
+     * Operators which cannot list all the resources which determine the result of the reconciliation return null,
+     * which means that their resources are always fully reconciled.
+     *
+     * @param reconciliation The reconciliation.
+     * @param resource The custom resource.
+     * @return A Future with the owned resources or with null when not supported.
+     */
+    protected Future<List<HasMetadata>> ownedResources(Reconciliation reconciliation, T resource) {
+        return Future.succeededFuture(null);
+    }
+
     private void addWarningsToStatus(Status status, Set<Condition> unknownAndDeprecatedConditions)   {
         if (status != null)  {
             status.addConditions(unknownAndDeprecatedConditions);
@@ -0,0 +1,192 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Coalesces the requests for single resources which are submitted within a short linger time into a single
+ * Admin API call for many resources.
+ *
+ * <p>A batch is sent when the linger time since its first request has elapsed, or as soon as it contains the maximum
+ * number of requests. A request for a key which is already in the pending batch sends the pending batch first,
+ * so that the requests for the same key are sent in the order they were submitted.</p>
+ *
+ * <p>The size and the duration of the batches are recorded in the {@code admin.batch.size} and
+ * {@code admin.batch.duration} metrics, tagged with the kind of the resources and the operation.</p>
+ *
+ * @param <K> The type of the key identifying the resource of a request.
+ * @param <R> The type of the request.
+ * @param <V> The type of the result of a request.
+ */
+public class AdminRequestBatcher<K, R, V> {
+
+    private static final Logger log = LogManager.getLogger(AdminRequestBatcher.class);
+
+    private static class Batch<K, R, V> {
+        private final Map<K, R> requests = new LinkedHashMap<>();
+        private final Map<K, Promise<V>> promises = new LinkedHashMap<>();
+        private final Map<K, Context> contexts = new LinkedHashMap<>();
+    }
+
+    private final Vertx vertx;
+    private final String operation;
+    private final long lingerMs;
+    private final int maxBatchSize;
+    private final Function<Map<K, R>, Map<K, Future<V>>> call;
+    private final MetricsProvider metrics;
+    private final DistributionSummary batchSize;
+    private final Timer batchTimer;
+
+    private Batch<K, R, V> pending = new Batch<>();
+    private long timerId = -1;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         The Vertx instance.
+     * @param kind          The kind of the resources, used as a metrics tag.
+     * @param operation     The name of the operation, used in the logs and as a metrics tag.
+     * @param lingerMs      The time to wait for more requests after the first request of a batch.
+     * @param maxBatchSize  The maximum number of requests in a batch.
+     * @param call          The Admin API call for many resources, returning a future for the result of each request.
+     * @param metrics       The metrics provider for the batch size and duration metrics.
+     */
+    public AdminRequestBatcher(Vertx vertx, String kind, String operation, long lingerMs, int maxBatchSize,
+                               Function<Map<K, R>, Map<K, Future<V>>> call, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.operation = operation;
+        this.lingerMs = lingerMs;
+        this.maxBatchSize = maxBatchSize;
+        this.call = call;
+        this.metrics = metrics;
+
+        Tags tags = Tags.of("kind", kind, "operation", operation);
+        this.batchSize = DistributionSummary.builder(AbstractOperator.METRICS_PREFIX + "admin.batch.size")
+                .description("Number of requests in the batched Admin API calls")
+                .tags(tags)
+                .register(metrics.meterRegistry());
+        this.batchTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "admin.batch.duration",
+                "The time the batched Admin API calls take to complete",
+                tags);
+    }
+
+    /**
+     * Adds the given request to the pending batch.
+     *
+     * @param key       The key of the resource of the request.
+     * @param request   The request.
+     * @return A future which completes, on the context of the caller, with the result of the request once its batch
+     * has been sent and completed.
+     */
+    public Future<V> submit(K key, R request) {
+        Promise<V> promise = Promise.promise();
+        Context context = vertx.getOrCreateContext();
+        List<Batch<K, R, V>> ready = new ArrayList<>(2);
+        synchronized (this) {
+            if (pending.requests.containsKey(key)) {
+                ready.add(take());
+            }
+            pending.requests.put(key, request);
+            pending.promises.put(key, promise);
+            pending.contexts.put(key, context);
+            if (pending.requests.size() >= maxBatchSize) {
+                ready.add(take());
+            } else if (timerId == -1) {
+                timerId = vertx.setTimer(lingerMs, id -> flush());
+            }
+        }
+        for (Batch<K, R, V> batch : ready) {
+            send(batch);
+        }
+        return promise.future();
+    }
+
+    /**
+     * Adds the given requests to the pending batch.
+     *
+     * @param requests  The requests, indexed by the keys of their resources.
+     * @return A future which completes when all the requests succeeded, or fails with the first error.
+     */
+    public Future<Void> submitAll(Map<K, R> requests) {
+        List<Future> futures = new ArrayList<>(requests.size());
+        for (Map.Entry<K, R> request : requests.entrySet()) {
+            futures.add(submit(request.getKey(), request.getValue()));
+        }
+        return CompositeFuture.all(futures).mapEmpty();
+    }
+
+    private void flush() {
+        Batch<K, R, V> batch;
+        synchronized (this) {
+            timerId = -1;
+            if (pending.requests.isEmpty()) {
+                return;
+            }
+            batch = take();
+        }
+        send(batch);
+    }
+
+    /**
+     * Takes the pending batch and cancels its linger timer. Must be called with the lock held.
+     */
+    private Batch<K, R, V> take() {
+        Batch<K, R, V> batch = pending;
+        pending = new Batch<>();
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+        return batch;
+    }
+
+    private void send(Batch<K, R, V> batch) {
+        log.debug("Sending {} batch of {} requests", operation, batch.requests.size());
+        batchSize.record(batch.requests.size());
+        Timer.Sample sample = Timer.start(metrics.meterRegistry());
+
+        Map<K, Future<V>> results;
+        try {
+            results = call.apply(batch.requests);
+        } catch (Exception e) {
+            log.debug("Error sending {} batch", operation, e);
+            sample.stop(batchTimer);
+            for (Map.Entry<K, Promise<V>> entry : batch.promises.entrySet()) {
+                batch.contexts.get(entry.getKey()).runOnContext(v -> entry.getValue().fail(e));
+            }
+            return;
+        }
+
+        List<Future> futures = new ArrayList<>(batch.promises.size());
+        for (Map.Entry<K, Promise<V>> entry : batch.promises.entrySet()) {
+            Context context = batch.contexts.get(entry.getKey());
+            Future<V> result = results.get(entry.getKey());
+            if (result == null) {
+                IllegalStateException error = new IllegalStateException("No " + operation + " result for " + entry.getKey());
+                context.runOnContext(v -> entry.getValue().fail(error));
+            } else {
+                result.onComplete(res -> context.runOnContext(v -> entry.getValue().handle(res)));
+                futures.add(result);
+            }
+        }
+        CompositeFuture.join(futures).onComplete(ignored -> sample.stop(batchTimer));
+    }
+}
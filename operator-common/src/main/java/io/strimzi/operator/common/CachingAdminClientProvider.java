@@ -0,0 +1,230 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link AdminClientProvider} which keeps the Admin clients created by another provider open and hands them out
+ * again to later callers using the same bootstrap servers and the same secrets.
+ *
+ * <ul>
+ * <li>The returned Admin clients are leases of the cached client. Closing them releases the lease, but does not
+ *     close the cached client.</li>
+ * <li>The cached client is replaced when the content of the cluster CA certificate secret or of the client
+ *     certificate secret changes (e.g. because of a certificate renewal). The old client is closed once all its
+ *     leases are released.</li>
+ * <li>Clients without any leases are closed by {@link #evictIdle()} once they were not used for the idle
+ *     timeout.</li>
+ * <li>The clients are created outside of the lock of the cache, so that creating a client for one cluster does not
+ *     block the callers for other clusters. Concurrent callers for the same cluster wait for the same client.</li>
+ * </ul>
+ */
+public class CachingAdminClientProvider implements AdminClientProvider {
+    private static final Logger log = LogManager.getLogger(CachingAdminClientProvider.class);
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AdminClientProvider delegate;
+    private final long idleTimeoutMs;
+    private final Map<String, Entry> cache = new HashMap<>();
+
+    /**
+     * Cached Admin client
+     */
+    private static class Entry {
+        private final CompletableFuture<Admin> admin = new CompletableFuture<>();
+        private final Map<String, String> clusterCaCertData;
+        private final Map<String, String> keyCertData;
+        private int leases = 0;
+        private long lastUsedMs = System.currentTimeMillis();
+        private boolean stale = false;
+
+        private Entry(Map<String, String> clusterCaCertData, Map<String, String> keyCertData) {
+            this.clusterCaCertData = clusterCaCertData;
+            this.keyCertData = keyCertData;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param delegate          Provider used to create the cached clients
+     * @param idleTimeoutMs     Time after which the clients which are not used are closed
+     */
+    public CachingAdminClientProvider(AdminClientProvider delegate, long idleTimeoutMs) {
+        this.delegate = delegate;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        String key = bootstrapHostnames + "|" + secretName(clusterCaCertSecret) + "|" + secretName(keyCertSecret) + "|" + keyCertName;
+        Map<String, String> clusterCaCertData = clusterCaCertSecret != null ? clusterCaCertSecret.getData() : null;
+        Map<String, String> keyCertData = keyCertSecret != null ? keyCertSecret.getData() : null;
+        Entry outdated = null;
+        Entry entry;
+        boolean create = false;
+
+        synchronized (this) {
+            entry = cache.get(key);
+
+            if (entry != null
+                    && (!Objects.equals(entry.clusterCaCertData, clusterCaCertData) || !Objects.equals(entry.keyCertData, keyCertData))) {
+                log.debug("Certificates used by the Admin client for {} changed", bootstrapHostnames);
+                cache.remove(key);
+                entry.stale = true;
+                outdated = entry.leases == 0 ? entry : null;
+                entry = null;
+            }
+
+            if (entry == null) {
+                entry = new Entry(clusterCaCertData, keyCertData);
+                cache.put(key, entry);
+                create = true;
+            }
+
+            entry.leases++;
+        }
+
+        if (outdated != null) {
+            close(outdated);
+        }
+
+        if (create) {
+            log.debug("Creating cached Admin client for {}", bootstrapHostnames);
+            try {
+                entry.admin.complete(delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName));
+            } catch (RuntimeException | Error e) {
+                synchronized (this) {
+                    cache.remove(key, entry);
+                }
+                entry.admin.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        return lease(entry, await(entry));
+    }
+
+    /**
+     * Waits until the client of the given entry has been created by the caller which added the entry.
+     */
+    private static Admin await(Entry entry) {
+        try {
+            return entry.admin.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Closes the cached clients which have no leases and were not used for longer than the idle timeout.
+     */
+    public void evictIdle() {
+        List<Entry> idle = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            Iterator<Entry> it = cache.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.leases == 0 && now - entry.lastUsedMs >= idleTimeoutMs) {
+                    it.remove();
+                    idle.add(entry);
+                }
+            }
+        }
+
+        for (Entry entry : idle) {
+            close(entry);
+        }
+    }
+
+    /**
+     * @return  The number of cached clients
+     */
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private void release(Entry entry) {
+        boolean close;
+
+        synchronized (this) {
+            entry.leases--;
+            entry.lastUsedMs = System.currentTimeMillis();
+            close = entry.stale && entry.leases == 0;
+        }
+
+        if (close) {
+            close(entry);
+        }
+    }
+
+    private void close(Entry entry) {
+        try {
+            // Entries without leases always have a client, the entries whose creation failed are never closed
+            entry.admin.join().close(CLOSE_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.debug("Exception closing cached Admin client", e);
+        }
+    }
+
+    private static String secretName(Secret secret) {
+        if (secret == null || secret.getMetadata() == null) {
+            return null;
+        } else {
+            return secret.getMetadata().getNamespace() + "/" + secret.getMetadata().getName();
+        }
+    }
+
+    /**
+     * Wraps the cached client into a proxy which releases the lease instead of closing the client.
+     */
+    private Admin lease(Entry entry, Admin admin) {
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                    if (released.compareAndSet(false, true)) {
+                        release(entry);
+                    }
+                    return null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    try {
+                        return method.invoke(admin, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        });
+    }
+}
@@ -23,7 +23,16 @@ public class MicrometerMetricsProvider implements MetricsProvider {
      * Constructor of the Micrometer metrics provider
      */
     public MicrometerMetricsProvider() {
-        this.metrics = BackendRegistries.getDefaultNow();
+        this(BackendRegistries.getDefaultNow());
+    }
+
+    /**
+     * Constructor of the Micrometer metrics provider using a specific registry
+     *
+     * @param metrics   Meter registry which should be used for the metrics
+     */
+    public MicrometerMetricsProvider(MeterRegistry metrics) {
+        this.metrics = metrics;
     }
 
     /**
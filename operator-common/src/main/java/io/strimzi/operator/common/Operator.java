@@ -42,6 +42,18 @@ public interface Operator {
      */
     Future<Void> reconcile(Reconciliation reconciliation);
 
+    /**
+     * Schedules the reconciliation of the resource identified by the given reconciliation.
+     * By default the reconciliation is started right away, operators which use a {@link ReconciliationScheduler}
+     * queue it instead.
+     * @param reconciliation The resource.
+     * @param priority The priority of the reconciliation.
+     * @return A Future is completed once the resource has been reconciled.
+     */
+    default Future<Void> schedule(Reconciliation reconciliation, ReconciliationScheduler.Priority priority) {
+        return reconcile(reconciliation);
+    }
+
     /**
      * Triggers the asynchronous reconciliation of all resources which this operator consumes.
      * The resources to reconcile are identified by {@link #allResourceNames(String)}.
@@ -67,7 +79,7 @@ public interface Operator {
 
             for (NamespaceAndName resourceRef : desiredNames) {
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+                futures.add(schedule(reconciliation, ReconciliationScheduler.Priority.PERIODIC));
             }
             CompositeFuture.join(futures).map((Void) null).onComplete(handler);
         } else {
@@ -0,0 +1,256 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Work queue for reconciliations shared by the operators.
+ *
+ * <ul>
+ * <li>At most {@code maxConcurrent} reconciliations run at the same time.</li>
+ * <li>Reconciliations of the same resource (identified by kind, namespace and name) never run concurrently and a
+ *     reconciliation which is submitted while another one for the same resource is still waiting in the queue is
+ *     merged with the waiting one.</li>
+ * <li>Reconciliations triggered by events are started before the periodic ones.</li>
+ * <li>Periodic reconciliations are added to the queue after a random delay of up to {@code spreadMs}, so that the
+ *     periodic reconciliation of many resources is spread over time instead of being triggered all at once.</li>
+ * </ul>
+ */
+public class ReconciliationScheduler {
+    private static final Logger log = LogManager.getLogger(ReconciliationScheduler.class);
+
+    /**
+     * Priority of the reconciliation
+     */
+    public enum Priority {
+        /**
+         * Reconciliation triggered by a change to the resource
+         */
+        EVENT,
+
+        /**
+         * Periodic reconciliation
+         */
+        PERIODIC
+    }
+
+    private final Vertx vertx;
+    private final int maxConcurrent;
+    private final long spreadMs;
+
+    private final Map<String, Entry> queued = new HashMap<>();
+    private final Deque<Entry> eventQueue = new ArrayDeque<>();
+    private final Deque<Entry> periodicQueue = new ArrayDeque<>();
+    private final Set<String> running = new HashSet<>();
+
+    private final AtomicInteger queueDepth;
+    private final AtomicInteger runningGauge;
+    private final Timer eventWaitTimer;
+    private final Timer periodicWaitTimer;
+    private final Counter mergedCounter;
+
+    /**
+     * A reconciliation waiting in the queue
+     */
+    private static class Entry {
+        private final String key;
+        private final Reconciliation reconciliation;
+        private final Supplier<Future<Void>> task;
+        private final Promise<Void> promise = Promise.promise();
+        private final long enqueuedNanos = System.nanoTime();
+        private Priority priority;
+
+        private Entry(String key, Reconciliation reconciliation, Supplier<Future<Void>> task, Priority priority) {
+            this.key = key;
+            this.reconciliation = reconciliation;
+            this.task = task;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance
+     * @param maxConcurrent     Maximal number of reconciliations running at the same time
+     * @param spreadMs          Maximal random delay of the periodic reconciliations
+     * @param metrics           Metrics provider
+     */
+    public ReconciliationScheduler(Vertx vertx, int maxConcurrent, long spreadMs, MetricsProvider metrics) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("The maximal number of concurrent reconciliations has to be at least 1");
+        }
+
+        this.vertx = vertx;
+        this.maxConcurrent = maxConcurrent;
+        this.spreadMs = spreadMs;
+
+        queueDepth = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.depth",
+                "Number of reconciliations waiting in the queue",
+                Tags.empty());
+
+        runningGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.running",
+                "Number of reconciliations currently running",
+                Tags.empty());
+
+        eventWaitTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.wait",
+                "The time reconciliations wait in the queue before they are started",
+                Tags.of(Tag.of("priority", "event")));
+
+        periodicWaitTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.wait",
+                "The time reconciliations wait in the queue before they are started",
+                Tags.of(Tag.of("priority", "periodic")));
+
+        mergedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.merged",
+                "Number of reconciliations merged with a reconciliation of the same resource already waiting in the queue",
+                Tags.empty());
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.kind() + "::" + reconciliation.namespace() + "::" + reconciliation.name();
+    }
+
+    /**
+     * Adds a reconciliation to the queue. Periodic reconciliations are added after a random delay.
+     *
+     * @param reconciliation    The reconciliation
+     * @param priority          Priority of the reconciliation
+     * @param task              Runs the reconciliation
+     *
+     * @return  Future which completes when the reconciliation (or the reconciliation it was merged with) completes
+     */
+    public Future<Void> submit(Reconciliation reconciliation, Priority priority, Supplier<Future<Void>> task) {
+        if (priority == Priority.PERIODIC && spreadMs > 0) {
+            Promise<Void> result = Promise.promise();
+            long delay = 1 + ThreadLocalRandom.current().nextLong(spreadMs);
+            vertx.setTimer(delay, timerId -> enqueue(reconciliation, priority, task).onComplete(result));
+            return result.future();
+        } else {
+            return enqueue(reconciliation, priority, task);
+        }
+    }
+
+    private Future<Void> enqueue(Reconciliation reconciliation, Priority priority, Supplier<Future<Void>> task) {
+        String key = key(reconciliation);
+        Future<Void> result;
+
+        synchronized (this) {
+            Entry existing = queued.get(key);
+
+            if (existing != null) {
+                log.debug("{}: Merged with queued {}", reconciliation, existing.reconciliation);
+                mergedCounter.increment();
+
+                if (priority == Priority.EVENT && existing.priority == Priority.PERIODIC) {
+                    periodicQueue.remove(existing);
+                    existing.priority = Priority.EVENT;
+                    eventQueue.add(existing);
+                }
+
+                result = existing.promise.future();
+            } else {
+                Entry entry = new Entry(key, reconciliation, task, priority);
+                queued.put(key, entry);
+                (priority == Priority.EVENT ? eventQueue : periodicQueue).add(entry);
+                queueDepth.set(queued.size());
+                log.debug("{}: Queued with {} priority", reconciliation, priority);
+
+                result = entry.promise.future();
+            }
+        }
+
+        dispatch();
+        return result;
+    }
+
+    /**
+     * Starts as many queued reconciliations as the concurrency limit allows.
+     */
+    private void dispatch() {
+        List<Entry> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            while (running.size() < maxConcurrent) {
+                Entry next = poll(eventQueue);
+                if (next == null) {
+                    next = poll(periodicQueue);
+                }
+
+                if (next == null) {
+                    break;
+                }
+
+                queued.remove(next.key);
+                running.add(next.key);
+                toStart.add(next);
+            }
+
+            queueDepth.set(queued.size());
+            runningGauge.set(running.size());
+        }
+
+        for (Entry entry : toStart) {
+            start(entry);
+        }
+    }
+
+    /**
+     * Removes the first entry from the queue whose resource is not being reconciled right now
+     */
+    private Entry poll(Deque<Entry> queue) {
+        Iterator<Entry> it = queue.iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (!running.contains(entry.key)) {
+                it.remove();
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void start(Entry entry) {
+        (entry.priority == Priority.EVENT ? eventWaitTimer : periodicWaitTimer).record(System.nanoTime() - entry.enqueuedNanos, TimeUnit.NANOSECONDS);
+        log.debug("{}: Starting", entry.reconciliation);
+
+        Future<Void> reconciliation;
+        try {
+            reconciliation = entry.task.get();
+        } catch (Throwable t) {
+            reconciliation = Future.failedFuture(t);
+        }
+
+        reconciliation.onComplete(res -> {
+            synchronized (this) {
+                running.remove(entry.key);
+            }
+            entry.promise.handle(res);
+            dispatch();
+        });
+    }
+}
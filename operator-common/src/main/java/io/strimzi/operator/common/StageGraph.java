@@ -0,0 +1,204 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Executes the stages of a reconciliation according to their dependencies.
+ * Each stage starts as soon as all the stages it depends on have completed, so stages which do not depend on each
+ * other run concurrently. The stages of one execution all operate on the same state object, so stages which
+ * modify the same parts of the state have to depend on each other.
+ *
+ * <p>When a stage fails, no further stages are started and the execution fails with the cause of the first failure
+ * once the stages which are already running have completed.
+ * The duration of every stage is recorded in the {@code strimzi.reconciliations.stage.duration} metric.</p>
+ *
+ * @param <S> The type of the reconciliation state
+ */
+public class StageGraph<S> {
+    private static final Logger log = LogManager.getLogger(StageGraph.class);
+
+    private final String kind;
+    private final MetricsProvider metrics;
+    private final Map<String, Stage<S>> stages = new LinkedHashMap<>();
+
+    private static class Stage<S> {
+        private final String name;
+        private final Function<S, Future<S>> fn;
+        private final List<String> dependencies;
+        private final List<Stage<S>> dependents = new ArrayList<>();
+        private final Timer timer;
+
+        private Stage(String name, Function<S, Future<S>> fn, List<String> dependencies, Timer timer) {
+            this.name = name;
+            this.fn = fn;
+            this.dependencies = dependencies;
+            this.timer = timer;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param kind      Kind of the reconciled resource (used for the metrics)
+     * @param metrics   Metrics provider
+     */
+    public StageGraph(String kind, MetricsProvider metrics) {
+        this.kind = kind;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a stage to the graph. The dependencies have to be added before the stages which depend on them, which
+     * also guarantees that the graph has no cycles.
+     *
+     * @param name          Unique name of the stage
+     * @param fn            Function executing the stage
+     * @param dependencies  Names of the stages which have to complete before this stage starts
+     *
+     * @return  This graph
+     */
+    public StageGraph<S> stage(String name, Function<S, Future<S>> fn, String... dependencies) {
+        if (stages.containsKey(name)) {
+            throw new IllegalArgumentException("Stage " + name + " is already defined");
+        }
+
+        List<String> deps = new ArrayList<>(dependencies.length);
+        for (String dependency : dependencies) {
+            if (!stages.containsKey(dependency)) {
+                throw new IllegalArgumentException("Stage " + name + " depends on stage " + dependency + " which is not defined");
+            }
+            deps.add(dependency);
+        }
+
+        Timer timer = metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.stage.duration",
+                "The time the individual stages of the reconciliation take to complete",
+                Tags.of(Tag.of("kind", kind), Tag.of("stage", name)));
+
+        Stage<S> stage = new Stage<>(name, fn, deps, timer);
+        for (String dependency : deps) {
+            stages.get(dependency).dependents.add(stage);
+        }
+        stages.put(name, stage);
+
+        return this;
+    }
+
+    /**
+     * Executes all the stages of the graph.
+     *
+     * @param reconciliation    The reconciliation (used for logging)
+     * @param state             The state passed to all the stages
+     *
+     * @return  Future which completes with the state when all stages have completed or fails with the first failure
+     */
+    public Future<S> execute(Reconciliation reconciliation, S state) {
+        return new Execution(reconciliation, state).start();
+    }
+
+    /**
+     * A single execution of the graph
+     */
+    private class Execution {
+        private final Reconciliation reconciliation;
+        private final S state;
+        private final Promise<S> result = Promise.promise();
+        private final Map<Stage<S>, Integer> pendingDependencies = new HashMap<>();
+        private int running = 0;
+        private int completed = 0;
+        private Throwable failure = null;
+
+        private Execution(Reconciliation reconciliation, S state) {
+            this.reconciliation = reconciliation;
+            this.state = state;
+        }
+
+        private synchronized Future<S> start() {
+            List<Stage<S>> ready = new ArrayList<>();
+            for (Stage<S> stage : stages.values()) {
+                pendingDependencies.put(stage, stage.dependencies.size());
+                if (stage.dependencies.isEmpty()) {
+                    ready.add(stage);
+                }
+            }
+
+            if (stages.isEmpty()) {
+                result.complete(state);
+            } else {
+                launch(ready);
+            }
+
+            return result.future();
+        }
+
+        private void launch(List<Stage<S>> ready) {
+            for (Stage<S> stage : ready) {
+                if (failure != null) {
+                    break;
+                }
+
+                log.debug("{}: Starting stage {}", reconciliation, stage.name);
+                running++;
+                long startNanos = System.nanoTime();
+                Future<S> stageFuture;
+
+                try {
+                    stageFuture = stage.fn.apply(state);
+                } catch (Throwable t) {
+                    stageFuture = Future.failedFuture(t);
+                }
+
+                stageFuture.onComplete(res -> complete(stage, res, System.nanoTime() - startNanos));
+            }
+        }
+
+        private synchronized void complete(Stage<S> stage, AsyncResult<S> res, long durationNanos) {
+            running--;
+            stage.timer.record(durationNanos, TimeUnit.NANOSECONDS);
+            log.debug("{}: Stage {} {} after {}ms", reconciliation, stage.name, res.succeeded() ? "completed" : "failed", TimeUnit.NANOSECONDS.toMillis(durationNanos));
+
+            if (res.failed()) {
+                if (failure == null) {
+                    failure = res.cause();
+                }
+            } else {
+                completed++;
+            }
+
+            if (failure != null) {
+                if (running == 0) {
+                    result.tryFail(failure);
+                }
+            } else if (completed == stages.size()) {
+                result.tryComplete(state);
+            } else {
+                List<Stage<S>> ready = new ArrayList<>();
+                for (Stage<S> dependent : stage.dependents) {
+                    int pending = pendingDependencies.merge(dependent, -1, Integer::sum);
+                    if (pending == 0) {
+                        ready.add(dependent);
+                    }
+                }
+                launch(ready);
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -89,13 +91,33 @@ public class Util {
      */
     public static Future<Void> waitFor(Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
                                        Predicate<Throwable> failOnError) {
+        return waitFor(vertx, logContext, logState, pollIntervalMs, timeoutMs, completed, failOnError,
+            (blockingCode, resultHandler) -> vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(blockingCode, true, resultHandler));
+    }
+
+    /**
+     * Invoke the given {@code completed} supplier with the given executor approximately every {@code pollIntervalMs}
+     * milliseconds until it returns true or {@code timeoutMs} milliseconds have elapsed.
+     * @param vertx The vertx instance.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param failOnError Determine whether a given error thrown by {@code completed},
+     *                    should result in the immediate completion of the returned Future.
+     * @param executor Runs the blocking code of a poll and passes its result to the result handler.
+     * @return A future that completes when the given {@code completed} indicates readiness.
+     */
+    public static Future<Void> waitFor(Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
+                                       Predicate<Throwable> failOnError, BiConsumer<Handler<Promise<Void>>, Handler<AsyncResult<Void>>> executor) {
         Promise<Void> promise = Promise.promise();
         LOGGER.debug("Waiting for {} to get {}", logContext, logState);
         long deadline = System.currentTimeMillis() + timeoutMs;
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                executor.accept(
                     future -> {
                         try {
                             if (completed.getAsBoolean())   {
@@ -109,7 +131,6 @@ public class Util {
                             future.fail(e);
                         }
                     },
-                    true,
                     res -> {
                         if (res.succeeded()) {
                             LOGGER.debug("{} is {}", logContext, logState);
@@ -353,6 +374,23 @@ public class Util {
         }
     }
 
+    /**
+     * Converts the futures of the results of an Admin API call for many resources.
+     *
+     * @param vertx     The Vertx instance.
+     * @param kfs       The Kafka futures, indexed by the keys of their resources.
+     * @param <K>       The type of the keys.
+     * @param <T>       The type of the results.
+     * @return The Vert.x futures, indexed by the same keys.
+     */
+    public static <K, T> Map<K, Future<T>> kafkaFuturesToVertxFutures(Vertx vertx, Map<K, KafkaFuture<T>> kfs) {
+        Map<K, Future<T>> result = new HashMap<>(kfs.size());
+        for (Map.Entry<K, KafkaFuture<T>> entry : kfs.entrySet()) {
+            result.put(entry.getKey(), kafkaFutureToVertxFuture(vertx, entry.getValue()));
+        }
+        return result;
+    }
+
     public static ConfigResource getBrokersConfig(int podId) {
         return Util.getBrokersConfig(Integer.toString(podId));
     }
@@ -15,8 +15,10 @@ import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
@@ -45,6 +47,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
     protected final C client;
     protected final String resourceKind;
     private final long operationTimeoutMs;
+    private volatile KubernetesOperationsPool operationsPool;
 
     /**
      * Constructor.
@@ -62,6 +65,34 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
 
     protected abstract NonNamespaceOperation<T, L, D, R> operation();
 
+    /**
+     * Runs the blocking operations of this operator in the given pool, which limits the operations running at the
+     * same time for each kind of resource, instead of the shared worker executors.
+     *
+     * @param operationsPool The pool.
+     */
+    public void enableOperationsPool(KubernetesOperationsPool operationsPool) {
+        this.operationsPool = operationsPool;
+    }
+
+    /**
+     * Runs the given blocking code in the operations pool, if enabled, or in the shared worker executor with the given name.
+     *
+     * @param workerExecutor    The name of the shared worker executor used when the operations pool is not enabled.
+     * @param blockingCode      The blocking code.
+     * @param ordered           Whether the calls on the same context are run in order when the shared worker executor is used.
+     * @param resultHandler     The handler of the result.
+     * @param <X>               The type of the result.
+     */
+    protected <X> void executeBlocking(String workerExecutor, Handler<Promise<X>> blockingCode, boolean ordered, Handler<AsyncResult<X>> resultHandler) {
+        KubernetesOperationsPool operationsPool = this.operationsPool;
+        if (operationsPool != null) {
+            operationsPool.execute(resourceKind, blockingCode, resultHandler);
+        } else {
+            vertx.createSharedWorkerExecutor(workerExecutor).executeBlocking(blockingCode, ordered, resultHandler);
+        }
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -91,7 +122,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        executeBlocking("kubernetes-ops-pool",
             future -> {
                 T current = operation().withName(name).get();
                 if (desired != null) {
@@ -146,6 +177,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
 
     private Future<Void> deleteAsync(String name) {
         Promise<Void> deletePromise = Promise.promise();
+        // Only called from the blocking code of reconcile(), which already holds the permit of the operations pool
         vertx.executeBlocking(
             f -> {
                 try {
@@ -227,7 +259,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
      */
     public Future<T> getAsync(String name) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        executeBlocking("kubernetes-ops-tool",
             future -> {
                 T resource = get(name);
                 future.complete(resource);
@@ -252,7 +284,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
      */
     public Future<List<T>> listAsync(Labels selector) {
         Promise<List<T>> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        executeBlocking("kubernetes-ops-tool",
             future -> {
                 List<T> resource = list(selector);
                 future.complete(resource);
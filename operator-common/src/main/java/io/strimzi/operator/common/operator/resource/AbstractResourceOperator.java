@@ -4,10 +4,15 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
@@ -15,19 +20,35 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
 
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
@@ -42,10 +63,42 @@ import java.util.function.BiPredicate;
 public abstract class AbstractResourceOperator<C extends KubernetesClient, T extends HasMetadata,
         L extends KubernetesResourceList/*<T>*/, D, R extends Resource<T, D>> {
 
+    /**
+     * The maximal number of resources whose last create or patch is remembered for skipping unchanged patches.
+     * The least recently used resources are forgotten first, which only means that their next patch is not skipped.
+     */
+    private static final int MAX_APPLIED = 10_000;
+
+    /**
+     * Serializes the desired resources for their digests, sorting the map entries so that equal resources have equal
+     * digests. It is a copy of the fabric8 patch mapper, which must not be reconfigured because the client uses it.
+     */
+    private static final ObjectMapper DIGEST_MAPPER = patchMapper().copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
     protected final Logger log = LogManager.getLogger(getClass());
     protected final Vertx vertx;
     protected final C client;
     protected final String resourceKind;
+    private volatile Map<String, ResourceCache<T>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * The resource version and the digest of the desired resource of the last create or patch of each resource,
+     * keyed by namespace and name, or null when unchanged patches are not skipped. Bounded to {@link #MAX_APPLIED}
+     * resources, so that the resources deleted by others do not stay in it forever.
+     */
+    private volatile Map<String, Applied> applied;
+    private volatile Counter skippedPatchesCounter;
+    private volatile KubernetesOperationsPool operationsPool;
+
+    private static class Applied {
+        private final String resourceVersion;
+        private final byte[] digest;
+
+        private Applied(String resourceVersion, byte[] digest) {
+            this.resourceVersion = resourceVersion;
+            this.digest = digest;
+        }
+    }
 
     /**
      * Constructor.
@@ -61,6 +114,122 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     protected abstract MixedOperation<T, L, D, R> operation();
 
+    /**
+     * Enables the local {@link ResourceCache} for the given namespace. Once the cache is fresh, {@link #get(String, String)},
+     * {@link #getAsync(String, String)}, {@link #list(String, Labels)} and {@code listAsync} are answered from it
+     * instead of from the Kubernetes API server.
+     *
+     * @param namespace The namespace which should be cached or {@code *} for all namespaces.
+     * @param maxStalenessMs The maximal age of the cache for it to answer reads.
+     * @param metrics The metrics provider used for the cache metrics.
+     * @return A future which completes when the cache has been filled for the first time.
+     */
+    @SuppressWarnings("unchecked") // due to L extends KubernetesResourceList/*<T>*/
+    public Future<Void> enableCache(String namespace, long maxStalenessMs, MetricsProvider metrics) {
+        ResourceCache<T> cache = new ResourceCache<T>(vertx, resourceKind, namespace, maxStalenessMs, metrics,
+            () -> AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) ? operation().inAnyNamespace().list() : operation().inNamespace(namespace).list(),
+            (resourceVersion, watcher) -> {
+                ListOptions options = new ListOptionsBuilder().withResourceVersion(resourceVersion).build();
+                return AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) ? operation().inAnyNamespace().watch(options, watcher) : operation().inNamespace(namespace).watch(options, watcher);
+            });
+
+        ResourceCache<T> previous = caches.put(namespace, cache);
+        if (previous != null) {
+            previous.stop();
+        }
+
+        log.info("Enabling {} cache in namespace {}", resourceKind, namespace);
+        return cache.start();
+    }
+
+    /**
+     * Enables skipping the patches which cannot change the resource. The digest of the desired resource and the
+     * resource version of each resource are remembered when it is created or patched. When the next reconciliation
+     * of the resource finds the same resource version, so that nobody else changed the resource in the meantime, and
+     * a desired resource with the same digest, the patch is skipped, because the API server would answer it without
+     * any change. This is decided locally, without knowing which fields of the current resource are defaulted by the
+     * API server, and so the first patch after the operator starts is never skipped.
+     *
+     * @param metrics The metrics provider used for the counter of the skipped patches.
+     */
+    public void enablePatchSkipping(MetricsProvider metrics) {
+        this.skippedPatchesCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.patches.skipped",
+                "Number of patches which were not sent to the Kubernetes API server because they could not change the resource",
+                Tags.of("kind", resourceKind));
+        this.applied = Collections.synchronizedMap(new LinkedHashMap<String, Applied>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Applied> eldest) {
+                return size() > MAX_APPLIED;
+            }
+        });
+    }
+
+    /**
+     * Runs the blocking operations of this operator in the given pool, which limits the operations running at the
+     * same time for each kind of resource, instead of the shared worker executors.
+     *
+     * @param operationsPool The pool.
+     */
+    public void enableOperationsPool(KubernetesOperationsPool operationsPool) {
+        this.operationsPool = operationsPool;
+    }
+
+    /**
+     * Runs the given blocking code in the operations pool, if enabled, or in the shared worker executor with the given name.
+     *
+     * @param workerExecutor    The name of the shared worker executor used when the operations pool is not enabled.
+     * @param blockingCode      The blocking code.
+     * @param ordered           Whether the calls on the same context are run in order when the shared worker executor is used.
+     * @param resultHandler     The handler of the result.
+     * @param <X>               The type of the result.
+     */
+    protected <X> void executeBlocking(String workerExecutor, Handler<Promise<X>> blockingCode, boolean ordered, Handler<AsyncResult<X>> resultHandler) {
+        KubernetesOperationsPool operationsPool = this.operationsPool;
+        if (operationsPool != null) {
+            operationsPool.execute(resourceKind, blockingCode, resultHandler);
+        } else {
+            vertx.createSharedWorkerExecutor(workerExecutor).executeBlocking(blockingCode, ordered, resultHandler);
+        }
+    }
+
+    /**
+     * Makes a synchronous call of the Kubernetes API, taking a permit of the rate limiter of the operations pool, if
+     * enabled, when it is not made from the blocking code of an operation already running in the pool.
+     *
+     * @param call  The call.
+     * @param <X>   The type of the result.
+     * @return The result of the call.
+     */
+    protected <X> X call(Supplier<X> call) {
+        KubernetesOperationsPool operationsPool = this.operationsPool;
+        return operationsPool != null ? operationsPool.call(resourceKind, call) : call.get();
+    }
+
+    /**
+     * Uses the caches of the given operator instead of own caches. This allows several operators for the same kind of
+     * resources to share a single watch. The caches enabled later on either operator are shared as well.
+     *
+     * @param other The operator whose caches should be used.
+     */
+    public void shareCaches(AbstractResourceOperator<?, T, ?, ?, ?> other) {
+        this.caches = other.caches;
+    }
+
+    /**
+     * Returns the cache covering the given namespace, if any.
+     *
+     * @param namespace The namespace or {@code *} for all namespaces.
+     * @return The cache or null if the namespace is not cached.
+     */
+    protected ResourceCache<T> cache(String namespace) {
+        if (caches.isEmpty()) {
+            return null;
+        }
+
+        ResourceCache<T> cache = caches.get(namespace);
+        return cache != null ? cache : caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -91,7 +260,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        executeBlocking("kubernetes-ops-pool",
             future -> {
                 T current = operation().inNamespace(namespace).withName(name).get();
                 if (desired != null) {
@@ -117,7 +286,16 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
             false,
             promise
         );
-        return promise.future();
+
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            return promise.future().map(result -> {
+                result.resourceOpt().ifPresent(cache::update);
+                return result;
+            });
+        } else {
+            return promise.future();
+        }
     }
 
     /**
@@ -145,7 +323,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     protected Future<ReconcileResult<T>> internalDelete(String namespace, String name, boolean cascading) {
         try {
+            forgetApplied(namespace, name);
             operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).withGracePeriod(-1L).delete();
+            recordDeletion(namespace, name);
             log.debug("{} {} in namespace {} has been deleted", resourceKind, name, namespace);
             return Future.succeededFuture(ReconcileResult.deleted());
         } catch (Exception e) {
@@ -164,8 +344,16 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     protected Future<ReconcileResult<T>> internalPatch(String namespace, String name, T current, T desired, boolean cascading) {
         try {
+            byte[] digest = digest(desired);
+            if (isApplied(namespace, name, current, digest)) {
+                log.debug("{} {} in namespace {} has not been patched because neither the resource nor the desired resource changed since the last patch", resourceKind, name, namespace);
+                skippedPatchesCounter.increment();
+                return Future.succeededFuture(ReconcileResult.noop(current));
+            }
+
             T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(desired);
             log.debug("{} {} in namespace {} has been patched", resourceKind, name, namespace);
+            rememberApplied(namespace, name, result, digest);
             return Future.succeededFuture(wasChanged(current, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
         } catch (Exception e) {
             log.debug("Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -173,6 +361,67 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         }
     }
 
+    /**
+     * @return The digest of the given desired resource, or null when unchanged patches are not skipped.
+     */
+    private byte[] digest(T desired) {
+        if (applied == null) {
+            return null;
+        }
+
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(DIGEST_MAPPER.writeValueAsString(desired).getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            log.debug("Failed to compute the digest of {} {} in namespace {}", resourceKind, desired.getMetadata().getName(), desired.getMetadata().getNamespace(), e);
+            return null;
+        }
+    }
+
+    private boolean isApplied(String namespace, String name, T current, byte[] digest) {
+        Map<String, Applied> applied = this.applied;
+        if (applied == null || digest == null || current == null || current.getMetadata() == null) {
+            return false;
+        }
+
+        Applied last = applied.get(namespace + "/" + name);
+        return last != null
+                && Objects.equals(last.resourceVersion, current.getMetadata().getResourceVersion())
+                && Arrays.equals(last.digest, digest);
+    }
+
+    private void rememberApplied(String namespace, String name, T result, byte[] digest) {
+        Map<String, Applied> applied = this.applied;
+        if (applied != null) {
+            if (digest != null && result != null && result.getMetadata() != null && result.getMetadata().getResourceVersion() != null) {
+                applied.put(namespace + "/" + name, new Applied(result.getMetadata().getResourceVersion(), digest));
+            } else {
+                applied.remove(namespace + "/" + name);
+            }
+        }
+    }
+
+    /**
+     * Records in the cache, if any, that the resource with the given namespace and name has been deleted, so that
+     * the following reads do not return it from the cache before the cache observes the deletion.
+     * Has to be called by the subclasses which delete resources without {@link #internalDelete(String, String, boolean)}.
+     *
+     * @param namespace Namespace of the deleted resource
+     * @param name Name of the deleted resource
+     */
+    protected void recordDeletion(String namespace, String name) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            cache.remove(namespace, name);
+        }
+    }
+
+    private void forgetApplied(String namespace, String name) {
+        Map<String, Applied> applied = this.applied;
+        if (applied != null) {
+            applied.remove(namespace + "/" + name);
+        }
+    }
+
     protected boolean wasChanged(T oldVersion, T newVersion) {
         if (oldVersion != null
                 && oldVersion.getMetadata() != null
@@ -191,8 +440,10 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
     @SuppressWarnings("unchecked")
     protected Future<ReconcileResult<T>> internalCreate(String namespace, String name, T desired) {
         try {
+            byte[] digest = digest(desired);
             ReconcileResult<T> result = ReconcileResult.created(operation().inNamespace(namespace).withName(name).create(desired));
             log.debug("{} {} in namespace {} has been created", resourceKind, name, namespace);
+            rememberApplied(namespace, name, result.resourceOpt().orElse(null), digest);
             return Future.succeededFuture(result);
         } catch (Exception e) {
             log.debug("Caught exception while creating {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -207,7 +458,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      * @return The resource, or null if it doesn't exist.
      */
     public T get(String namespace, String name) {
-        return operation().inNamespace(namespace).withName(name).get();
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            return cache.get(namespace, name, () -> call(() -> operation().inNamespace(namespace).withName(name).get()));
+        } else {
+            return call(() -> operation().inNamespace(namespace).withName(name).get());
+        }
     }
 
     /**
@@ -218,7 +474,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      */
     public Future<T> getAsync(String namespace, String name) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        executeBlocking("kubernetes-ops-tool",
             future -> {
                 T resource = get(namespace, name);
                 future.complete(resource);
@@ -235,6 +491,15 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      */
     @SuppressWarnings("unchecked")
     public List<T> list(String namespace, Labels selector) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            return cache.list(namespace, selector != null ? selector.toMap() : null, () -> call(() -> listFromServer(namespace, selector)));
+        } else {
+            return call(() -> listFromServer(namespace, selector));
+        }
+    }
+
+    private List<T> listFromServer(String namespace, Labels selector) {
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
@@ -284,15 +549,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
         Promise<List<T>> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        executeBlocking("kubernetes-ops-tool",
             future -> {
-                List<T> resources;
-
-                if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
-                    resources = listInAnyNamespace(selector);
-                } else {
-                    resources = listInNamespace(namespace, selector);
-                }
+                List<T> resources = list(namespace, selector);
 
                 future.complete(resources);
             }, true, result
@@ -300,26 +559,36 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         return result.future();
     }
 
-    @SuppressWarnings("unchecked")
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
         Promise<List<T>> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        executeBlocking("kubernetes-ops-tool",
             future -> {
-                FilterWatchListDeletable<T, L, Boolean, Watch> operation;
-                if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
-                    operation = operation().inAnyNamespace();
+                ResourceCache<T> cache = cache(namespace);
+                if (cache != null
+                        && (!selector.isPresent() || selector.get().getMatchExpressions() == null || selector.get().getMatchExpressions().isEmpty())) {
+                    future.complete(cache.list(namespace, selector.map(LabelSelector::getMatchLabels).orElse(null), () -> listFromServer(namespace, selector)));
                 } else {
-                    operation = operation().inNamespace(namespace);
+                    future.complete(listFromServer(namespace, selector));
                 }
-                if (selector.isPresent()) {
-                    operation = operation.withLabelSelector(selector.get());
-                }
-                future.complete(operation.list().getItems());
             }, true, result
         );
         return result.future();
     }
 
+    @SuppressWarnings("unchecked")
+    private List<T> listFromServer(String namespace, Optional<LabelSelector> selector) {
+        FilterWatchListDeletable<T, L, Boolean, Watch> operation;
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
+            operation = operation().inAnyNamespace();
+        } else {
+            operation = operation().inNamespace(namespace);
+        }
+        if (selector.isPresent()) {
+            operation = operation.withLabelSelector(selector.get());
+        }
+        return operation.list().getItems();
+    }
+
     /**
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
      * is ready.
@@ -350,11 +619,19 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      * is ready.
      */
     public Future<Void> waitFor(String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
-        return Util.waitFor(vertx,
-            String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
-            logState,
-            pollIntervalMs,
-            timeoutMs,
-            () -> predicate.test(namespace, name));
+        String logContext = String.format("%s resource %s in namespace %s", resourceKind, name, namespace);
+        KubernetesOperationsPool operationsPool = this.operationsPool;
+
+        if (operationsPool != null) {
+            // Operations in progress, such as rolling updates, are waiting for the result, so the polls are not
+            // queued behind the other calls
+            return Util.waitFor(vertx, logContext, logState, pollIntervalMs, timeoutMs,
+                () -> predicate.test(namespace, name),
+                error -> false,
+                (blockingCode, resultHandler) -> operationsPool.poll(resourceKind, blockingCode, resultHandler));
+        } else {
+            return Util.waitFor(vertx, logContext, logState, pollIntervalMs, timeoutMs,
+                () -> predicate.test(namespace, name));
+        }
     }
 }
@@ -68,7 +68,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
      */
     public Future<Integer> scaleUp(String namespace, String name, int scaleTo) {
         Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        executeBlocking("kubernetes-ops-pool",
             future -> {
                 try {
                     Integer currentScale = currentScale(namespace, name);
@@ -104,7 +104,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
      */
     public Future<Integer> scaleDown(String namespace, String name, int scaleTo) {
         Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        executeBlocking("kubernetes-ops-pool",
             future -> {
                 try {
                     Integer nextReplicas = currentScale(namespace, name);
@@ -75,7 +75,7 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> patchAsync(T resource, boolean cascading) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        executeBlocking("kubernetes-ops-pool", future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
             try {
@@ -94,7 +94,7 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> updateStatusAsync(T resource) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        executeBlocking("kubernetes-ops-pool", future -> {
             try {
 
                 OkHttpClient client = this.client.adapt(OkHttpClient.class);
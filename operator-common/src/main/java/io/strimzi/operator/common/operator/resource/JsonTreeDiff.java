@@ -0,0 +1,167 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structural diff of two JSON trees which reports the paths (JSON pointers) at which they differ. It reports the
+ * same paths as the JSON patch created by {@code JsonDiff.asJson()}, except that array items are compared index by
+ * index, but without creating the patch.
+ *
+ * <p>The ignorable paths are compiled into a trie which is followed while walking the trees, so that checking whether
+ * a difference is ignorable needs neither a regular expression nor the string of its path. As with a regular
+ * expression matching the whole path, only the differences at exactly the ignorable paths are ignored, not the
+ * differences nested below them. The path segment {@code *} matches any array index.</p>
+ */
+public class JsonTreeDiff {
+    /**
+     * Receives the differences found by {@link #diff(JsonNode, JsonNode, Visitor)}
+     */
+    public interface Visitor {
+        /**
+         * Called for every difference which is not ignorable.
+         *
+         * @param path      The JSON pointer of the difference
+         * @param source    The source value at the path or a missing node if it does not exist in the source
+         * @param target    The target value at the path or a missing node if it does not exist in the target
+         *
+         * @return  True to continue with the diff, false to stop it
+         */
+        boolean difference(String path, JsonNode source, JsonNode target);
+
+        /**
+         * Called for every ignorable difference when {@link #reportIgnored()} returns true.
+         *
+         * @param path      The JSON pointer of the difference
+         * @param source    The source value at the path or a missing node if it does not exist in the source
+         * @param target    The target value at the path or a missing node if it does not exist in the target
+         */
+        default void ignored(String path, JsonNode source, JsonNode target) {
+        }
+
+        /**
+         * @return  True if the ignorable differences should be passed to {@link #ignored(String, JsonNode, JsonNode)}
+         */
+        default boolean reportIgnored() {
+            return false;
+        }
+    }
+
+    private static final String ANY_INDEX = "*";
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>(4);
+        private Node anyIndex;
+        private boolean ignorable;
+    }
+
+    private final Node ignorablePaths = new Node();
+
+    /**
+     * @param ignorablePaths The JSON pointers of the paths at which the differences are ignored
+     */
+    public JsonTreeDiff(String... ignorablePaths) {
+        for (String path : ignorablePaths) {
+            Node node = this.ignorablePaths;
+            if (!path.isEmpty()) {
+                for (String segment : path.substring(1).split("/", -1)) {
+                    if (ANY_INDEX.equals(segment)) {
+                        if (node.anyIndex == null) {
+                            node.anyIndex = new Node();
+                        }
+                        node = node.anyIndex;
+                    } else {
+                        node = node.children.computeIfAbsent(unescape(segment), ignored -> new Node());
+                    }
+                }
+            }
+            node.ignorable = true;
+        }
+    }
+
+    /**
+     * Walks the source and target trees and passes their differences to the visitor.
+     *
+     * @param source    Source tree
+     * @param target    Target tree
+     * @param visitor   Visitor receiving the differences
+     */
+    public void diff(JsonNode source, JsonNode target, Visitor visitor) {
+        diff(source, target, ignorablePaths, new ArrayList<>(), visitor);
+    }
+
+    private boolean diff(JsonNode source, JsonNode target, Node ignorable, List<String> path, Visitor visitor) {
+        if (source.isObject() && target.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!diffChild(field.getKey(), field.getValue(), target.path(field.getKey()), childOf(ignorable, field.getKey()), path, visitor)) {
+                    return false;
+                }
+            }
+
+            Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+            while (targetFields.hasNext()) {
+                Map.Entry<String, JsonNode> field = targetFields.next();
+                if (!source.has(field.getKey())
+                        && !diffChild(field.getKey(), MissingNode.getInstance(), field.getValue(), childOf(ignorable, field.getKey()), path, visitor)) {
+                    return false;
+                }
+            }
+
+            return true;
+        } else if (source.isArray() && target.isArray()) {
+            Node item = ignorable != null ? ignorable.anyIndex : null;
+            for (int i = 0; i < Math.max(source.size(), target.size()); i++) {
+                if (!diffChild(String.valueOf(i), source.path(i), target.path(i), item, path, visitor)) {
+                    return false;
+                }
+            }
+
+            return true;
+        } else if (source.equals(target)) {
+            return true;
+        } else if (ignorable != null && ignorable.ignorable) {
+            if (visitor.reportIgnored()) {
+                visitor.ignored(pointer(path), source, target);
+            }
+
+            return true;
+        } else {
+            return visitor.difference(pointer(path), source, target);
+        }
+    }
+
+    private boolean diffChild(String segment, JsonNode source, JsonNode target, Node ignorable, List<String> path, Visitor visitor) {
+        path.add(segment);
+        boolean result = diff(source, target, ignorable, path, visitor);
+        path.remove(path.size() - 1);
+        return result;
+    }
+
+    private static Node childOf(Node node, String field) {
+        return node != null ? node.children.get(field) : null;
+    }
+
+    private static String pointer(List<String> path) {
+        StringBuilder pointer = new StringBuilder();
+        for (String segment : path) {
+            pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+        }
+        return pointer.toString();
+    }
+
+    private static String unescape(String segment) {
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+}
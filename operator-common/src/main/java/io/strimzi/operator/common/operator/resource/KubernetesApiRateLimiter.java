@@ -0,0 +1,298 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client side rate limiter of the Kubernetes API calls, shared by the resource operators.
+ *
+ * <ul>
+ * <li>The calls take permits from a token bucket, which is refilled at the current rate and holds at most one second
+ *     of permits, so that a full reconciliation of many resources does not send all its calls at once.</li>
+ * <li>The rate is adjusted with additive increase and multiplicative decrease: every successful call increases it by
+ *     a small step up to the maximal rate and every call throttled by the API server (HTTP 429) halves it, down to
+ *     the minimal rate. After a throttled call, no permits are given until the {@code Retry-After} time sent by the
+ *     API server has elapsed.</li>
+ * <li>Calls waiting for a permit with {@link Priority#HIGH} priority, such as the readiness checks of rolling updates
+ *     in progress, get permits before the calls with {@link Priority#NORMAL} priority.</li>
+ * </ul>
+ *
+ * <p>The calls waiting for a permit do not take any thread.</p>
+ */
+public class KubernetesApiRateLimiter {
+    private static final Logger log = LogManager.getLogger(KubernetesApiRateLimiter.class);
+
+    /**
+     * The time to wait after a throttled call when the API server did not send the {@code Retry-After} time
+     */
+    /*test*/ static final long DEFAULT_RETRY_AFTER_MS = 1_000;
+
+    /**
+     * Priority of the call
+     */
+    public enum Priority {
+        /**
+         * Calls which other operations in progress are waiting for, such as readiness checks
+         */
+        HIGH,
+
+        /**
+         * All other calls
+         */
+        NORMAL
+    }
+
+    private final Vertx vertx;
+    private final double maxRate;
+    private final double minRate;
+    private final double rateStep;
+    private final MetricsProvider metrics;
+
+    private final Deque<Waiter> highPriorityQueue = new ArrayDeque<>();
+    private final Deque<Waiter> normalPriorityQueue = new ArrayDeque<>();
+    private double rate;
+    private double tokens;
+    private long refilledNanos;
+    private long pausedUntilNanos;
+    private long timerId = -1;
+
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> throttledCounters = new ConcurrentHashMap<>();
+
+    /**
+     * A call waiting for a permit
+     */
+    private static class Waiter {
+        private final Timer waitTimer;
+        private final Context context;
+        private final Promise<Void> promise = Promise.promise();
+        private final long enqueuedNanos = System.nanoTime();
+
+        private Waiter(Timer waitTimer, Context context) {
+            this.waitTimer = waitTimer;
+            this.context = context;
+        }
+
+        private void grant() {
+            waitTimer.record(System.nanoTime() - enqueuedNanos, TimeUnit.NANOSECONDS);
+            if (context != null) {
+                context.runOnContext(ignored -> promise.complete());
+            } else {
+                promise.complete();
+            }
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vertx instance
+     * @param maxRate   Maximal number of calls per second
+     * @param metrics   Metrics provider
+     */
+    public KubernetesApiRateLimiter(Vertx vertx, double maxRate, MetricsProvider metrics) {
+        if (maxRate <= 0) {
+            throw new IllegalArgumentException("The maximal rate of the Kubernetes API calls has to be positive");
+        }
+
+        this.vertx = vertx;
+        this.maxRate = maxRate;
+        this.minRate = Math.min(1, maxRate);
+        this.rateStep = Math.max(maxRate / 100, 0.1);
+        this.metrics = metrics;
+
+        this.rate = maxRate;
+        this.tokens = maxRate;
+        this.refilledNanos = System.nanoTime();
+        this.pausedUntilNanos = refilledNanos;
+
+        Gauge.builder(AbstractOperator.METRICS_PREFIX + "kubernetes.operations.rate.limit", this, KubernetesApiRateLimiter::rate)
+                .description("Current limit of the number of Kubernetes API calls per second")
+                .register(metrics.meterRegistry());
+    }
+
+    /**
+     * @return  The current limit of the number of calls per second
+     */
+    public synchronized double rate() {
+        return rate;
+    }
+
+    /**
+     * Waits for a permit to call the Kubernetes API.
+     *
+     * @param kind      The kind of the resource
+     * @param priority  The priority of the call
+     *
+     * @return  Future which completes, on the context of the caller, when the call is permitted
+     */
+    public Future<Void> acquire(String kind, Priority priority) {
+        Waiter waiter = new Waiter(waitTimer(kind), Vertx.currentContext());
+
+        synchronized (this) {
+            (priority == Priority.HIGH ? highPriorityQueue : normalPriorityQueue).add(waiter);
+        }
+
+        dispatch();
+        return waiter.promise.future();
+    }
+
+    /**
+     * Takes a permit without waiting for it, for the calls which cannot wait. The bucket can go into debt, which
+     * delays the permits of the calls waiting for one.
+     *
+     * @param kind      The kind of the resource
+     */
+    public void take(String kind) {
+        waitTimer(kind).record(0, TimeUnit.NANOSECONDS);
+
+        synchronized (this) {
+            refill(System.nanoTime());
+            tokens--;
+        }
+    }
+
+    /**
+     * Records a successful call, increasing the rate. Calls which failed for any other reason than throttling do
+     * not change the rate.
+     */
+    public synchronized void onSuccess() {
+        if (rate < maxRate) {
+            refill(System.nanoTime());
+            rate = Math.min(maxRate, rate + rateStep);
+        }
+    }
+
+    /**
+     * Records a call throttled by the API server, halving the rate and pausing the calls.
+     *
+     * @param kind          The kind of the resource
+     * @param retryAfterMs  The time the API server asked to wait before the next call
+     */
+    public void onThrottled(String kind, long retryAfterMs) {
+        throttledCounter(kind).increment();
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+            rate = Math.max(minRate, rate / 2);
+            tokens = Math.min(tokens, 0);
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + TimeUnit.MILLISECONDS.toNanos(retryAfterMs));
+            log.warn("{} call throttled by the Kubernetes API server, reducing the rate to {} calls per second and pausing the calls for {}ms", kind, rate, retryAfterMs);
+        }
+    }
+
+    /**
+     * Adds the tokens accumulated since the last refill. Has to be called with the lock held.
+     */
+    private void refill(long now) {
+        if (now > refilledNanos) {
+            tokens = Math.min(maxRate, tokens + rate * (now - refilledNanos) / TimeUnit.SECONDS.toNanos(1));
+            refilledNanos = now;
+        }
+    }
+
+    /**
+     * Grants permits to the waiting calls while there are tokens and schedules the next dispatch when calls are left waiting.
+     */
+    private void dispatch() {
+        List<Waiter> granted = new ArrayList<>();
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+
+            if (now >= pausedUntilNanos) {
+                while (tokens >= 1) {
+                    Waiter next = highPriorityQueue.poll();
+                    if (next == null) {
+                        next = normalPriorityQueue.poll();
+                    }
+
+                    if (next == null) {
+                        break;
+                    }
+
+                    tokens--;
+                    granted.add(next);
+                }
+            }
+
+            if (timerId == -1 && (!highPriorityQueue.isEmpty() || !normalPriorityQueue.isEmpty())) {
+                long delayNanos = Math.max(pausedUntilNanos - now, (long) ((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / rate));
+                timerId = vertx.setTimer(Math.max(1, TimeUnit.NANOSECONDS.toMillis(delayNanos)), id -> {
+                    synchronized (this) {
+                        timerId = -1;
+                    }
+                    dispatch();
+                });
+            }
+        }
+
+        for (Waiter waiter : granted) {
+            waiter.grant();
+        }
+    }
+
+    private Timer waitTimer(String kind) {
+        return waitTimers.computeIfAbsent(kind, k -> metrics.timer(AbstractOperator.METRICS_PREFIX + "kubernetes.operations.throttle.wait",
+                "The time Kubernetes API calls wait for a permit of the client side rate limiter",
+                Tags.of("kind", k)));
+    }
+
+    private Counter throttledCounter(String kind) {
+        return throttledCounters.computeIfAbsent(kind, k -> metrics.counter(AbstractOperator.METRICS_PREFIX + "kubernetes.operations.throttled",
+                "Number of Kubernetes API calls rejected by the API server with HTTP 429",
+                Tags.of("kind", k)));
+    }
+
+    /**
+     * Finds out whether the given error means that the API server throttled the call.
+     *
+     * @param error The error
+     *
+     * @return  The time the API server asked to wait before the next call, or -1 when the call was not throttled
+     */
+    public static long throttledRetryAfterMs(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof KubernetesClientException && ((KubernetesClientException) t).getCode() == 429) {
+                Status status = ((KubernetesClientException) t).getStatus();
+                if (status != null && status.getDetails() != null && status.getDetails().getRetryAfterSeconds() != null) {
+                    return TimeUnit.SECONDS.toMillis(status.getDetails().getRetryAfterSeconds());
+                } else {
+                    return DEFAULT_RETRY_AFTER_MS;
+                }
+            }
+
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Thread pool running the blocking calls of the Kubernetes client, shared by the resource operators.
+ *
+ * <p>The Kubernetes client blocks a thread for each API call, so the size of the pool bounds the number of API calls
+ * in progress. To stop a burst of operations on one kind of resource from taking all the threads, the operations
+ * can be limited per kind. The operations above the limit wait in a queue, without taking any thread, until an
+ * operation on the same kind completes. An operation completes when the promise passed to its blocking code is
+ * completed, so the operations which complete asynchronously keep their place until they are really done.</p>
+ *
+ * <p>When a {@link KubernetesApiRateLimiter} is used, the operations wait for its permit before they are started and
+ * the operations throttled by the API server are retried up to {@value MAX_THROTTLED_RETRIES} times. Waiting for the
+ * permit does not take any thread either.</p>
+ */
+public class KubernetesOperationsPool {
+    /**
+     * Name of the shared worker executor. It must not be used by any other worker executor, because Vert.x would
+     * share the threads with it and ignore the size of this pool.
+     */
+    public static final String NAME = "kubernetes-limited-ops-pool";
+
+    /**
+     * Maximal number of retries of an operation throttled by the API server
+     */
+    public static final int MAX_THROTTLED_RETRIES = 3;
+
+    /**
+     * Marks the threads running the blocking code of the operations, which already hold a permit of the rate limiter
+     */
+    private static final ThreadLocal<Boolean> IN_POOL = new ThreadLocal<>();
+
+    private final WorkerExecutor executor;
+    private final KubernetesApiRateLimiter rateLimiter;
+    private final int maxConcurrentPerKind;
+    private final MetricsProvider metrics;
+    private final Map<String, Kind> kinds = new ConcurrentHashMap<>();
+
+    /**
+     * Operations on a single kind of resource
+     */
+    private class Kind {
+        private final Deque<Runnable> queue = new ArrayDeque<>();
+        private int running = 0;
+
+        private final AtomicInteger runningGauge;
+        private final AtomicInteger queuedGauge;
+        private final Timer waitTimer;
+
+        private Kind(String kind) {
+            Tags tags = Tags.of("kind", kind);
+
+            runningGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "kubernetes.operations.running",
+                    "Number of Kubernetes API operations currently taking a thread of the pool",
+                    tags);
+
+            queuedGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "kubernetes.operations.queued",
+                    "Number of Kubernetes API operations waiting for the limit of concurrent operations on their kind",
+                    tags);
+
+            waitTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "kubernetes.operations.queue.wait",
+                    "The time Kubernetes API operations wait for the limit of concurrent operations on their kind",
+                    tags);
+        }
+
+        private void submit(Runnable operation) {
+            synchronized (this) {
+                if (maxConcurrentPerKind > 0 && running >= maxConcurrentPerKind) {
+                    queue.add(operation);
+                    queuedGauge.set(queue.size());
+                    return;
+                }
+
+                running++;
+                runningGauge.set(running);
+            }
+
+            operation.run();
+        }
+
+        private void release() {
+            Runnable next;
+
+            synchronized (this) {
+                next = queue.poll();
+                if (next == null) {
+                    running--;
+                }
+
+                runningGauge.set(running);
+                queuedGauge.set(queue.size());
+            }
+
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                 Vertx instance
+     * @param poolSize              Number of threads of the pool
+     * @param maxConcurrentPerKind  Maximal number of operations on a single kind of resource running at the same time
+     *                              (0 for unlimited)
+     * @param rateLimiter           Rate limiter of the operations or null when the rate is not limited
+     * @param metrics               Metrics provider
+     */
+    public KubernetesOperationsPool(Vertx vertx, int poolSize, int maxConcurrentPerKind, KubernetesApiRateLimiter rateLimiter, MetricsProvider metrics) {
+        this.executor = vertx.createSharedWorkerExecutor(NAME, poolSize, TimeUnit.SECONDS.toNanos(120));
+        this.maxConcurrentPerKind = maxConcurrentPerKind;
+        this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
+
+        metrics.gauge(AbstractOperator.METRICS_PREFIX + "kubernetes.operations.pool.size",
+                "Number of threads of the pool running the Kubernetes API operations",
+                Tags.empty()).set(poolSize);
+    }
+
+    /**
+     * Runs the blocking code of an operation on the given kind of resource in the pool with the normal priority.
+     *
+     * @param kind          The kind of the resource
+     * @param blockingCode  The blocking code
+     * @param resultHandler The handler of the result of the blocking code
+     * @param <T>           The type of the result
+     */
+    public <T> void execute(String kind, Handler<Promise<T>> blockingCode, Handler<AsyncResult<T>> resultHandler) {
+        execute(kind, KubernetesApiRateLimiter.Priority.NORMAL, blockingCode, resultHandler);
+    }
+
+    /**
+     * Runs the blocking code of an operation on the given kind of resource in the pool, once the rate limiter and the
+     * limit of concurrent operations on the kind allow it. The result handler is called on the context of the caller.
+     *
+     * @param kind          The kind of the resource
+     * @param priority      The priority of the operation in the rate limiter
+     * @param blockingCode  The blocking code
+     * @param resultHandler The handler of the result of the blocking code
+     * @param <T>           The type of the result
+     */
+    public <T> void execute(String kind, KubernetesApiRateLimiter.Priority priority, Handler<Promise<T>> blockingCode, Handler<AsyncResult<T>> resultHandler) {
+        execute(kind, priority, true, blockingCode, resultHandler, 0);
+    }
+
+    /**
+     * Runs the blocking code of a poll of the Kubernetes API, such as a readiness check, in the pool. The poll gets
+     * the permit of the rate limiter with the high priority, because operations in progress are waiting for its
+     * result. It is not subject to the limit of concurrent operations on the kind, because the operations waiting
+     * for it might hold all the places of the kind.
+     *
+     * @param kind          The kind of the resource
+     * @param blockingCode  The blocking code
+     * @param resultHandler The handler of the result of the blocking code
+     * @param <T>           The type of the result
+     */
+    public <T> void poll(String kind, Handler<Promise<T>> blockingCode, Handler<AsyncResult<T>> resultHandler) {
+        execute(kind, KubernetesApiRateLimiter.Priority.HIGH, false, blockingCode, resultHandler, 0);
+    }
+
+    private <T> void execute(String kind, KubernetesApiRateLimiter.Priority priority, boolean limitPerKind, Handler<Promise<T>> blockingCode, Handler<AsyncResult<T>> resultHandler, int retry) {
+        if (rateLimiter == null) {
+            run(kind, limitPerKind, blockingCode, resultHandler);
+        } else {
+            rateLimiter.acquire(kind, priority).onComplete(permit -> run(kind, limitPerKind, blockingCode, result -> {
+                if (result.succeeded()) {
+                    rateLimiter.onSuccess();
+                } else {
+                    long retryAfterMs = KubernetesApiRateLimiter.throttledRetryAfterMs(result.cause());
+
+                    if (retryAfterMs >= 0) {
+                        rateLimiter.onThrottled(kind, retryAfterMs);
+
+                        if (retry < MAX_THROTTLED_RETRIES) {
+                            execute(kind, priority, limitPerKind, blockingCode, resultHandler, retry + 1);
+                            return;
+                        }
+                    }
+                }
+
+                resultHandler.handle(result);
+            }));
+        }
+    }
+
+    /**
+     * Makes a synchronous call of the Kubernetes API on the given kind of resource. The calling thread does not wait
+     * for the rate limiter, but the call takes a permit from it anyway, which delays the following operations, and
+     * its outcome adjusts the rate. The calls made by the blocking code running in the pool are covered by the
+     * permit of their operation and are made directly.
+     *
+     * @param kind  The kind of the resource
+     * @param call  The call
+     * @param <X>   The type of the result
+     *
+     * @return  The result of the call
+     */
+    public <X> X call(String kind, Supplier<X> call) {
+        if (rateLimiter == null || Boolean.TRUE.equals(IN_POOL.get())) {
+            return call.get();
+        }
+
+        rateLimiter.take(kind);
+
+        try {
+            X result = call.get();
+            rateLimiter.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            long retryAfterMs = KubernetesApiRateLimiter.throttledRetryAfterMs(e);
+            if (retryAfterMs >= 0) {
+                rateLimiter.onThrottled(kind, retryAfterMs);
+            }
+            throw e;
+        }
+    }
+
+    private <T> void run(String kind, boolean limitPerKind, Handler<Promise<T>> blockingCode, Handler<AsyncResult<T>> resultHandler) {
+        if (!limitPerKind) {
+            executeBlocking(null, blockingCode, resultHandler);
+            return;
+        }
+
+        Kind limiter = kinds.computeIfAbsent(kind, Kind::new);
+        Context context = Vertx.currentContext();
+        long queuedNanos = System.nanoTime();
+
+        limiter.submit(() -> {
+            limiter.waitTimer.record(System.nanoTime() - queuedNanos, TimeUnit.NANOSECONDS);
+
+            Handler<Void> run = ignored -> executeBlocking(limiter, blockingCode, resultHandler);
+
+            if (context != null && Vertx.currentContext() != context) {
+                // Queued operations are started from the thread of the operation they waited for
+                context.runOnContext(run);
+            } else {
+                run.handle(null);
+            }
+        });
+    }
+
+    private <T> void executeBlocking(Kind limiter, Handler<Promise<T>> blockingCode, Handler<AsyncResult<T>> resultHandler) {
+        executor.<T>executeBlocking(promise -> {
+            if (limiter != null) {
+                promise.future().onComplete(done -> limiter.release());
+            }
+
+            IN_POOL.set(Boolean.TRUE);
+            try {
+                blockingCode.handle(promise);
+            } catch (Throwable e) {
+                promise.tryFail(e);
+            } finally {
+                IN_POOL.remove();
+            }
+        }, false, resultHandler);
+    }
+}
@@ -6,12 +6,9 @@ package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
-import io.fabric8.zjsonpatch.JsonDiff;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.regex.Pattern;
-
 import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
 
 class PodDisruptionBudgetDiff extends AbstractResourceDiff  {
@@ -19,36 +16,42 @@ class PodDisruptionBudgetDiff extends AbstractResourceDiff  {
 
     private final boolean isEmpty;
 
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/status)$");
+    private static final JsonTreeDiff DIFF = new JsonTreeDiff(
+            "/metadata/managedFields",
+            "/status");
 
     public PodDisruptionBudgetDiff(PodDisruptionBudget current, PodDisruptionBudget desired) {
         JsonNode source = patchMapper().valueToTree(current == null ? "{}" : current);
         JsonNode target = patchMapper().valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
 
-        int num = 0;
+        boolean[] differs = {false};
 
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
+        DIFF.diff(source, target, new JsonTreeDiff.Visitor() {
+            @Override
+            public boolean difference(String pathValue, JsonNode currentValue, JsonNode desiredValue) {
+                if (log.isDebugEnabled()) {
+                    log.debug("PodDisruptionBudget differs at path {}", pathValue);
+                    log.debug("Current PodDisruptionBudget path {} has value {}", pathValue, currentValue);
+                    log.debug("Desired PodDisruptionBudget path {} has value {}", pathValue, desiredValue);
+                }
 
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                log.debug("Ignoring PodDisruptionBudget diff {}", d);
-                continue;
+                differs[0] = true;
+                // A single difference is enough
+                return false;
             }
 
-            if (log.isDebugEnabled()) {
-                log.debug("PodDisruptionBudget differs: {}", d);
-                log.debug("Current PodDisruptionBudget path {} has value {}", pathValue, lookupPath(source, pathValue));
-                log.debug("Desired PodDisruptionBudget path {} has value {}", pathValue, lookupPath(target, pathValue));
+            @Override
+            public void ignored(String pathValue, JsonNode currentValue, JsonNode desiredValue) {
+                log.debug("Ignoring PodDisruptionBudget diff at path {}", pathValue);
             }
 
-            num++;
-            break;
-        }
+            @Override
+            public boolean reportIgnored() {
+                return log.isDebugEnabled();
+            }
+        });
 
-        this.isEmpty = num == 0;
+        this.isEmpty = !differs[0];
     }
 
     @Override
@@ -0,0 +1,416 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * A watch-fed local cache of the resources of a single kind in a single namespace
+ * (or in {@linkplain AbstractWatchableResourceOperator#ANY_NAMESPACE any namespace}).
+ *
+ * <p>The cache is populated by a list followed by a watch started from the list's resourceVersion and it is re-listed
+ * every {@code maxStalenessMs / 2} milliseconds. Updates are only applied when they carry a resourceVersion which is
+ * not older than the one already cached, so late watch events can never overwrite newer state.</p>
+ *
+ * <p>The cache answers reads only while it is <em>fresh</em>: the watch is open and the last successful re-list is
+ * no older than {@code maxStalenessMs}. Otherwise the given fallback (normally a call to the API server) is used.
+ * Hits, misses and the time since the last re-list are exported as metrics.</p>
+ *
+ * <p>The cached resources are never handed out: reads return deep copies, so callers can modify what they get
+ * without corrupting the cache. A resource which has been deleted through the operator is read from the fallback
+ * until the cache observes a newer version of it, because a deletion might take a while to complete.</p>
+ *
+ * @param <T> The Kubernetes resource type.
+ */
+public class ResourceCache<T extends HasMetadata> implements Watcher<T> {
+
+    private static final Logger log = LogManager.getLogger(ResourceCache.class);
+
+    /**
+     * Re-lists are never scheduled more often than this, even for very small staleness bounds.
+     */
+    private static final long MIN_RESYNC_INTERVAL_MS = 1_000;
+
+    private final Vertx vertx;
+    private final String resourceKind;
+    private final String namespace;
+    private final long maxStalenessMs;
+    private final Supplier<KubernetesResourceList<T>> lister;
+    private final BiFunction<String, Watcher<T>, Watch> watchFn;
+    private final Map<String, T> store = new ConcurrentHashMap<>();
+    /**
+     * The resources deleted through the operator which the cache did not observe yet, with their cached
+     * resourceVersion at the time of the deletion (or an empty string when they were not cached).
+     */
+    private final Map<String, String> deleted = new ConcurrentHashMap<>();
+    private final AtomicBoolean resyncInProgress = new AtomicBoolean(false);
+
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final AtomicInteger lagGauge;
+
+    private volatile Watch watch;
+    private volatile String resourceVersion;
+    private volatile long lastSyncMs = -1;
+    private long resyncTimer = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param vertx             The Vertx instance.
+     * @param resourceKind      The kind of the cached resources (used for logging and metrics).
+     * @param namespace         The namespace the cache covers, or {@code *} for all namespaces.
+     * @param maxStalenessMs    The maximal age of the last successful re-list for the cache to answer reads.
+     * @param metrics           The metrics provider.
+     * @param lister            Lists all resources covered by this cache.
+     * @param watchFn           Opens a watch for all resources covered by this cache starting at the given resourceVersion.
+     */
+    public ResourceCache(Vertx vertx, String resourceKind, String namespace, long maxStalenessMs, MetricsProvider metrics,
+                         Supplier<KubernetesResourceList<T>> lister, BiFunction<String, Watcher<T>, Watch> watchFn) {
+        this.vertx = vertx;
+        this.resourceKind = resourceKind;
+        this.namespace = namespace;
+        this.maxStalenessMs = maxStalenessMs;
+        this.lister = lister;
+        this.watchFn = watchFn;
+
+        Tags metricTags = Tags.of(Tag.of("kind", resourceKind), Tag.of("namespace", namespace));
+
+        hitsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.hits",
+                "Number of reads answered from the local resource cache",
+                metricTags);
+
+        missesCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.misses",
+                "Number of reads which had to go to the Kubernetes API server because the local resource cache was not fresh",
+                metricTags);
+
+        lagGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "resource.cache.lag.ms",
+                "Milliseconds since the local resource cache was last fully re-synchronized with the Kubernetes API server",
+                metricTags);
+    }
+
+    /**
+     * Fills the cache, opens the watch and schedules the periodic re-list.
+     *
+     * @return A future which completes when the cache has been filled for the first time.
+     */
+    public Future<Void> start() {
+        Promise<Void> result = Promise.promise();
+        vertx.executeBlocking(
+            future -> {
+                try {
+                    resync();
+                    future.complete();
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            false,
+            result);
+
+        long resyncIntervalMs = Math.max(MIN_RESYNC_INTERVAL_MS, maxStalenessMs / 2);
+        resyncTimer = vertx.setPeriodic(resyncIntervalMs, timerId -> vertx.executeBlocking(
+            future -> {
+                try {
+                    resync();
+                } catch (Throwable t) {
+                    log.warn("Failed to re-synchronize {} cache in namespace {}", resourceKind, namespace, t);
+                }
+                future.complete();
+            },
+            false,
+            ignored -> { }));
+
+        return result.future();
+    }
+
+    /**
+     * Stops the periodic re-list and closes the watch. The cache will not answer any further reads.
+     */
+    public void stop() {
+        if (resyncTimer != -1) {
+            vertx.cancelTimer(resyncTimer);
+        }
+        Watch w = watch;
+        watch = null;
+        lastSyncMs = -1;
+        if (w != null) {
+            w.close();
+        }
+        store.clear();
+        deleted.clear();
+    }
+
+    /**
+     * Lists all the resources and merges them into the cache. Reopens the watch if it was closed.
+     * This method blocks and has to be called from a worker thread.
+     */
+    /*test*/ void resync() {
+        if (!resyncInProgress.compareAndSet(false, true)) {
+            log.debug("Re-synchronization of {} cache in namespace {} is already in progress", resourceKind, namespace);
+            return;
+        }
+
+        try {
+            KubernetesResourceList<T> list = lister.get();
+            String listVersion = list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null;
+
+            Set<String> listed = new HashSet<>();
+            for (T resource : list.getItems()) {
+                String key = key(resource);
+                listed.add(key);
+                store.merge(key, resource, (cached, fresh) -> isNewer(cached, resourceVersion(fresh)) ? cached : fresh);
+            }
+            // Anything which was not listed and was not updated after the list was taken does not exist anymore
+            store.entrySet().removeIf(entry -> !listed.contains(entry.getKey()) && !isNewer(entry.getValue(), listVersion));
+            deleted.entrySet().removeIf(entry -> {
+                T cached = store.get(entry.getKey());
+                return observed(entry.getValue(), cached != null ? resourceVersion(cached) : listVersion);
+            });
+
+            resourceVersion = listVersion;
+
+            if (watch == null) {
+                log.debug("Opening {} cache watch in namespace {} at resourceVersion {}", resourceKind, namespace, listVersion);
+                watch = watchFn.apply(listVersion, this);
+            }
+
+            lastSyncMs = System.currentTimeMillis();
+            lagGauge.set(0);
+            log.debug("Re-synchronized {} cache in namespace {} with {} resources", resourceKind, namespace, store.size());
+        } finally {
+            resyncInProgress.set(false);
+        }
+    }
+
+    /**
+     * @return True if the cache is allowed to answer reads. False otherwise.
+     */
+    public boolean isFresh() {
+        long lastSync = lastSyncMs;
+        if (watch == null || lastSync < 0) {
+            return false;
+        }
+
+        long lag = System.currentTimeMillis() - lastSync;
+        lagGauge.set((int) Math.min(Integer.MAX_VALUE, lag));
+        return lag <= maxStalenessMs;
+    }
+
+    /**
+     * @return The last resourceVersion observed by this cache, either through a list or through a watch event.
+     */
+    public String resourceVersion() {
+        return resourceVersion;
+    }
+
+    /**
+     * Gets the resource with the given name, either from the cache when it is fresh or from the given fallback.
+     *
+     * @param namespace The namespace of the resource.
+     * @param name      The name of the resource.
+     * @param fallback  Used to get the resource when the cache is not fresh.
+     *
+     * @return A copy of the resource or null if it does not exist.
+     */
+    public T get(String namespace, String name, Supplier<T> fallback) {
+        String key = key(namespace, name);
+        if (isFresh() && !deleted.containsKey(key)) {
+            hitsCounter.increment();
+            return copy(store.get(key));
+        } else {
+            missesCounter.increment();
+            return fallback.get();
+        }
+    }
+
+    /**
+     * Lists the resources matching the given labels, either from the cache when it is fresh or from the given
+     * fallback.
+     *
+     * @param namespace The namespace of the resources or {@code *} for all namespaces covered by the cache.
+     * @param labels    The labels which the resources have to match or null to match all resources.
+     * @param fallback  Used to list the resources when the cache is not fresh.
+     *
+     * @return Copies of the matching resources.
+     */
+    public List<T> list(String namespace, Map<String, String> labels, Supplier<List<T>> fallback) {
+        if (isFresh() && deleted.isEmpty()) {
+            hitsCounter.increment();
+            List<T> result = new ArrayList<>();
+            for (T resource : store.values()) {
+                if ((AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(resource.getMetadata().getNamespace()))
+                        && matches(resource, labels)) {
+                    result.add(copy(resource));
+                }
+            }
+            return result;
+        } else {
+            missesCounter.increment();
+            return fallback.get();
+        }
+    }
+
+    /**
+     * Stores a resource returned by a write to the API server, so that subsequent reads observe the write even before
+     * the corresponding watch event is received.
+     *
+     * @param resource The resource returned by the API server.
+     */
+    public void update(T resource) {
+        if (resource != null && resource.getMetadata() != null) {
+            String key = key(resource);
+            String version = resourceVersion(resource);
+            store.merge(key, copy(resource), (cached, fresh) -> isNewer(cached, version) ? cached : fresh);
+            deleted.computeIfPresent(key, (k, deletedVersion) -> observed(deletedVersion, version) ? null : deletedVersion);
+        }
+    }
+
+    /**
+     * Records that the resource with the given name has been deleted through the API server. Until the cache observes
+     * a newer version of it, reads fall back to the API server, which knows whether the deletion has completed.
+     *
+     * @param namespace The namespace of the resource.
+     * @param name      The name of the resource.
+     */
+    public void remove(String namespace, String name) {
+        String key = key(namespace, name);
+        T cached = store.get(key);
+        String version = cached != null ? resourceVersion(cached) : null;
+        deleted.put(key, version != null ? version : "");
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+        String key = key(resource);
+        String version = resourceVersion(resource);
+        deleted.computeIfPresent(key, (k, deletedVersion) -> observed(deletedVersion, version) ? null : deletedVersion);
+
+        switch (action) {
+            case ADDED:
+            case MODIFIED:
+                store.merge(key, resource, (cached, fresh) -> isNewer(cached, version) ? cached : fresh);
+                resourceVersion = version;
+                break;
+            case DELETED:
+                store.computeIfPresent(key, (k, cached) -> isNewer(cached, version) ? cached : null);
+                resourceVersion = version;
+                break;
+            default:
+                log.warn("{} cache in namespace {} received unexpected watch event {}, it will be re-synchronized", resourceKind, namespace, action);
+                lastSyncMs = -1;
+        }
+    }
+
+    @Override
+    public void onClose(KubernetesClientException e) {
+        if (e != null) {
+            log.warn("{} cache watch in namespace {} closed, cache will be re-synchronized", resourceKind, namespace, e);
+        } else {
+            log.debug("{} cache watch in namespace {} closed", resourceKind, namespace);
+        }
+        watch = null;
+        lastSyncMs = -1;
+    }
+
+    private static boolean matches(HasMetadata resource, Map<String, String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return true;
+        }
+
+        Map<String, String> resourceLabels = resource.getMetadata().getLabels();
+        return resourceLabels != null && resourceLabels.entrySet().containsAll(labels.entrySet());
+    }
+
+    /**
+     * Checks whether the cached resource is strictly newer than the given resourceVersion. resourceVersions are
+     * opaque strings, but in practice they are etcd revisions. When they cannot be compared, the newer candidate wins.
+     */
+    private static boolean isNewer(HasMetadata cached, String version) {
+        String cachedVersion = resourceVersion(cached);
+        if (cachedVersion == null || version == null) {
+            return false;
+        }
+
+        try {
+            return Long.parseLong(cachedVersion) > Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the given resourceVersion is newer than the one a resource had when it was deleted through the
+     * operator, which means the cache has observed the deletion.
+     */
+    private static boolean observed(String deletedVersion, String version) {
+        if (deletedVersion.isEmpty() || version == null) {
+            return true;
+        }
+
+        try {
+            return Long.parseLong(version) > Long.parseLong(deletedVersion);
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Deep copies the given resource, so that the cached resources are never shared with the callers.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends HasMetadata> T copy(T resource) {
+        if (resource == null) {
+            return null;
+        }
+
+        ObjectMapper mapper = Serialization.jsonMapper();
+        try {
+            return (T) mapper.treeToValue(mapper.valueToTree(resource), resource.getClass());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to copy " + resource.getKind() + " " + resource.getMetadata().getName(), e);
+        }
+    }
+
+    private static String resourceVersion(HasMetadata resource) {
+        return resource.getMetadata() != null ? resource.getMetadata().getResourceVersion() : null;
+    }
+
+    private static String key(HasMetadata resource) {
+        return key(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+}
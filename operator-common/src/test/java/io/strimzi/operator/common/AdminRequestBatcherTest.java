@@ -0,0 +1,147 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class AdminRequestBatcherTest {
+    private static Vertx vertx;
+
+    private MeterRegistry registry;
+    private List<Map<String, Integer>> calls;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        calls = new ArrayList<>();
+    }
+
+    /**
+     * Creates a batcher whose call doubles the value of each request.
+     */
+    private AdminRequestBatcher<String, Integer, Integer> batcher(long lingerMs, int maxBatchSize) {
+        return new AdminRequestBatcher<>(vertx, "TestKind", "double", lingerMs, maxBatchSize, requests -> {
+            synchronized (calls) {
+                calls.add(new LinkedHashMap<>(requests));
+            }
+            Map<String, Future<Integer>> results = new HashMap<>(requests.size());
+            for (Map.Entry<String, Integer> request : requests.entrySet()) {
+                results.put(request.getKey(), Future.succeededFuture(request.getValue() * 2));
+            }
+            return results;
+        }, new MicrometerMetricsProvider(registry));
+    }
+
+    @Test
+    public void testFullBatchIsSentWithoutLinger(VertxTestContext context) {
+        // The linger time is long enough for the batch to be sent only once it is full
+        AdminRequestBatcher<String, Integer, Integer> batcher = batcher(60_000, 3);
+        Checkpoint async = context.checkpoint();
+
+        CompositeFuture.all(batcher.submit("a", 1), batcher.submit("b", 2), batcher.submit("c", 3))
+            .onComplete(context.succeeding(results -> context.verify(() -> {
+                assertThat(results.list(), is(asList(2, 4, 6)));
+                assertThat(calls.size(), is(1));
+                assertThat(new ArrayList<>(calls.get(0).keySet()), is(asList("a", "b", "c")));
+
+                DistributionSummary batchSize = registry.get("strimzi.admin.batch.size")
+                        .tag("kind", "TestKind")
+                        .tag("operation", "double").summary();
+                assertThat(batchSize.count(), is(1L));
+                assertThat(batchSize.totalAmount(), is(3.0));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testBatchIsSentAfterLinger(VertxTestContext context) {
+        AdminRequestBatcher<String, Integer, Integer> batcher = batcher(50, 100);
+        Checkpoint async = context.checkpoint();
+
+        Map<String, Integer> requests = new LinkedHashMap<>();
+        requests.put("a", 1);
+        requests.put("b", 2);
+        batcher.submitAll(requests)
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                assertThat(calls.size(), is(1));
+                assertThat(calls.get(0), is(requests));
+
+                Timer batchTimer = registry.get("strimzi.admin.batch.duration")
+                        .tag("kind", "TestKind")
+                        .tag("operation", "double").timer();
+                assertThat(batchTimer.count(), is(1L));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testRequestForPendingKeySendsPendingBatchFirst(VertxTestContext context) {
+        AdminRequestBatcher<String, Integer, Integer> batcher = batcher(50, 100);
+        Checkpoint async = context.checkpoint();
+
+        CompositeFuture.all(batcher.submit("a", 1), batcher.submit("b", 2), batcher.submit("a", 3))
+            .onComplete(context.succeeding(results -> context.verify(() -> {
+                assertThat(results.list(), is(asList(2, 4, 6)));
+                assertThat(calls.size(), is(2));
+                assertThat(calls.get(0).get("a"), is(1));
+                assertThat(calls.get(0).get("b"), is(2));
+                assertThat(calls.get(1).get("a"), is(3));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFailedCallFailsAllRequests(VertxTestContext context) {
+        AdminRequestBatcher<String, Integer, Integer> batcher = new AdminRequestBatcher<>(vertx, "TestKind", "fail", 50, 100,
+            requests -> {
+                throw new RuntimeException("failed");
+            }, new MicrometerMetricsProvider(registry));
+        Checkpoint async = context.checkpoint(2);
+
+        batcher.submit("a", 1).onComplete(context.failing(error -> context.verify(() -> {
+            assertThat(error.getMessage(), is("failed"));
+            async.flag();
+        })));
+        batcher.submit("b", 2).onComplete(context.failing(error -> context.verify(() -> {
+            assertThat(error.getMessage(), is("failed"));
+            async.flag();
+        })));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class CachingAdminClientProviderTest {
+    private List<Admin> created;
+    private AdminClientProvider delegate;
+
+    @BeforeEach
+    public void setup() {
+        created = new ArrayList<>();
+        delegate = (bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName) -> {
+            Admin admin = mock(Admin.class);
+            created.add(admin);
+            return admin;
+        };
+    }
+
+    private static Secret secret(String name, String data) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("namespace")
+                .endMetadata()
+                .withData(singletonMap("ca.crt", data))
+                .build();
+    }
+
+    @Test
+    public void testClientIsReused() {
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(delegate, 60_000);
+
+        Admin first = provider.createAdminClient("my-cluster-kafka-0:9091", secret("ca", "a"), secret("co", "b"), "cluster-operator");
+        first.close();
+        Admin second = provider.createAdminClient("my-cluster-kafka-0:9091", secret("ca", "a"), secret("co", "b"), "cluster-operator");
+        second.describeCluster();
+        second.close(Duration.ofSeconds(30));
+
+        assertThat(created.size(), is(1));
+        verify(created.get(0)).describeCluster();
+        verify(created.get(0), never()).close(any(Duration.class));
+
+        provider.createAdminClient("my-cluster-kafka-1:9091", secret("ca", "a"), secret("co", "b"), "cluster-operator");
+        assertThat(created.size(), is(2));
+        assertThat(provider.size(), is(2));
+    }
+
+    @Test
+    public void testClientIsReplacedWhenCaChanges() {
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(delegate, 60_000);
+
+        Admin first = provider.createAdminClient("my-cluster-kafka-0:9091", secret("ca", "a"), secret("co", "b"), "cluster-operator");
+        Admin second = provider.createAdminClient("my-cluster-kafka-0:9091", secret("ca", "renewed"), secret("co", "b"), "cluster-operator");
+
+        assertThat(created.size(), is(2));
+        assertThat(provider.size(), is(1));
+
+        // The old client is still leased and can be closed only once released
+        verify(created.get(0), never()).close(any(Duration.class));
+        first.close();
+        verify(created.get(0)).close(any(Duration.class));
+
+        second.close();
+        verify(created.get(1), never()).close(any(Duration.class));
+    }
+
+    @Test
+    public void testIdleClientsAreEvicted() {
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(delegate, 0);
+
+        Admin leased = provider.createAdminClient("my-cluster-kafka-0:9091", null, null, null);
+        Admin released = provider.createAdminClient("my-cluster-kafka-1:9091", null, null, null);
+        released.close();
+        // Closing the same lease twice does not release it twice
+        released.close();
+
+        provider.evictIdle();
+
+        assertThat(provider.size(), is(1));
+        verify(created.get(0), never()).close(any(Duration.class));
+        verify(created.get(1)).close(any(Duration.class));
+
+        leased.close();
+        provider.evictIdle();
+        assertThat(provider.size(), is(0));
+    }
+
+    @Test
+    public void testClientIsCreatedOutsideOfTheLock() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Admin> createdWhileCreating = new ArrayList<>();
+            CachingAdminClientProvider[] provider = new CachingAdminClientProvider[1];
+            provider[0] = new CachingAdminClientProvider((bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName) -> {
+                if (bootstrapHostnames.startsWith("slow")) {
+                    // Another cluster gets its client while this one is being created
+                    try {
+                        createdWhileCreating.add(executor.submit(() -> provider[0].createAdminClient("fast:9091", null, null, null))
+                                .get(10, TimeUnit.SECONDS));
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                return delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName);
+            }, 60_000);
+
+            provider[0].createAdminClient("slow:9091", null, null, null);
+
+            assertThat(createdWhileCreating.size(), is(1));
+            assertThat(created.size(), is(2));
+            assertThat(provider[0].size(), is(2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedCreationIsNotCached() {
+        RuntimeException error = new RuntimeException("failed");
+        List<String> calls = new ArrayList<>();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider((bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName) -> {
+            calls.add(bootstrapHostnames);
+            if (calls.size() == 1) {
+                throw error;
+            }
+            return delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName);
+        }, 60_000);
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> provider.createAdminClient("my-cluster-kafka-0:9091", null, null, null));
+        assertThat(thrown, is(error));
+        assertThat(provider.size(), is(0));
+
+        provider.createAdminClient("my-cluster-kafka-0:9091", null, null, null);
+        assertThat(calls.size(), is(2));
+        assertThat(provider.size(), is(1));
+    }
+}
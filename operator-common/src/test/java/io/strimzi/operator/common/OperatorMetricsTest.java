@@ -4,8 +4,11 @@
  */
 package io.strimzi.operator.common;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -16,6 +19,7 @@ import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedResourceOperator;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -31,10 +35,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
@@ -269,6 +276,120 @@ public class OperatorMetricsTest {
                 })));
     }
 
+    @Test
+    public void testCoalescedReconcile(VertxTestContext context)  {
+        MetricsProvider metrics = createCleanMetricsProvider();
+
+        AbstractWatchableStatusedResourceOperator resourceOperator = resourceOperatorWithExistingResource();
+        Promise<Void> firstCreateOrUpdate = Promise.promise();
+        AtomicInteger createOrUpdateCalls = new AtomicInteger();
+
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metrics) {
+            @Override
+            protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
+                return createOrUpdateCalls.getAndIncrement() == 0 ? firstCreateOrUpdate.future() : Future.succeededFuture();
+            }
+
+            public Set<Condition> validate(CustomResource resource) {
+                return emptySet();
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return null;
+            }
+
+            @Override
+            protected Status createStatus() {
+                return new Status() { };
+            }
+        };
+
+        // The first reconciliation does not complete before the test lets it, so the other two are merged into a
+        // single follow-up reconciliation
+        Future<Void> first = operator.schedule(new Reconciliation("watch", "TestResource", "my-namespace", "my-resource"), ReconciliationScheduler.Priority.EVENT);
+        Future<Void> second = operator.schedule(new Reconciliation("watch", "TestResource", "my-namespace", "my-resource"), ReconciliationScheduler.Priority.EVENT);
+        Future<Void> third = operator.schedule(new Reconciliation("watch", "TestResource", "my-namespace", "my-resource"), ReconciliationScheduler.Priority.EVENT);
+
+        firstCreateOrUpdate.complete();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second, third)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    MeterRegistry registry = metrics.meterRegistry();
+
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations").tag("kind", "TestResource").counter().count(), is(2.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "TestResource").counter().count(), is(2.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.coalesced").tag("kind", "TestResource").counter().count(), is(2.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.locked").tag("kind", "TestResource").counter().count(), is(0.0));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testSkippedReconcile(VertxTestContext context)  {
+        MetricsProvider metrics = createCleanMetricsProvider();
+
+        ObjectMeta metadata = new ObjectMetaBuilder().withName("my-resource").withNamespace("my-namespace").build();
+        AbstractWatchableStatusedResourceOperator resourceOperator = resourceOperatorWithExistingResource(metadata);
+
+        ConfigMap owned = new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("my-resource-config")
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+        AtomicInteger createOrUpdateCalls = new AtomicInteger(0);
+
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metrics) {
+            @Override
+            protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
+                createOrUpdateCalls.incrementAndGet();
+                return Future.succeededFuture();
+            }
+
+            @Override
+            protected Future<List<HasMetadata>> ownedResources(Reconciliation reconciliation, CustomResource resource) {
+                return Future.succeededFuture(singletonList(owned));
+            }
+
+            public Set<Condition> validate(CustomResource resource) {
+                return emptySet();
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return null;
+            }
+
+            @Override
+            protected Status createStatus() {
+                return new Status() { };
+            }
+        };
+        operator.setSkipUnchanged(true);
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"))
+                .compose(ignored -> operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource")))
+                .compose(ignored -> {
+                    // A change to an owned resource triggers a full reconciliation again
+                    owned.getMetadata().setResourceVersion("2");
+                    return operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"));
+                })
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    MeterRegistry registry = metrics.meterRegistry();
+
+                    assertThat(createOrUpdateCalls.get(), is(2));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations").tag("kind", "TestResource").counter().count(), is(3.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "TestResource").counter().count(), is(3.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.skipped").tag("kind", "TestResource").counter().count(), is(1.0));
+
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testReconcileAll(VertxTestContext context)  {
         MetricsProvider metrics = createCleanMetricsProvider();
@@ -353,6 +474,10 @@ public class OperatorMetricsTest {
     }
 
     private AbstractWatchableStatusedResourceOperator resourceOperatorWithExistingResource()    {
+        return resourceOperatorWithExistingResource(null);
+    }
+
+    private AbstractWatchableStatusedResourceOperator resourceOperatorWithExistingResource(ObjectMeta metadata)    {
         return new AbstractWatchableStatusedResourceOperator(vertx, null, "TestResource") {
             @Override
             public Future updateStatusAsync(HasMetadata resource) {
@@ -369,7 +494,7 @@ public class OperatorMetricsTest {
                 return new MyResource() {
                     @Override
                     public ObjectMeta getMetadata() {
-                        return null;
+                        return metadata;
                     }
 
                     @Override
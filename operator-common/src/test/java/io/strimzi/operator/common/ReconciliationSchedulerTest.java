@@ -0,0 +1,145 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconciliationSchedulerTest {
+    private MeterRegistry registry;
+    private List<String> started;
+    private Map<String, Promise<Void>> promises;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        started = new ArrayList<>();
+        promises = new HashMap<>();
+    }
+
+    private ReconciliationScheduler scheduler(int maxConcurrent) {
+        return new ReconciliationScheduler(null, maxConcurrent, 0, new MicrometerMetricsProvider(registry));
+    }
+
+    private Future<Void> submit(ReconciliationScheduler scheduler, String name, ReconciliationScheduler.Priority priority) {
+        Reconciliation reconciliation = new Reconciliation("test", "TestKind", "namespace", name);
+        return scheduler.submit(reconciliation, priority, () -> {
+            started.add(name);
+            Promise<Void> promise = Promise.promise();
+            promises.put(name, promise);
+            return promise.future();
+        });
+    }
+
+    private double queueDepth() {
+        return registry.get("strimzi.reconciliations.queue.depth").gauge().value();
+    }
+
+    @Test
+    public void testConcurrencyIsBounded() {
+        ReconciliationScheduler scheduler = scheduler(2);
+
+        Future<Void> a = submit(scheduler, "a", ReconciliationScheduler.Priority.PERIODIC);
+        submit(scheduler, "b", ReconciliationScheduler.Priority.PERIODIC);
+        submit(scheduler, "c", ReconciliationScheduler.Priority.PERIODIC);
+
+        assertThat(started, is(asList("a", "b")));
+        assertThat(queueDepth(), is(1.0));
+
+        promises.get("a").complete();
+
+        assertThat(a.succeeded(), is(true));
+        assertThat(started, is(asList("a", "b", "c")));
+        assertThat(queueDepth(), is(0.0));
+        assertThat(registry.get("strimzi.reconciliations.queue.wait").tag("priority", "periodic").timer().count(), is(3L));
+    }
+
+    @Test
+    public void testEventsArePrioritized() {
+        ReconciliationScheduler scheduler = scheduler(1);
+
+        submit(scheduler, "a", ReconciliationScheduler.Priority.PERIODIC);
+        submit(scheduler, "b", ReconciliationScheduler.Priority.PERIODIC);
+        submit(scheduler, "c", ReconciliationScheduler.Priority.EVENT);
+
+        promises.get("a").complete();
+        assertThat(started, is(asList("a", "c")));
+
+        promises.get("c").complete();
+        assertThat(started, is(asList("a", "c", "b")));
+    }
+
+    @Test
+    public void testQueuedReconciliationsAreMerged() {
+        ReconciliationScheduler scheduler = scheduler(1);
+
+        submit(scheduler, "a", ReconciliationScheduler.Priority.PERIODIC);
+        Future<Void> b1 = submit(scheduler, "b", ReconciliationScheduler.Priority.PERIODIC);
+        submit(scheduler, "c", ReconciliationScheduler.Priority.EVENT);
+        Future<Void> b2 = submit(scheduler, "b", ReconciliationScheduler.Priority.EVENT);
+
+        assertThat(queueDepth(), is(2.0));
+        assertThat(registry.get("strimzi.reconciliations.queue.merged").counter().count(), is(1.0));
+
+        // The merged reconciliation was promoted to the event priority behind c
+        promises.get("a").complete();
+        promises.get("c").complete();
+        assertThat(started, is(asList("a", "c", "b")));
+
+        promises.get("b").fail(new RuntimeException("failed"));
+        assertThat(b1.failed(), is(true));
+        assertThat(b2.failed(), is(true));
+    }
+
+    @Test
+    public void testSameResourceIsNotReconciledConcurrently() {
+        ReconciliationScheduler scheduler = scheduler(2);
+
+        submit(scheduler, "a", ReconciliationScheduler.Priority.EVENT);
+        submit(scheduler, "a", ReconciliationScheduler.Priority.EVENT);
+        submit(scheduler, "b", ReconciliationScheduler.Priority.PERIODIC);
+
+        assertThat(started, is(asList("a", "b")));
+
+        promises.get("b").complete();
+        assertThat(started, is(asList("a", "b")));
+
+        promises.get("a").complete();
+        assertThat(started, is(asList("a", "b", "a")));
+    }
+
+    @Test
+    public void testThrowingReconciliationDoesNotBlockTheQueue() {
+        ReconciliationScheduler scheduler = scheduler(1);
+
+        Future<Void> failed = scheduler.submit(new Reconciliation("test", "TestKind", "namespace", "x"),
+                ReconciliationScheduler.Priority.EVENT, () -> {
+                throw new RuntimeException("thrown");
+            });
+        submit(scheduler, "a", ReconciliationScheduler.Priority.EVENT);
+
+        assertThat(failed.failed(), is(true));
+        assertThat(started, is(asList("a")));
+    }
+
+    @Test
+    public void testInvalidConcurrencyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> scheduler(0));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StageGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "TestKind", "namespace", "name");
+
+    private MeterRegistry registry;
+    private List<String> started;
+    private Map<String, Promise<List<String>>> promises;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        started = new ArrayList<>();
+        promises = new HashMap<>();
+    }
+
+    private Future<List<String>> pending(String name) {
+        started.add(name);
+        Promise<List<String>> promise = Promise.promise();
+        promises.put(name, promise);
+        return promise.future();
+    }
+
+    private void complete(String name) {
+        promises.get(name).complete(started);
+    }
+
+    private StageGraph<List<String>> graph() {
+        return new StageGraph<>("TestKind", new MicrometerMetricsProvider(registry));
+    }
+
+    @Test
+    public void testIndependentStagesRunConcurrently() {
+        Future<List<String>> result = graph()
+                .stage("a", state -> pending("a"))
+                .stage("b", state -> pending("b"), "a")
+                .stage("c", state -> pending("c"), "a")
+                .stage("d", state -> pending("d"), "b", "c")
+                .execute(RECONCILIATION, started);
+
+        assertThat(started, is(asList("a")));
+
+        complete("a");
+        assertThat(started, is(asList("a", "b", "c")));
+
+        complete("c");
+        assertThat(started, is(asList("a", "b", "c")));
+
+        complete("b");
+        assertThat(started, is(asList("a", "b", "c", "d")));
+        assertThat(result.isComplete(), is(false));
+
+        complete("d");
+        assertThat(result.succeeded(), is(true));
+        assertThat(registry.get("strimzi.reconciliations.stage.duration").tag("stage", "d").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testSynchronousStages() {
+        Future<List<String>> result = graph()
+                .stage("a", state -> {
+                    state.add("a");
+                    return Future.succeededFuture(state);
+                })
+                .stage("b", state -> {
+                    state.add("b");
+                    return Future.succeededFuture(state);
+                }, "a")
+                .execute(RECONCILIATION, started);
+
+        assertThat(result.succeeded(), is(true));
+        assertThat(result.result(), is(asList("a", "b")));
+    }
+
+    @Test
+    public void testFailureStopsFurtherStagesOnceRunningStagesComplete() {
+        Future<List<String>> result = graph()
+                .stage("a", state -> pending("a"))
+                .stage("b", state -> pending("b"))
+                .stage("c", state -> pending("c"), "a", "b")
+                .execute(RECONCILIATION, started);
+
+        promises.get("a").fail(new RuntimeException("failed"));
+        assertThat(result.isComplete(), is(false));
+
+        complete("b");
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("failed"));
+        assertThat(started, is(asList("a", "b")));
+    }
+
+    @Test
+    public void testThrowingStageFailsTheExecution() {
+        Future<List<String>> result = graph()
+                .stage("a", state -> {
+                    throw new RuntimeException("thrown");
+                })
+                .execute(RECONCILIATION, started);
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("thrown"));
+    }
+
+    @Test
+    public void testUnknownDependencyIsRejected() {
+        StageGraph<List<String>> graph = graph().stage("a", state -> pending("a"));
+
+        assertThrows(IllegalArgumentException.class, () -> graph.stage("b", state -> pending("b"), "c"));
+        assertThrows(IllegalArgumentException.class, () -> graph.stage("a", state -> pending("a")));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class JsonTreeDiffTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static List<String> differences(JsonTreeDiff diff, String source, String target) throws IOException {
+        List<String> paths = new ArrayList<>();
+        diff.diff(MAPPER.readTree(source), MAPPER.readTree(target), (path, s, t) -> paths.add(path));
+        return paths;
+    }
+
+    @Test
+    public void testReportsChangedAddedAndRemovedPaths() throws IOException {
+        JsonTreeDiff diff = new JsonTreeDiff();
+
+        assertThat(differences(diff, "{\"a\":{\"b\":1,\"c\":2}}", "{\"a\":{\"b\":1,\"c\":2}}"), is(emptyList()));
+        assertThat(differences(diff, "{\"a\":{\"b\":1,\"c\":2}}", "{\"a\":{\"b\":3,\"d\":4}}"), is(asList("/a/b", "/a/c", "/a/d")));
+        assertThat(differences(diff, "{\"a\":[1,2,3]}", "{\"a\":[1,4]}"), is(asList("/a/1", "/a/2")));
+        assertThat(differences(diff, "{\"a\":[1]}", "{\"a\":{\"b\":1}}"), is(singletonList("/a")));
+        assertThat(differences(diff, "{\"a/b\":1,\"c~d\":1}", "{\"a/b\":2,\"c~d\":2}"), is(asList("/a~1b", "/c~0d")));
+    }
+
+    @Test
+    public void testIgnoresOnlyExactIgnorablePaths() throws IOException {
+        JsonTreeDiff diff = new JsonTreeDiff("/status", "/spec/containers/*/resources", "/metadata/annotations/strimzi.io~1generation");
+
+        assertThat(differences(diff, "{\"status\":{\"a\":1}}", "{}"), is(emptyList()));
+        assertThat(differences(diff, "{\"status\":{\"a\":1}}", "{\"status\":{\"a\":2}}"), is(singletonList("/status/a")));
+        assertThat(differences(diff,
+                "{\"spec\":{\"containers\":[{\"name\":\"a\",\"resources\":{\"cpu\":1}},{\"name\":\"b\"}]}}",
+                "{\"spec\":{\"containers\":[{\"name\":\"a\"},{\"name\":\"b\",\"resources\":{}}]}}"), is(emptyList()));
+        assertThat(differences(diff,
+                "{\"spec\":{\"containers\":{\"0\":{\"resources\":{}}}}}",
+                "{\"spec\":{\"containers\":{\"0\":{}}}}"), is(singletonList("/spec/containers/0/resources")));
+        assertThat(differences(diff,
+                "{\"metadata\":{\"annotations\":{\"strimzi.io/generation\":\"1\",\"other\":\"1\"}}}",
+                "{\"metadata\":{\"annotations\":{\"strimzi.io/generation\":\"2\",\"other\":\"2\"}}}"), is(singletonList("/metadata/annotations/other")));
+    }
+
+    @Test
+    public void testStopsWhenVisitorReturnsFalse() throws IOException {
+        List<String> paths = new ArrayList<>();
+        new JsonTreeDiff().diff(MAPPER.readTree("{\"a\":1,\"b\":1}"), MAPPER.readTree("{\"a\":2,\"b\":2}"), (path, source, target) -> {
+            paths.add(path);
+            return false;
+        });
+
+        assertThat(paths, is(singletonList("/a")));
+    }
+
+    @Test
+    public void testPassesMissingNodesForAddedAndRemovedValues() throws IOException {
+        List<JsonNode> values = new ArrayList<>();
+        new JsonTreeDiff().diff(MAPPER.readTree("{\"a\":1}"), MAPPER.readTree("{\"b\":2}"), (path, source, target) -> {
+            values.add(source);
+            values.add(target);
+            return true;
+        });
+
+        assertThat(values.get(0).asInt(), is(1));
+        assertThat(values.get(1).isMissingNode(), is(true));
+        assertThat(values.get(2).isMissingNode(), is(true));
+        assertThat(values.get(3).asInt(), is(2));
+    }
+}
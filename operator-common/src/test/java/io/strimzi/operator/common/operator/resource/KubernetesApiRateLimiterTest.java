@@ -0,0 +1,134 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KubernetesApiRateLimiterTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testHighPriorityCallsArePermittedFirst(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KubernetesApiRateLimiter limiter = new KubernetesApiRateLimiter(vertx, 10, new MicrometerMetricsProvider(registry));
+
+        List<String> permitted = new ArrayList<>();
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(ignored -> {
+            List<Future> burst = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                burst.add(limiter.acquire("Secret", KubernetesApiRateLimiter.Priority.NORMAL));
+            }
+
+            // The burst took all the tokens
+            Future<Void> normal = limiter.acquire("Secret", KubernetesApiRateLimiter.Priority.NORMAL).onSuccess(v -> permitted.add("normal"));
+            Future<Void> high = limiter.acquire("Pod", KubernetesApiRateLimiter.Priority.HIGH).onSuccess(v -> permitted.add("high"));
+
+            CompositeFuture.all(burst).compose(v -> CompositeFuture.all(normal, high)).onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(permitted, is(asList("high", "normal")));
+                assertThat(registry.get("strimzi.kubernetes.operations.throttle.wait").tag("kind", "Secret").timer().count(), is(11L));
+                assertThat(registry.get("strimzi.kubernetes.operations.throttle.wait").tag("kind", "Pod").timer().count(), is(1L));
+                async.flag();
+            })));
+        });
+    }
+
+    @Test
+    public void testThrottledCallsHalveTheRate() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KubernetesApiRateLimiter limiter = new KubernetesApiRateLimiter(vertx, 40, new MicrometerMetricsProvider(registry));
+
+        limiter.onThrottled("Secret", 0);
+        assertThat(registry.get("strimzi.kubernetes.operations.rate.limit").gauge().value(), is(20.0));
+        limiter.onThrottled("Secret", 0);
+        assertThat(registry.get("strimzi.kubernetes.operations.rate.limit").gauge().value(), is(10.0));
+        assertThat(registry.get("strimzi.kubernetes.operations.throttled").tag("kind", "Secret").counter().count(), is(2.0));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(registry.get("strimzi.kubernetes.operations.rate.limit").gauge().value(), is(40.0));
+    }
+
+    @Test
+    public void testThrottledRetryAfter() {
+        KubernetesClientException throttled = new KubernetesClientException(new StatusBuilder()
+                .withCode(429)
+                .withNewDetails()
+                    .withRetryAfterSeconds(2)
+                .endDetails()
+                .build());
+        assertThat(KubernetesApiRateLimiter.throttledRetryAfterMs(throttled), is(2_000L));
+        assertThat(KubernetesApiRateLimiter.throttledRetryAfterMs(new RuntimeException(throttled)), is(2_000L));
+
+        KubernetesClientException withoutRetryAfter = new KubernetesClientException(new StatusBuilder().withCode(429).build());
+        assertThat(KubernetesApiRateLimiter.throttledRetryAfterMs(withoutRetryAfter), is(KubernetesApiRateLimiter.DEFAULT_RETRY_AFTER_MS));
+
+        KubernetesClientException conflict = new KubernetesClientException(new StatusBuilder().withCode(409).build());
+        assertThat(KubernetesApiRateLimiter.throttledRetryAfterMs(conflict), is(-1L));
+        assertThat(KubernetesApiRateLimiter.throttledRetryAfterMs(new RuntimeException()), is(-1L));
+    }
+
+    @Test
+    public void testRateGaugeIsNotTruncated() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KubernetesApiRateLimiter limiter = new KubernetesApiRateLimiter(vertx, 3, new MicrometerMetricsProvider(registry));
+
+        limiter.onThrottled("Secret", 0);
+        assertThat(registry.get("strimzi.kubernetes.operations.rate.limit").gauge().value(), is(1.5));
+    }
+
+    @Test
+    public void testTakenPermitsDelayTheWaitingCalls(VertxTestContext context) {
+        KubernetesApiRateLimiter limiter = new KubernetesApiRateLimiter(vertx, 10, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(ignored -> {
+            // Synchronous calls take the tokens of the next half a second
+            for (int i = 0; i < 15; i++) {
+                limiter.take("Secret");
+            }
+
+            long start = System.nanoTime();
+            limiter.acquire("Secret", KubernetesApiRateLimiter.Priority.NORMAL).onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(400), is(true));
+                async.flag();
+            })));
+        });
+    }
+}
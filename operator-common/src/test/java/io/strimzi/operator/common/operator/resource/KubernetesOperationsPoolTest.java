@@ -0,0 +1,218 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class KubernetesOperationsPoolTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testOperationsAreLimitedPerKind(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KubernetesOperationsPool pool = new KubernetesOperationsPool(vertx, 4, 1, null, new MicrometerMetricsProvider(registry));
+
+        AtomicInteger runningSecrets = new AtomicInteger();
+        AtomicInteger maxRunningSecrets = new AtomicInteger();
+        CountDownLatch configMapDone = new CountDownLatch(1);
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(ignored -> {
+            List<Future> secrets = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Promise<Boolean> result = Promise.promise();
+                pool.<Boolean>execute("Secret", promise -> {
+                    maxRunningSecrets.accumulateAndGet(runningSecrets.incrementAndGet(), Math::max);
+                    try {
+                        // The ConfigMap operation is not queued behind the Secret operations
+                        promise.complete(configMapDone.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        promise.fail(e);
+                    } finally {
+                        runningSecrets.decrementAndGet();
+                    }
+                }, result);
+                secrets.add(result.future());
+            }
+
+            Promise<Void> configMap = Promise.promise();
+            pool.<Void>execute("ConfigMap", promise -> {
+                configMapDone.countDown();
+                promise.complete();
+            }, configMap);
+
+            List<Future> all = new ArrayList<>(secrets);
+            all.add(configMap.future());
+            CompositeFuture.all(all).onComplete(context.succeeding(res -> context.verify(() -> {
+                for (Future secret : secrets) {
+                    assertThat(secret.result(), is(true));
+                }
+                assertThat(maxRunningSecrets.get(), is(1));
+                assertThat(registry.get("strimzi.kubernetes.operations.queue.wait").tag("kind", "Secret").timer().count(), is(3L));
+                assertThat(registry.get("strimzi.kubernetes.operations.queued").tag("kind", "Secret").gauge().value(), is(0.0));
+                assertThat(registry.get("strimzi.kubernetes.operations.pool.size").gauge().value(), is(4.0));
+                async.flag();
+            })));
+        });
+    }
+
+    @Test
+    public void testPermitIsHeldUntilTheOperationCompletes(VertxTestContext context) {
+        KubernetesOperationsPool pool = new KubernetesOperationsPool(vertx, 4, 1, null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        AtomicInteger completedFirst = new AtomicInteger();
+        AtomicInteger completedWhenSecondStarted = new AtomicInteger(-1);
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(ignored -> {
+            Promise<Void> first = Promise.promise();
+            // The blocking code returns straight away, but the operation completes later
+            pool.<Void>execute("Secret", promise -> vertx.setTimer(200, timerId -> {
+                completedFirst.incrementAndGet();
+                promise.complete();
+            }), first);
+
+            Promise<Void> second = Promise.promise();
+            pool.<Void>execute("Secret", promise -> {
+                completedWhenSecondStarted.set(completedFirst.get());
+                promise.complete();
+            }, second);
+
+            CompositeFuture.all(first.future(), second.future()).onComplete(context.succeeding(res -> context.verify(() -> {
+                assertThat(completedWhenSecondStarted.get(), is(1));
+                async.flag();
+            })));
+        });
+    }
+
+    @Test
+    public void testPoolIsNotSharedWithOtherWorkerExecutors(VertxTestContext context) {
+        // A worker executor with the same name as the default Vert.x executors must not decide the size of the pool
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool", 1);
+        KubernetesOperationsPool pool = new KubernetesOperationsPool(vertx, 2, 0, null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        CountDownLatch bothRunning = new CountDownLatch(2);
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(ignored -> {
+            List<Future> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                Promise<Boolean> result = Promise.promise();
+                pool.<Boolean>execute("Pod", promise -> {
+                    bothRunning.countDown();
+                    try {
+                        promise.complete(bothRunning.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        promise.fail(e);
+                    }
+                }, result);
+                results.add(result.future());
+            }
+
+            CompositeFuture.all(results).onComplete(context.succeeding(res -> context.verify(() -> {
+                for (Future result : results) {
+                    assertThat(result.result(), is(true));
+                }
+                async.flag();
+            })));
+        });
+    }
+
+    @Test
+    public void testPollsAreNotLimitedPerKind(VertxTestContext context) {
+        KubernetesOperationsPool pool = new KubernetesOperationsPool(vertx, 4, 1, null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(ignored -> {
+            Promise<Void> operation = Promise.promise();
+            // The operation waits for a poll on the same kind, as the creation of a StatefulSet waits for its readiness
+            pool.<Void>execute("StatefulSet", promise -> {
+                Promise<Boolean> poll = Promise.promise();
+                pool.<Boolean>poll("StatefulSet", pollPromise -> pollPromise.complete(true), poll);
+                poll.future().map((Void) null).onComplete(promise);
+            }, operation);
+
+            operation.future().onComplete(context.succeeding(v -> async.flag()));
+        });
+    }
+
+    @Test
+    public void testOnlySucceededOperationsIncreaseTheRate(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KubernetesApiRateLimiter rateLimiter = new KubernetesApiRateLimiter(vertx, 100, new MicrometerMetricsProvider(registry));
+        KubernetesOperationsPool pool = new KubernetesOperationsPool(vertx, 4, 0, rateLimiter, new MicrometerMetricsProvider(registry));
+        rateLimiter.onThrottled("Secret", 0);
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(ignored -> {
+            Promise<Void> failed = Promise.promise();
+            pool.<Void>execute("Secret", promise -> promise.fail(new KubernetesClientException(new StatusBuilder().withCode(500).build())), failed);
+
+            failed.future().onComplete(context.failing(error -> context.verify(() -> {
+                assertThat(rateLimiter.rate(), is(50.0));
+
+                Promise<Void> succeeded = Promise.promise();
+                pool.<Void>execute("Secret", promise -> promise.complete(), succeeded);
+                succeeded.future().onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(rateLimiter.rate(), is(51.0));
+                    async.flag();
+                })));
+            })));
+        });
+    }
+
+    @Test
+    public void testSynchronousCallsTakePermits() {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        KubernetesApiRateLimiter rateLimiter = new KubernetesApiRateLimiter(vertx, 100, metrics);
+        KubernetesOperationsPool pool = new KubernetesOperationsPool(vertx, 4, 0, rateLimiter, metrics);
+
+        KubernetesClientException throttled = new KubernetesClientException(new StatusBuilder().withCode(429).build());
+        assertThrows(KubernetesClientException.class, () -> pool.call("Secret", () -> {
+            throw throttled;
+        }));
+
+        assertThat(rateLimiter.rate(), is(50.0));
+        assertThat(pool.call("Secret", () -> "secret"), is("secret"));
+        assertThat(rateLimiter.rate(), is(51.0));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private MeterRegistry registry;
+    private ConfigMapList serverList;
+    private AtomicInteger watchesOpened;
+    private AtomicInteger serverReads;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        serverList = new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withItems(configMap("cm-1", "5", "a"), configMap("cm-2", "7", "b"))
+                .build();
+        watchesOpened = new AtomicInteger(0);
+        serverReads = new AtomicInteger(0);
+    }
+
+    private static ConfigMap configMap(String name, String resourceVersion, String label) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(singletonMap("label", label))
+                .endMetadata()
+                .build();
+    }
+
+    private ResourceCache<ConfigMap> cache(long maxStalenessMs) {
+        return new ResourceCache<>(null, "ConfigMap", NAMESPACE, maxStalenessMs, new MicrometerMetricsProvider(registry),
+            () -> serverList,
+            (resourceVersion, watcher) -> {
+                watchesOpened.incrementAndGet();
+                return mock(Watch.class);
+            });
+    }
+
+    private ConfigMap fromServer() {
+        serverReads.incrementAndGet();
+        return configMap("from-server", "1", "c");
+    }
+
+    @Test
+    public void testCacheIsNotUsedBeforeFirstSync() {
+        ResourceCache<ConfigMap> cache = cache(60_000);
+
+        assertThat(cache.isFresh(), is(false));
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getName(), is("from-server"));
+        assertThat(serverReads.get(), is(1));
+        assertThat(registry.get("strimzi.resource.cache.misses").counter().count(), is(1.0));
+    }
+
+    @Test
+    public void testReadsAreAnsweredFromCacheAfterSync() {
+        ResourceCache<ConfigMap> cache = cache(60_000);
+        cache.resync();
+
+        assertThat(cache.isFresh(), is(true));
+        assertThat(watchesOpened.get(), is(1));
+        assertThat(cache.resourceVersion(), is("10"));
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getResourceVersion(), is("5"));
+        assertThat(cache.get(NAMESPACE, "cm-3", this::fromServer), is(nullValue()));
+        assertThat(serverReads.get(), is(0));
+        assertThat(registry.get("strimzi.resource.cache.hits").counter().count(), is(2.0));
+
+        List<ConfigMap> labelled = cache.list(NAMESPACE, singletonMap("label", "b"), () -> null);
+        assertThat(labelled.size(), is(1));
+        assertThat(labelled.get(0).getMetadata().getName(), is("cm-2"));
+        assertThat(cache.list(NAMESPACE, null, () -> null).size(), is(2));
+        assertThat(cache.list("other-namespace", null, () -> null).size(), is(0));
+    }
+
+    @Test
+    public void testWatchEventsUpdateTheCache() {
+        ResourceCache<ConfigMap> cache = cache(60_000);
+        cache.resync();
+
+        cache.eventReceived(Watcher.Action.ADDED, configMap("cm-3", "11", "c"));
+        cache.eventReceived(Watcher.Action.MODIFIED, configMap("cm-1", "12", "a"));
+        cache.eventReceived(Watcher.Action.DELETED, configMap("cm-2", "13", "b"));
+
+        assertThat(cache.get(NAMESPACE, "cm-3", this::fromServer), is(notNullValue()));
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getResourceVersion(), is("12"));
+        assertThat(cache.get(NAMESPACE, "cm-2", this::fromServer), is(nullValue()));
+        assertThat(cache.resourceVersion(), is("13"));
+    }
+
+    @Test
+    public void testOlderVersionsDoNotOverwriteNewerOnes() {
+        ResourceCache<ConfigMap> cache = cache(60_000);
+        cache.resync();
+
+        cache.update(configMap("cm-1", "15", "a"));
+        cache.eventReceived(Watcher.Action.MODIFIED, configMap("cm-1", "12", "a"));
+        cache.eventReceived(Watcher.Action.DELETED, configMap("cm-1", "14", "a"));
+
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getResourceVersion(), is("15"));
+
+        // A re-list taken before the update must not revert it nor remove it
+        serverList = new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("14")
+                .endMetadata()
+                .withItems(configMap("cm-2", "7", "b"))
+                .build();
+        cache.resync();
+
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getResourceVersion(), is("15"));
+        assertThat(cache.get(NAMESPACE, "cm-2", this::fromServer), is(notNullValue()));
+    }
+
+    @Test
+    public void testReadsReturnCopies() {
+        ResourceCache<ConfigMap> cache = cache(60_000);
+        cache.resync();
+
+        cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().setResourceVersion(null);
+        cache.list(NAMESPACE, null, () -> null).get(0).getMetadata().getLabels().put("label", "changed");
+
+        ConfigMap updated = configMap("cm-3", "11", "c");
+        cache.update(updated);
+        updated.getMetadata().setResourceVersion(null);
+
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getResourceVersion(), is("5"));
+        assertThat(cache.list(NAMESPACE, singletonMap("label", "changed"), () -> null).size(), is(0));
+        assertThat(cache.get(NAMESPACE, "cm-3", this::fromServer).getMetadata().getResourceVersion(), is("11"));
+    }
+
+    @Test
+    public void testDeletedResourceIsReadFromServerUntilDeletionIsObserved() {
+        ResourceCache<ConfigMap> cache = cache(60_000);
+        cache.resync();
+
+        cache.remove(NAMESPACE, "cm-1");
+
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getName(), is("from-server"));
+        assertThat(cache.list(NAMESPACE, null, () -> null), is(nullValue()));
+        assertThat(cache.get(NAMESPACE, "cm-2", this::fromServer).getMetadata().getName(), is("cm-2"));
+
+        // A re-list taken before the deletion does not make the cache used again
+        cache.resync();
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getName(), is("from-server"));
+
+        cache.eventReceived(Watcher.Action.DELETED, configMap("cm-1", "11", "a"));
+
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, null, () -> null).size(), is(1));
+        assertThat(serverReads.get(), is(2));
+    }
+
+    @Test
+    public void testResyncRemovesResourcesMissingFromTheList() {
+        ResourceCache<ConfigMap> cache = cache(60_000);
+        cache.resync();
+
+        serverList = new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("20")
+                .endMetadata()
+                .withItems(configMap("cm-2", "7", "b"))
+                .build();
+        cache.resync();
+
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer), is(nullValue()));
+        assertThat(watchesOpened.get(), is(1));
+    }
+
+    @Test
+    public void testClosedWatchMakesCacheStaleUntilResync() {
+        ResourceCache<ConfigMap> cache = cache(60_000);
+        cache.resync();
+
+        cache.onClose(new KubernetesClientException("Gone"));
+
+        assertThat(cache.isFresh(), is(false));
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getName(), is("from-server"));
+
+        cache.resync();
+
+        assertThat(cache.isFresh(), is(true));
+        assertThat(watchesOpened.get(), is(2));
+    }
+
+    @Test
+    public void testCacheIsNotUsedWhenTooOld() throws InterruptedException {
+        ResourceCache<ConfigMap> cache = cache(1);
+        cache.resync();
+
+        Thread.sleep(10);
+
+        assertThat(cache.isFresh(), is(false));
+        assertThat(cache.get(NAMESPACE, "cm-1", this::fromServer).getMetadata().getName(), is("from-server"));
+    }
+}
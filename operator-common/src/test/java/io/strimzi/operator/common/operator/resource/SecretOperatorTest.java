@@ -4,16 +4,32 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.DoneableSecret;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.SecretList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
 
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, Secret, SecretList, DoneableSecret, Resource<Secret, DoneableSecret>> {
@@ -50,4 +66,50 @@ public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesC
     protected AbstractResourceOperator<KubernetesClient, Secret, SecretList, DoneableSecret, Resource<Secret, DoneableSecret>> createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
         return new SecretOperator(vertx, mockClient);
     }
+
+    @Test
+    public void testPatchIsSkippedWhenNothingChangedSinceTheLastPatch(VertxTestContext context) {
+        Secret current = new SecretBuilder(resource())
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .build();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.withPropagationPolicy(DeletionPropagation.FOREGROUND)).thenReturn(mockResource);
+        when(mockResource.patch(any())).thenReturn(current);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+
+        MixedOperation mockSecrets = mock(MixedOperation.class);
+        when(mockSecrets.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(clientType());
+        mocker(mockClient, mockSecrets);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AbstractResourceOperator<KubernetesClient, Secret, SecretList, DoneableSecret, Resource<Secret, DoneableSecret>> op = createResourceOperations(vertx, mockClient);
+        op.enablePatchSkipping(new MicrometerMetricsProvider(registry));
+
+        Secret changed = new SecretBuilder(resource())
+                .withData(singletonMap("FOO", "BAZ"))
+                .build();
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(NAMESPACE, RESOURCE_NAME, resource())
+            .compose(rr -> op.reconcile(NAMESPACE, RESOURCE_NAME, resource()))
+            .onComplete(context.succeeding(rr -> context.verify(() -> {
+                assertThat(rr instanceof ReconcileResult.Noop, is(true));
+                verify(mockResource, times(1)).patch(any());
+            })))
+            .compose(rr -> op.reconcile(NAMESPACE, RESOURCE_NAME, changed))
+            .onComplete(context.succeeding(rr -> context.verify(() -> {
+                verify(mockResource, times(2)).patch(any());
+                assertThat(registry.get("strimzi.resource.patches.skipped").tag("kind", "Secret").counter().count(), is(1.0));
+                // The digests do not reconfigure the mapper used by the Kubernetes client
+                assertThat(patchMapper().isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS), is(false));
+                async.flag();
+            })));
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Detects the topic changes in Kafka by periodically polling the Kafka Admin API, as an alternative to
+ * {@link ZkTopicsWatcher} which needs a ZooKeeper watch on the znodes of every topic.
+ * Each poll lists the topics, calling {@link TopicOperator#onTopicCreated(LogContext, TopicName)} for new topics and
+ * {@link TopicOperator#onTopicDeleted(LogContext, TopicName)} for deleted topics, and then describes the topics in
+ * windows of bounded size, calling {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)} for the topics
+ * whose partition count or config has changed since the previous poll.
+ *
+ * <p>Only a fingerprint of each topic, made of its partition count and a SHA-256 digest of its config, is kept between
+ * the polls, so the memory used is a few tens of bytes per topic.</p>
+ */
+class AdminTopicsPoller {
+
+    private final static Logger LOGGER = LogManager.getLogger(AdminTopicsPoller.class);
+
+    /**
+     * The part of the topic metadata whose changes are reported to the operator.
+     */
+    private static class Fingerprint {
+        private final int numPartitions;
+        private final byte[] configDigest;
+
+        private Fingerprint(TopicMetadata metadata) {
+            Topic topic = TopicSerialization.fromTopicMetadata(metadata);
+            this.numPartitions = topic.getNumPartitions();
+            this.configDigest = digest(topic.getConfig());
+        }
+
+        /**
+         * Digests the config entries in the order of their names, so that equal configs have the same digest.
+         */
+        private static byte[] digest(Map<String, String> config) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            for (Map.Entry<String, String> entry : new TreeMap<>(config).entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(String.valueOf(entry.getValue()).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return digest.digest();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Fingerprint that = (Fingerprint) o;
+            return numPartitions == that.numPartitions && Arrays.equals(configDigest, that.configDigest);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * numPartitions + Arrays.hashCode(configDigest);
+        }
+    }
+
+    private final Vertx vertx;
+    private final Kafka kafka;
+    private final TopicOperator topicOperator;
+    private final long intervalMs;
+    private final int windowSize;
+
+    private final Map<TopicName, Fingerprint> fingerprints = new HashMap<>();
+    private Set<TopicName> topics;
+
+    private volatile boolean stopped = false;
+    private volatile boolean started = false;
+    private volatile Long timerId;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         The Vertx instance.
+     * @param kafka         The Kafka to poll.
+     * @param topicOperator Operator instance to notify.
+     * @param intervalMs    The interval between the end of a poll and the start of the next one.
+     * @param windowSize    The maximum number of topics described in a single request.
+     */
+    AdminTopicsPoller(Vertx vertx, Kafka kafka, TopicOperator topicOperator, long intervalMs, int windowSize) {
+        this.vertx = vertx;
+        this.kafka = kafka;
+        this.topicOperator = topicOperator;
+        this.intervalMs = intervalMs;
+        this.windowSize = windowSize;
+    }
+
+    void start() {
+        pollAndReschedule();
+    }
+
+    void stop() {
+        this.stopped = true;
+        Long timerId = this.timerId;
+        if (timerId != null) {
+            vertx.cancelTimer(timerId);
+        }
+    }
+
+    /**
+     * @return Whether the first poll, which only records the existing topics, has completed.
+     */
+    boolean started() {
+        return this.started;
+    }
+
+    private void pollAndReschedule() {
+        timerId = null;
+        poll().onComplete(result -> {
+            if (result.failed()) {
+                LOGGER.warn("Error polling for topic changes", result.cause());
+            }
+            if (!stopped) {
+                timerId = vertx.setTimer(intervalMs, id -> pollAndReschedule());
+            }
+        });
+    }
+
+    /**
+     * Polls Kafka once. The first successful poll records the existing topics without notifying the operator.
+     *
+     * @return A future which completes when all the topics have been described.
+     */
+    Future<Void> poll() {
+        return kafka.listTopics().compose(names -> {
+            Set<TopicName> current = new HashSet<>(names.size());
+            for (String name : names) {
+                current.add(new TopicName(name));
+            }
+
+            // The topics which are new in this poll, or all the topics when the existing topics are recorded
+            Set<TopicName> created;
+            if (topics != null) {
+                created = new HashSet<>();
+                for (TopicName topicName : topics) {
+                    if (!current.contains(topicName)) {
+                        fingerprints.remove(topicName);
+                        notifyDeleted(topicName);
+                    }
+                }
+                for (TopicName topicName : current) {
+                    if (!topics.contains(topicName)) {
+                        created.add(topicName);
+                        notifyCreated(topicName);
+                    }
+                }
+            } else {
+                created = current;
+            }
+            topics = current;
+
+            return describeWindows(new ArrayList<>(current), created, 0);
+        }).onSuccess(ignored -> started = true);
+    }
+
+    /**
+     * Describes the topics from the given index in windows of {@link #windowSize}, one window at a time,
+     * comparing their fingerprints with the ones of the previous poll.
+     */
+    private Future<Void> describeWindows(List<TopicName> topicNames, Set<TopicName> created, int from) {
+        if (from >= topicNames.size() || stopped) {
+            return Future.succeededFuture();
+        }
+        List<TopicName> window = topicNames.subList(from, Math.min(from + windowSize, topicNames.size()));
+        return kafka.topicMetadata(window).compose(metadata -> {
+            for (Map.Entry<TopicName, TopicMetadata> entry : metadata.entrySet()) {
+                Fingerprint fingerprint = new Fingerprint(entry.getValue());
+                Fingerprint previous = fingerprints.put(entry.getKey(), fingerprint);
+                if (previous == null) {
+                    // A new topic is notified by the listing, and the topics existing when the poller started are
+                    // only recorded. Any other topic could not be described before, so it might have changed.
+                    if (!created.contains(entry.getKey())) {
+                        notifyChanged(entry.getKey());
+                    }
+                } else if (!previous.equals(fingerprint)) {
+                    notifyChanged(entry.getKey());
+                }
+            }
+            return describeWindows(topicNames, created, from + windowSize);
+        });
+    }
+
+    private void notifyCreated(TopicName topicName) {
+        LogContext logContext = LogContext.adminPoll("+" + topicName);
+        LOGGER.info("{}: Topic created", logContext);
+        topicOperator.onTopicCreated(logContext, topicName).onComplete(ar -> {
+            if (ar.succeeded()) {
+                LOGGER.debug("{}: Success responding to creation of topic {}", logContext, topicName);
+            } else {
+                LOGGER.warn("{}: Error responding to creation of topic {}", logContext, topicName, ar.cause());
+            }
+        });
+    }
+
+    private void notifyDeleted(TopicName topicName) {
+        LogContext logContext = LogContext.adminPoll("-" + topicName);
+        LOGGER.info("{}: Topic deleted", logContext);
+        topicOperator.onTopicDeleted(logContext, topicName).onComplete(ar -> {
+            if (ar.succeeded()) {
+                LOGGER.debug("{}: Success responding to deletion of topic {}", logContext, topicName);
+            } else {
+                LOGGER.warn("{}: Error responding to deletion of topic {}", logContext, topicName, ar.cause());
+            }
+        });
+    }
+
+    /**
+     * The change has already been observed in the metadata, so the config change handler, which reconciles the topic
+     * with its current metadata, is used for partition changes too, rather than
+     * {@link TopicOperator#onTopicPartitionsChanged(LogContext, TopicName)} which waits for the change to become visible.
+     */
+    private void notifyChanged(TopicName topicName) {
+        LogContext logContext = LogContext.adminPoll("=" + topicName);
+        LOGGER.info("{}: Topic change", logContext);
+        topicOperator.onTopicConfigChanged(logContext, topicName).onComplete(ar -> {
+            LOGGER.info("{}: Reconciliation result due to topic change on topic {}: {}", logContext, topicName, ar);
+        });
+    }
+}
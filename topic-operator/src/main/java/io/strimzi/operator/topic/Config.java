@@ -57,6 +57,32 @@ public class Config {
         }
     };
 
+    /**
+     * The type of the topic store.
+     */
+    private static final Type<? extends String> TOPIC_STORE_TYPE = new Type<String>() {
+        @Override
+        String parse(String s) {
+            if (!TOPIC_STORE_ZOOKEEPER.equals(s) && !TOPIC_STORE_KAFKA.equals(s)) {
+                throw new IllegalArgumentException("The value must be " + TOPIC_STORE_ZOOKEEPER + " or " + TOPIC_STORE_KAFKA);
+            }
+            return s;
+        }
+    };
+
+    /**
+     * The mechanism used to detect the topic changes in Kafka.
+     */
+    private static final Type<? extends String> TOPIC_CHANGE_DETECTION_TYPE = new Type<String>() {
+        @Override
+        String parse(String s) {
+            if (!TOPIC_CHANGE_DETECTION_ZOOKEEPER.equals(s) && !TOPIC_CHANGE_DETECTION_ADMIN.equals(s)) {
+                throw new IllegalArgumentException("The value must be " + TOPIC_CHANGE_DETECTION_ZOOKEEPER + " or " + TOPIC_CHANGE_DETECTION_ADMIN);
+            }
+            return s;
+        }
+    };
+
     /**
      * A kubernetes selector.
      */
@@ -96,10 +122,23 @@ public class Config {
     public static final String TC_ZK_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     public static final String TC_ZK_CONNECTION_TIMEOUT_MS = "TC_ZK_CONNECTION_TIMEOUT_MS";
     public static final String TC_PERIODIC_INTERVAL_MS = "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS";
+    public static final String TC_PERIODIC_CONCURRENCY = "STRIMZI_FULL_RECONCILIATION_CONCURRENCY";
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_ADMIN_BATCH_LINGER_MS = "STRIMZI_ADMIN_BATCH_LINGER_MS";
+    public static final String TC_ADMIN_BATCH_MAX_SIZE = "STRIMZI_ADMIN_BATCH_MAX_SIZE";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
+    public static final String TC_TOPIC_STORE = "STRIMZI_TOPIC_STORE";
+    public static final String TC_TOPIC_STORE_TOPIC = "STRIMZI_TOPIC_STORE_TOPIC";
+    public static final String TC_TOPIC_CHANGE_DETECTION = "STRIMZI_TOPIC_CHANGE_DETECTION";
+    public static final String TC_TOPIC_CHANGE_POLL_INTERVAL_MS = "STRIMZI_TOPIC_CHANGE_POLL_INTERVAL_MS";
+
+    public static final String TOPIC_STORE_ZOOKEEPER = "zookeeper";
+    public static final String TOPIC_STORE_KAFKA = "kafka";
+
+    public static final String TOPIC_CHANGE_DETECTION_ZOOKEEPER = "zookeeper";
+    public static final String TOPIC_CHANGE_DETECTION_ADMIN = "admin";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
     public static final String TC_TLS_TRUSTSTORE_LOCATION = "STRIMZI_TRUSTSTORE_LOCATION";
@@ -131,6 +170,12 @@ public class Config {
     /** The period between full reconciliations. */
     public static final Value<Long> FULL_RECONCILIATION_INTERVAL_MS = new Value<>(TC_PERIODIC_INTERVAL_MS, DURATION, "900000");
 
+    /**
+     * The maximum number of topics reconciled concurrently by a full reconciliation,
+     * which is also the number of topics whose metadata is fetched from Kafka in one request.
+     */
+    public static final Value<Integer> FULL_RECONCILIATION_CONCURRENCY = new Value<>(TC_PERIODIC_CONCURRENCY, POSITIVE_INTEGER, "100");
+
     /** The interbroker throttled rate to use when a topic change requires partition reassignment. */
     public static final Value<Long> REASSIGN_THROTTLE = new Value<>(TC_REASSIGN_THROTTLE, LONG, Long.toString(Long.MAX_VALUE));
 
@@ -143,9 +188,33 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /**
+     * The time to wait for requests for other topics before sending a batched Admin API request,
+     * or 0 to send one request per topic.
+     */
+    public static final Value<Long> ADMIN_BATCH_LINGER_MS = new Value<>(TC_ADMIN_BATCH_LINGER_MS, DURATION, "10");
+
+    /** The maximum number of topics in a batched Admin API request. */
+    public static final Value<Integer> ADMIN_BATCH_MAX_SIZE = new Value<>(TC_ADMIN_BATCH_MAX_SIZE, POSITIVE_INTEGER, "100");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
+    /** Where the topic state is stored: in ZooKeeper ({@code zookeeper}) or in a compacted Kafka topic ({@code kafka}). */
+    public static final Value<String> TOPIC_STORE = new Value<>(TC_TOPIC_STORE, TOPIC_STORE_TYPE, TOPIC_STORE_ZOOKEEPER);
+
+    /** The name of the compacted Kafka topic that stores the topic state when the {@code kafka} topic store is used. */
+    public static final Value<String> TOPIC_STORE_TOPIC = new Value<>(TC_TOPIC_STORE_TOPIC, STRING, "__strimzi_topic_operator_store");
+
+    /**
+     * How the topic changes in Kafka are detected: {@code zookeeper} for ZooKeeper watches on every topic,
+     * or {@code admin} for polling the Kafka Admin API.
+     */
+    public static final Value<String> TOPIC_CHANGE_DETECTION = new Value<>(TC_TOPIC_CHANGE_DETECTION, TOPIC_CHANGE_DETECTION_TYPE, TOPIC_CHANGE_DETECTION_ZOOKEEPER);
+
+    /** The interval between the polls for topic changes when the {@code admin} topic change detection is used. */
+    public static final Value<Long> TOPIC_CHANGE_POLL_INTERVAL_MS = new Value<>(TC_TOPIC_CHANGE_POLL_INTERVAL_MS, DURATION, "30000");
+
     /** If the connection with Kafka has to be encrypted by TLS protocol */
     public static final Value<String> TLS_ENABLED = new Value<>(TC_TLS_ENABLED, STRING, "false");
     /** The truststore with CA certificate for Kafka broker/server authentication */
@@ -168,10 +237,17 @@ public class Config {
         addConfigValue(configValues, ZOOKEEPER_SESSION_TIMEOUT_MS);
         addConfigValue(configValues, ZOOKEEPER_CONNECTION_TIMEOUT_MS);
         addConfigValue(configValues, FULL_RECONCILIATION_INTERVAL_MS);
+        addConfigValue(configValues, FULL_RECONCILIATION_CONCURRENCY);
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, ADMIN_BATCH_LINGER_MS);
+        addConfigValue(configValues, ADMIN_BATCH_MAX_SIZE);
         addConfigValue(configValues, TOPICS_PATH);
+        addConfigValue(configValues, TOPIC_STORE);
+        addConfigValue(configValues, TOPIC_STORE_TOPIC);
+        addConfigValue(configValues, TOPIC_CHANGE_DETECTION);
+        addConfigValue(configValues, TOPIC_CHANGE_POLL_INTERVAL_MS);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
         addConfigValue(configValues, TLS_TRUSTSTORE_PASSWORD);
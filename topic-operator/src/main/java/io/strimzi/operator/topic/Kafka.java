@@ -6,6 +6,9 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -65,6 +68,19 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of the given topics in Kafka, using as few requests as possible,
+     * completing the returned Future with the metadata of each topic.
+     * The returned map may omit topics, for example because they do not exist or because their metadata
+     * could not be fetched; callers should then fetch them individually using {@link #topicMetadata(TopicName)}.
+     * The default implementation fetches no metadata at all.
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the metadata of the topics.
+     */
+    default Future<Map<TopicName, TopicMetadata>> topicMetadata(Collection<TopicName> topicNames) {
+        return Future.succeededFuture(Collections.emptyMap());
+    }
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
@@ -4,11 +4,19 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
+import io.strimzi.operator.common.AdminRequestBatcher;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -42,9 +50,41 @@ public class KafkaImpl implements Kafka {
 
     protected final Vertx vertx;
 
+    private final AdminRequestBatcher<TopicName, TopicName, TopicMetadata> describeBatcher;
+    private final AdminRequestBatcher<String, NewTopic, Void> createBatcher;
+    private final AdminRequestBatcher<ConfigResource, Config, Void> alterConfigsBatcher;
+    private final AdminRequestBatcher<String, NewPartitions, Void> createPartitionsBatcher;
+
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, 0, 1, null);
+    }
+
+    /**
+     * @param adminClient       The Admin client.
+     * @param vertx             The Vertx instance.
+     * @param batchLingerMs     The time to wait for more requests before sending a batched Admin API request,
+     *                          or 0 to send one request per topic.
+     * @param maxBatchSize      The maximum number of topics in a batched Admin API request.
+     * @param metrics           The metrics provider for the batch metrics, required when batching.
+     */
+    public KafkaImpl(Admin adminClient, Vertx vertx, long batchLingerMs, int maxBatchSize, MetricsProvider metrics) {
         this.adminClient = adminClient;
         this.vertx = vertx;
+        if (batchLingerMs > 0) {
+            this.describeBatcher = new AdminRequestBatcher<>(vertx, "KafkaTopic", "describe", batchLingerMs, maxBatchSize,
+                requests -> describe(requests.keySet()), metrics);
+            this.createBatcher = new AdminRequestBatcher<>(vertx, "KafkaTopic", "create", batchLingerMs, maxBatchSize,
+                requests -> mapFutures(adminClient.createTopics(requests.values()).values()), metrics);
+            this.alterConfigsBatcher = new AdminRequestBatcher<>(vertx, "KafkaTopic", "alterConfigs", batchLingerMs, maxBatchSize,
+                requests -> mapFutures(alterConfigs(requests)), metrics);
+            this.createPartitionsBatcher = new AdminRequestBatcher<>(vertx, "KafkaTopic", "createPartitions", batchLingerMs, maxBatchSize,
+                requests -> mapFutures(adminClient.createPartitions(requests).values()), metrics);
+        } else {
+            this.describeBatcher = null;
+            this.createBatcher = null;
+            this.alterConfigsBatcher = null;
+            this.createPartitionsBatcher = null;
+        }
     }
 
     /**
@@ -82,12 +122,19 @@ public class KafkaImpl implements Kafka {
         return handler.future();
     }
 
-    @SuppressWarnings("deprecation")
     @Override
     public Future<Void> updateTopicConfig(Topic topic) {
         Map<ConfigResource, Config> configs = TopicSerialization.toTopicConfig(topic);
-        KafkaFuture<Void> future = adminClient.alterConfigs(configs).values().get(configs.keySet().iterator().next());
-        return mapFuture(future);
+        Map.Entry<ConfigResource, Config> config = configs.entrySet().iterator().next();
+        if (alterConfigsBatcher != null) {
+            return alterConfigsBatcher.submit(config.getKey(), config.getValue());
+        }
+        return mapFuture(alterConfigs(configs).get(config.getKey()));
+    }
+
+    @SuppressWarnings("deprecation")
+    private Map<ConfigResource, KafkaFuture<Void>> alterConfigs(Map<ConfigResource, Config> configs) {
+        return adminClient.alterConfigs(configs).values();
     }
 
     /**
@@ -98,21 +145,71 @@ public class KafkaImpl implements Kafka {
     @Override
     public Future<TopicMetadata> topicMetadata(TopicName topicName) {
         LOGGER.debug("Getting metadata for topic {}", topicName);
-        ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
-        Future<TopicDescription> topicDescriptionFuture = mapFuture(adminClient.describeTopics(
-                singleton(topicName.toString())).values().get(topicName.toString()));
-        Future<Config> configFuture = mapFuture(adminClient.describeConfigs(
-                singleton(resource)).values().get(resource));
-        return CompositeFuture.all(topicDescriptionFuture, configFuture)
-        .map(compositeFuture ->
-            new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)))
-            .recover(error -> {
-                if (error instanceof UnknownTopicOrPartitionException) {
-                    return Future.succeededFuture(null);
-                } else {
-                    return Future.failedFuture(error);
-                }
-            });
+        if (describeBatcher != null) {
+            return describeBatcher.submit(topicName, topicName);
+        }
+        return describe(singleton(topicName)).get(topicName);
+    }
+
+    /**
+     * Completes the returned Future on the Vertx event loop with the metadata of the given topics,
+     * obtained with a single describe topics and a single describe configs request of the Kafka AdminClient API.
+     * The topics which do not exist or whose metadata could not be obtained are omitted.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Collection<TopicName> topicNames) {
+        LOGGER.debug("Getting metadata for {} topics", topicNames.size());
+        try {
+            Map<TopicName, TopicMetadata> result = new ConcurrentHashMap<>(topicNames.size());
+            List<Future> futures = new ArrayList<>(topicNames.size());
+            for (Map.Entry<TopicName, Future<TopicMetadata>> entry : describe(topicNames).entrySet()) {
+                futures.add(entry.getValue()
+                    .<Void>map(metadata -> {
+                        if (metadata != null) {
+                            result.put(entry.getKey(), metadata);
+                        }
+                        return null;
+                    })
+                    .otherwise(error -> {
+                        LOGGER.debug("Could not get metadata for topic {}", entry.getKey(), error);
+                        return null;
+                    }));
+            }
+            return CompositeFuture.join(futures).map(result);
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    /**
+     * Describes the given topics and their configs with a single request each, returning a future for the metadata
+     * of each topic, which completes with null if the topic does not exist.
+     */
+    private Map<TopicName, Future<TopicMetadata>> describe(Collection<TopicName> topicNames) {
+        Set<String> names = new HashSet<>(topicNames.size());
+        Set<ConfigResource> resources = new HashSet<>(topicNames.size());
+        for (TopicName topicName : topicNames) {
+            names.add(topicName.toString());
+            resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()));
+        }
+        Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(names).values();
+        Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+
+        Map<TopicName, Future<TopicMetadata>> result = new HashMap<>(topicNames.size());
+        for (TopicName topicName : topicNames) {
+            ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
+            result.put(topicName, CompositeFuture.all(mapFuture(descriptions.get(topicName.toString())), mapFuture(configs.get(resource)))
+                .map(compositeFuture ->
+                    new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)))
+                .recover(error -> {
+                    if (error instanceof UnknownTopicOrPartitionException) {
+                        return Future.succeededFuture(null);
+                    } else {
+                        return Future.failedFuture(error);
+                    }
+                }));
+        }
+        return result;
     }
 
     @Override
@@ -133,6 +230,9 @@ public class KafkaImpl implements Kafka {
             String topicName = topic.getTopicName().toString();
             final NewPartitions newPartitions = NewPartitions.increaseTo(topic.getNumPartitions());
             LOGGER.debug("Increasing partitions {}", newPartitions);
+            if (createPartitionsBatcher != null) {
+                return createPartitionsBatcher.submit(topicName, newPartitions);
+            }
             final Map<String, NewPartitions> request = Collections.singletonMap(topicName, newPartitions);
             return mapFuture(adminClient.createPartitions(request).values().get(topicName));
         } catch (Exception e) {
@@ -149,6 +249,9 @@ public class KafkaImpl implements Kafka {
         try {
             NewTopic newTopic = TopicSerialization.toNewTopic(topic, null);
             LOGGER.debug("Creating topic {}", newTopic);
+            if (createBatcher != null) {
+                return createBatcher.submit(newTopic.name(), newTopic);
+            }
             KafkaFuture<Void> future = adminClient.createTopics(
                     singleton(newTopic)).values().get(newTopic.name());
             return mapFuture(future);
@@ -157,6 +260,14 @@ public class KafkaImpl implements Kafka {
         }
     }
 
+    private <K, T> Map<K, Future<T>> mapFutures(Map<K, KafkaFuture<T>> futures) {
+        Map<K, Future<T>> result = new HashMap<>(futures.size());
+        for (Map.Entry<K, KafkaFuture<T>> entry : futures.entrySet()) {
+            result.put(entry.getKey(), mapFuture(entry.getValue()));
+        }
+        return result;
+    }
+
     private <T> Future<T> mapFuture(KafkaFuture<T> future) {
         Promise<T> handler = Promise.promise();
         try {
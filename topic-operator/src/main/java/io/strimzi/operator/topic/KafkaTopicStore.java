@@ -0,0 +1,225 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+
+/**
+ * Implementation of {@link TopicStore} that stores the topic state in a compacted Kafka topic.
+ * The topics are keyed by their name, and a deleted topic is stored as a tombstone.
+ *
+ * <p>The whole store is kept in memory: it is read from the store topic once by {@link #restore(Consumer)}
+ * when the operator starts, and then changed before every write, so that the existence checks of concurrent
+ * creates, updates and deletes are atomic. A failed write reverts its change. Reads never leave the process.
+ * This relies on the operator being the only writer of the store topic.</p>
+ */
+public class KafkaTopicStore implements TopicStore {
+
+    private final static Logger LOGGER = LogManager.getLogger(KafkaTopicStore.class);
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final Vertx vertx;
+    private final Producer<String, byte[]> producer;
+    private final String storeTopic;
+    private final Map<TopicName, Topic> topics = new ConcurrentHashMap<>();
+
+    public KafkaTopicStore(Vertx vertx, Producer<String, byte[]> producer, String storeTopic) {
+        this.vertx = vertx;
+        this.producer = producer;
+        this.storeTopic = storeTopic;
+    }
+
+    /**
+     * Creates the store topic if it does not exist yet and returns a store restored from it.
+     *
+     * @param vertx The Vertx instance.
+     * @param admin The Admin client used to create the store topic.
+     * @param kafkaProperties The properties for connecting to Kafka, used for the producer and the consumer of the store.
+     * @param storeTopic The name of the store topic.
+     * @return A future which completes with the restored store.
+     */
+    public static Future<KafkaTopicStore> create(Vertx vertx, Admin admin, Properties kafkaProperties, String storeTopic) {
+        Context context = vertx.getOrCreateContext();
+        Promise<Void> created = Promise.promise();
+        NewTopic newTopic = new NewTopic(storeTopic, Optional.of(1), Optional.empty())
+                .configs(singletonMap(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT));
+        admin.createTopics(singleton(newTopic)).all().whenComplete((ignored, error) -> context.runOnContext(v -> {
+            if (error == null) {
+                LOGGER.info("Created topic store topic {}", storeTopic);
+                created.complete();
+            } else if (error instanceof TopicExistsException) {
+                created.complete();
+            } else {
+                LOGGER.error("Error creating topic store topic {}", storeTopic, error);
+                created.fail(error);
+            }
+        }));
+
+        return created.future().compose(ignored -> {
+            Properties producerProperties = new Properties();
+            producerProperties.putAll(kafkaProperties);
+            producerProperties.setProperty(ProducerConfig.ACKS_CONFIG, "all");
+            producerProperties.setProperty(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true");
+            KafkaTopicStore store = new KafkaTopicStore(vertx,
+                    new KafkaProducer<>(producerProperties, new StringSerializer(), new ByteArraySerializer()), storeTopic);
+
+            Properties consumerProperties = new Properties();
+            consumerProperties.putAll(kafkaProperties);
+            consumerProperties.setProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+            return store.restore(new KafkaConsumer<>(consumerProperties, new StringDeserializer(), new ByteArrayDeserializer()))
+                    .map(store);
+        });
+    }
+
+    /**
+     * Reads the store topic from the beginning up to its current end into memory and closes the consumer.
+     *
+     * @param consumer The consumer of the store topic.
+     * @return A future which completes when the store topic has been read.
+     */
+    Future<Void> restore(Consumer<String, byte[]> consumer) {
+        Promise<Void> promise = Promise.promise();
+        vertx.executeBlocking(blocking -> {
+            try {
+                List<TopicPartition> partitions = new ArrayList<>();
+                for (PartitionInfo partition : consumer.partitionsFor(storeTopic)) {
+                    partitions.add(new TopicPartition(partition.topic(), partition.partition()));
+                }
+                consumer.assign(partitions);
+                consumer.seekToBeginning(partitions);
+                Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+                long records = 0;
+                while (!endReached(consumer, endOffsets)) {
+                    for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                        TopicName topicName = new TopicName(record.key());
+                        if (record.value() == null) {
+                            topics.remove(topicName);
+                        } else {
+                            topics.put(topicName, TopicSerialization.fromJson(record.value()));
+                        }
+                        records++;
+                    }
+                }
+
+                LOGGER.info("Restored {} topics from {} records of topic store topic {}", topics.size(), records, storeTopic);
+                blocking.complete();
+            } catch (Exception e) {
+                LOGGER.error("Error restoring topics from topic store topic {}", storeTopic, e);
+                blocking.fail(e);
+            } finally {
+                consumer.close();
+            }
+        }, promise);
+        return promise.future();
+    }
+
+    private static boolean endReached(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> endOffsets) {
+        for (Map.Entry<TopicPartition, Long> endOffset : endOffsets.entrySet()) {
+            if (consumer.position(endOffset.getKey()) < endOffset.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the given value (or tombstone when null) of the topic to the store topic.
+     * The in-memory view has already been changed by the caller, so that concurrent changes of the same topic
+     * see each other; the given {@code revert} action undoes that change when the write fails.
+     */
+    private Future<Void> write(TopicName topicName, Topic topic, Runnable revert) {
+        Context context = vertx.getOrCreateContext();
+        Promise<Void> promise = Promise.promise();
+        byte[] data = topic != null ? TopicSerialization.toJson(topic) : null;
+        LOGGER.debug("{} topic {} in topic store topic {}", topic != null ? "write" : "delete", topicName, storeTopic);
+        producer.send(new ProducerRecord<>(storeTopic, topicName.toString(), data), (metadata, error) -> context.runOnContext(v -> {
+            if (error != null) {
+                revert.run();
+                promise.fail(error);
+            } else {
+                promise.complete();
+            }
+        }));
+        return promise.future();
+    }
+
+    @Override
+    public Future<Topic> read(TopicName topicName) {
+        return Future.succeededFuture(topics.get(topicName));
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        TopicName topicName = topic.getTopicName();
+        if (topics.putIfAbsent(topicName, topic) != null) {
+            return Future.failedFuture(new EntityExistsException());
+        }
+        return write(topicName, topic, () -> topics.remove(topicName, topic));
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        TopicName topicName = topic.getTopicName();
+        Topic previous = topics.replace(topicName, topic);
+        if (previous == null) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+        return write(topicName, topic, () -> topics.replace(topicName, topic, previous));
+    }
+
+    @Override
+    public Future<Void> delete(TopicName topicName) {
+        Topic previous = topics.remove(topicName);
+        if (previous == null) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+        return write(topicName, null, () -> topics.putIfAbsent(topicName, previous));
+    }
+
+    /**
+     * Closes the producer of the store.
+     *
+     * @param timeout The maximum time to wait for the pending writes.
+     */
+    public void close(Duration timeout) {
+        producer.close(timeout);
+    }
+}
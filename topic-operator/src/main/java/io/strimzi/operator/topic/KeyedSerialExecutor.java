@@ -0,0 +1,153 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs asynchronous tasks on a Vert.x context, one task at a time for each key and in the order they were submitted,
+ * while the tasks for different keys run concurrently.
+ *
+ * <p>Each key has a mailbox of the tasks submitted for it. The task at the head of the mailbox is the one running,
+ * and the next task is started when its future completes. The mailbox is removed when it becomes empty,
+ * so only the keys with pending tasks take memory.</p>
+ *
+ * @param <K> The type of the key.
+ */
+class KeyedSerialExecutor<K> {
+
+    private final Vertx vertx;
+    private final DistributionSummary queueDepth;
+
+    /** Guarded by this. */
+    private Context context;
+
+    /** Guarded by this. */
+    private final Map<K, Deque<Runnable>> mailboxes = new HashMap<>();
+    /** Guarded by this. */
+    private int size = 0;
+
+    /**
+     * @param vertx         The Vertx instance. The tasks are run on the context of the thread which submits the first task.
+     * @param queueDepth    The summary to record the depth of the key's mailbox in, including the new task, each time a
+     *                      task is submitted, or null.
+     */
+    KeyedSerialExecutor(Vertx vertx, DistributionSummary queueDepth) {
+        this.vertx = vertx;
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * Submits a task for the given key. It is started once all the tasks previously submitted for the key have completed.
+     *
+     * @param key   The key.
+     * @param task  The task, which returns a future that completes when the task is done.
+     * @param <T>   The type of the result of the task.
+     * @return A future which completes with the result of the task.
+     */
+    <T> Future<T> execute(K key, Supplier<Future<T>> task) {
+        Promise<T> result = Promise.promise();
+        Runnable run = () -> {
+            Future<T> future;
+            try {
+                future = task.get();
+            } catch (Throwable t) {
+                future = Future.failedFuture(t);
+            }
+            future.onComplete(ar -> {
+                try {
+                    result.handle(ar);
+                } finally {
+                    next(key);
+                }
+            });
+        };
+
+        int depth;
+        Context context;
+        synchronized (this) {
+            if (this.context == null) {
+                this.context = vertx.getOrCreateContext();
+            }
+            context = this.context;
+            Deque<Runnable> mailbox = mailboxes.get(key);
+            if (mailbox == null) {
+                mailbox = new ArrayDeque<>();
+                mailboxes.put(key, mailbox);
+            }
+            mailbox.add(run);
+            depth = mailbox.size();
+            size++;
+        }
+        if (queueDepth != null) {
+            queueDepth.record(depth);
+        }
+        if (depth == 1) {
+            context.runOnContext(v -> run.run());
+        }
+        return result.future();
+    }
+
+    /**
+     * Removes the completed task at the head of the key's mailbox and starts the next one, if any.
+     */
+    private void next(K key) {
+        Runnable next;
+        Context context;
+        synchronized (this) {
+            context = this.context;
+            Deque<Runnable> mailbox = mailboxes.get(key);
+            mailbox.poll();
+            size--;
+            next = mailbox.peek();
+            if (next == null) {
+                mailboxes.remove(key);
+            }
+        }
+        if (next != null) {
+            context.runOnContext(v -> next.run());
+        }
+    }
+
+    /**
+     * @param key The key.
+     * @return The number of tasks for the given key which are running or waiting to run.
+     */
+    synchronized int queueDepth(K key) {
+        Deque<Runnable> mailbox = mailboxes.get(key);
+        return mailbox == null ? 0 : mailbox.size();
+    }
+
+    /**
+     * @return The number of tasks for all the keys which are running or waiting to run.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder("KeyedSerialExecutor(");
+        boolean first = true;
+        for (Map.Entry<K, Deque<Runnable>> entry : mailboxes.entrySet()) {
+            if (!first) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey()).append('=').append(entry.getValue().size());
+            first = false;
+        }
+        return sb.append(')').toString();
+    }
+}
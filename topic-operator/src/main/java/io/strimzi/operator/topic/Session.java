@@ -49,11 +49,13 @@ public class Session extends AbstractVerticle {
     /*test*/ ZkTopicsWatcher topicsWatcher;
     /*test*/ TopicConfigsWatcher topicConfigsWatcher;
     /*test*/ ZkTopicWatcher topicWatcher;
+    /*test*/ AdminTopicsPoller topicsPoller;
     /*test*/ PrometheusMeterRegistry metricsRegistry;
     /** The id of the periodic reconciliation timer. This is null during a periodic reconciliation. */
     private volatile Long timerId;
     private volatile boolean stopped = false;
     private Zk zk;
+    private KafkaTopicStore kafkaTopicStore;
     private volatile HttpServer healthServer;
 
     public Session(KubernetesClient kubeClient, Config config) {
@@ -83,8 +85,13 @@ public class Session extends AbstractVerticle {
             LOGGER.info("Stopping");
             LOGGER.debug("Stopping kube watch");
             topicWatch.close();
-            LOGGER.debug("Stopping zk watches");
-            topicsWatcher.stop();
+            if (topicsPoller != null) {
+                LOGGER.debug("Stopping topics poller");
+                topicsPoller.stop();
+            } else {
+                LOGGER.debug("Stopping zk watches");
+                topicsWatcher.stop();
+            }
 
             Promise<Void> promise = Promise.promise();
             Handler<Long> longHandler = new Handler<Long>() {
@@ -114,6 +121,9 @@ public class Session extends AbstractVerticle {
                     LOGGER.debug("Closing AdminClient {} with timeout {}ms", adminClient, timeoutMs);
                     try {
                         adminClient.close(Duration.ofMillis(timeoutMs));
+                        if (kafkaTopicStore != null) {
+                            kafkaTopicStore.close(Duration.ofMillis(Math.max(1, deadline - System.currentTimeMillis())));
+                        }
                         HttpServer healthServer = this.healthServer;
                         if (healthServer != null) {
                             healthServer.close();
@@ -151,7 +161,8 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(adminClientProps);
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        this.kafka = new KafkaImpl(adminClient, vertx, config.get(Config.ADMIN_BATCH_LINGER_MS),
+                config.get(Config.ADMIN_BATCH_MAX_SIZE), new MicrometerMetricsProvider());
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
@@ -171,67 +182,93 @@ public class Session extends AbstractVerticle {
                 this.zk = zkResult.result();
                 LOGGER.debug("Using ZooKeeper {}", zk);
 
-                String topicsPath = config.get(Config.TOPICS_PATH);
-                ZkTopicStore topicStore = new ZkTopicStore(zk, topicsPath);
+                Future<TopicStore> topicStoreFuture;
+                if (Config.TOPIC_STORE_KAFKA.equals(config.get(Config.TOPIC_STORE))) {
+                    topicStoreFuture = KafkaTopicStore.create(vertx, adminClient, adminClientProps, config.get(Config.TOPIC_STORE_TOPIC))
+                            .map(store -> {
+                                this.kafkaTopicStore = store;
+                                return store;
+                            });
+                } else {
+                    topicStoreFuture = Future.succeededFuture(new ZkTopicStore(zk, config.get(Config.TOPICS_PATH)));
+                }
 
-                LOGGER.debug("Using TopicStore {}", topicStore);
+                topicStoreFuture.onComplete(topicStoreResult -> {
+                    if (topicStoreResult.failed()) {
+                        start.fail(topicStoreResult.cause());
+                    } else {
+                        startOperator(topicStoreResult.result(), labels, namespace, start);
+                    }
+                });
+            });
+    }
 
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
-                LOGGER.debug("Using Operator {}", topicOperator);
+    @SuppressWarnings("deprecation")
+    private void startOperator(TopicStore topicStore, Labels labels, String namespace, Promise<Void> start) {
+        LOGGER.debug("Using TopicStore {}", topicStore);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
-                LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
-                this.topicWatcher = new ZkTopicWatcher(topicOperator);
-                LOGGER.debug("Using TopicWatcher {}", topicWatcher);
-                this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
-                LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
-                topicsWatcher.start(zk);
+        this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
+        LOGGER.debug("Using Operator {}", topicOperator);
 
-                Promise<Void> promise = Promise.promise();
-                Promise<Void> initReconcilePromise = Promise.promise();
-                K8sTopicWatcher watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future());
-                Thread resourceThread = new Thread(() -> {
-                    try {
-                        LOGGER.debug("Watching KafkaTopics matching {}", labels.labels());
+        if (Config.TOPIC_CHANGE_DETECTION_ADMIN.equals(config.get(Config.TOPIC_CHANGE_DETECTION))) {
+            this.topicsPoller = new AdminTopicsPoller(vertx, kafka, topicOperator,
+                    config.get(Config.TOPIC_CHANGE_POLL_INTERVAL_MS), config.get(Config.ADMIN_BATCH_MAX_SIZE));
+            LOGGER.debug("Using TopicsPoller {}", topicsPoller);
+            topicsPoller.start();
+        } else {
+            this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+            LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
+            this.topicWatcher = new ZkTopicWatcher(topicOperator);
+            LOGGER.debug("Using TopicWatcher {}", topicWatcher);
+            this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+            LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
+            topicsWatcher.start(zk);
+        }
 
-                        Session.this.topicWatch = kubeClient.customResources(Crds.kafkaTopic(), KafkaTopic.class, KafkaTopicList.class, DoneableKafkaTopic.class)
-                                .inNamespace(namespace).withLabels(labels.labels()).watch(watcher);
-                        LOGGER.debug("Watching setup");
+        Promise<Void> promise = Promise.promise();
+        Promise<Void> initReconcilePromise = Promise.promise();
+        K8sTopicWatcher watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future());
+        Thread resourceThread = new Thread(() -> {
+            try {
+                LOGGER.debug("Watching KafkaTopics matching {}", labels.labels());
 
-                        // start the HTTP server for healthchecks
-                        healthServer = this.startHealthServer();
-                        promise.complete();
-                    } catch (Throwable t) {
-                        promise.fail(t);
-                    }
+                Session.this.topicWatch = kubeClient.customResources(Crds.kafkaTopic(), KafkaTopic.class, KafkaTopicList.class, DoneableKafkaTopic.class)
+                        .inNamespace(namespace).withLabels(labels.labels()).watch(watcher);
+                LOGGER.debug("Watching setup");
 
-                }, "resource-watcher");
-                LOGGER.debug("Starting {}", resourceThread);
-                resourceThread.start();
+                // start the HTTP server for healthchecks
+                healthServer = this.startHealthServer();
+                promise.complete();
+            } catch (Throwable t) {
+                promise.fail(t);
+            }
 
-                final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
-                Handler<Long> periodic = new Handler<Long>() {
-                    @Override
-                    public void handle(Long oldTimerId) {
+        }, "resource-watcher");
+        LOGGER.debug("Starting {}", resourceThread);
+        resourceThread.start();
+
+        final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
+        Handler<Long> periodic = new Handler<Long>() {
+            @Override
+            public void handle(Long oldTimerId) {
+                if (!stopped) {
+                    timerId = null;
+                    boolean isInitialReconcile = oldTimerId == null;
+                    topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
+                        topicOperator.getPeriodicReconciliationsCounter().increment();
+                        if (isInitialReconcile) {
+                            initReconcilePromise.complete();
+                        }
                         if (!stopped) {
-                            timerId = null;
-                            boolean isInitialReconcile = oldTimerId == null;
-                            topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
-                                topicOperator.getPeriodicReconciliationsCounter().increment();
-                                if (isInitialReconcile) {
-                                    initReconcilePromise.complete();
-                                }
-                                if (!stopped) {
-                                    timerId = vertx.setTimer(interval, this);
-                                }
-                            });
+                            timerId = vertx.setTimer(interval, this);
                         }
-                    }
-                };
-                periodic.handle(null);
-                promise.future().onComplete(start);
-                LOGGER.info("Started");
-            });
+                    });
+                }
+            }
+        };
+        periodic.handle(null);
+        promise.future().onComplete(start);
+        LOGGER.info("Started");
     }
 
     /**
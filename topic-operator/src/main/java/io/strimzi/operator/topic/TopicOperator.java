@@ -9,6 +9,8 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.Watcher;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -41,7 +43,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
@@ -60,14 +63,18 @@ class TopicOperator {
     private final String namespace;
     private TopicStore topicStore;
     private final Config config;
-    private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final KeyedSerialExecutor<TopicName> topicExecutor;
+    /** The topics of the current window of a full reconciliation whose metadata is being fetched from Kafka. */
+    private final Set<TopicName> describing = ConcurrentHashMap.newKeySet();
+    /** The metadata fetched for the topics of the current window of a full reconciliation. */
+    private final Map<TopicName, TopicMetadata> described = new ConcurrentHashMap<>();
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
     private Counter reconciliationsCounter;
     private Counter failedReconciliationsCounter;
     private Counter successfulReconciliationsCounter;
-    private Counter lockedReconciliationsCounter;
+    private DistributionSummary reconciliationsQueueDepth;
     private AtomicInteger topicCounter;
     private Timer reconciliationsTimer;
 
@@ -386,6 +393,14 @@ class TopicOperator {
         this.metrics = metrics;
 
         initMetrics();
+        this.topicExecutor = new KeyedSerialExecutor<>(vertx, reconciliationsQueueDepth);
+        if (metrics != null) {
+            // A single gauge for all topics, so that the topic events do not create and remove a series for each topic
+            Gauge.builder(METRICS_PREFIX + "reconciliations.queued", topicExecutor, KeyedSerialExecutor::size)
+                    .description("Number of reconciliations of all topics which are running or waiting")
+                    .tags(Tags.of(Tag.of("kind", "KafkaTopic")))
+                    .register(metrics.meterRegistry());
+        }
     }
 
     public void initMetrics() {
@@ -416,9 +431,10 @@ class TopicOperator {
                     "The time the reconciliation takes to complete",
                     metricTags);
 
-            lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
-                    "Number of reconciliations skipped because another reconciliation for the same topic was still running",
-                    metricTags);
+            reconciliationsQueueDepth = DistributionSummary.builder(METRICS_PREFIX + "reconciliations.queue.depth")
+                    .description("Number of reconciliations for the same topic which are running or waiting, when a reconciliation is queued")
+                    .tags(metricTags)
+                    .register(metrics.meterRegistry());
         }
     }
 
@@ -438,71 +454,39 @@ class TopicOperator {
      * which will complete the returned future
      */
     public Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
-        String lockName = key.toString();
-        int timeoutMs = 30 * 1_000;
-        Promise<Void> result = Promise.promise();
-        BiFunction<TopicName, Integer, Integer> decrement = (topicName, waiters) -> {
-            if (waiters != null) {
-                if (waiters == 1) {
-                    LOGGER.debug("{}: Removing last waiter {}", logContext, action);
-                    return null;
-                } else {
-                    LOGGER.debug("{}: Removing waiter {}, {} waiters left", logContext, action, waiters - 1);
-                    return waiters - 1;
-                }
-            } else {
-                LOGGER.error("{}: Assertion failure. topic {}, action {}", logContext, lockName, action);
-                return null;
+        LOGGER.debug("{}: Queuing action {} on topic {}, {} actions ahead", logContext, action, key, topicExecutor.queueDepth(key));
+        return topicExecutor.execute(key, () -> {
+            // Any other action on the topic makes metadata fetched before it stale
+            TopicMetadata describedMetadata = forgetDescribed(key);
+            if (action.usesDescribedMetadata) {
+                action.describedMetadata = describedMetadata;
             }
-        };
-        LOGGER.debug("{}: Queuing action {} on topic {}", logContext, action, lockName);
-        inflight.compute(key, (topicName, waiters) -> {
-            if (waiters == null) {
-                LOGGER.debug("{}: Adding first waiter {}", logContext, action);
-                return 1;
-            } else {
-                LOGGER.debug("{}: Adding waiter {}: {}", logContext, action, waiters + 1);
-                return waiters + 1;
-            }
-        });
-        vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
-            if (lockResult.succeeded()) {
-                LOGGER.debug("{}: Lock acquired", logContext);
-                LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, lockName);
-                action.execute().onComplete(actionResult -> {
-                    LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, lockName);
-                    action.result = actionResult;
-                    // Update status with lock held so that event is ignored via statusUpdateGeneration
-                    action.updateStatus(logContext).onComplete(statusResult -> {
-                        if (statusResult.failed()) {
-                            LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
-                                    statusResult.cause());
-                        }
-                        try {
-                            if (actionResult.failed() && statusResult.failed()) {
-                                actionResult.cause().addSuppressed(statusResult.cause());
-                            }
-                            result.handle(actionResult.failed() ? actionResult : statusResult);
-                        } catch (Throwable t) {
-                            result.fail(t);
-                        } finally {
-                            lockResult.result().release();
-                            LOGGER.debug("{}: Lock released", logContext);
-                            inflight.compute(key, decrement);
+            LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, key);
+            Promise<Void> result = Promise.promise();
+            action.execute().onComplete(actionResult -> {
+                LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, key);
+                action.result = actionResult;
+                // Update status before the next action on the topic so that event is ignored via statusUpdateGeneration
+                action.updateStatus(logContext).onComplete(statusResult -> {
+                    if (statusResult.failed()) {
+                        LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
+                                statusResult.cause());
+                    }
+                    try {
+                        if (actionResult.failed() && statusResult.failed()) {
+                            actionResult.cause().addSuppressed(statusResult.cause());
                         }
-                    });
+                        result.handle(actionResult.failed() ? actionResult : statusResult);
+                    } catch (Throwable t) {
+                        result.fail(t);
+                    } finally {
+                        forgetDescribed(key);
+                        LOGGER.debug("{}: Completed action {} on topic {}", logContext, action, key);
+                    }
                 });
-            } else {
-                lockedReconciliationsCounter.increment();
-                LOGGER.warn("{}: Lock not acquired within {}ms: action {} will not be run", logContext, timeoutMs, action);
-                try {
-                    result.handle(Future.failedFuture("Failed to acquire lock for topic " + lockName + " after " + timeoutMs + "ms. Not executing action " + action));
-                } finally {
-                    inflight.compute(key, decrement);
-                }
-            }
+            });
+            return result.future();
         });
-        return result.future();
     }
 
     /**
@@ -764,6 +748,9 @@ class TopicOperator {
 
     /** Called when a topic znode is deleted in ZK */
     Future<Void> onTopicDeleted(LogContext logContext, TopicName topicName) {
+        if (isStoreTopic(topicName)) {
+            return Future.succeededFuture();
+        }
         return executeWithTopicLockHeld(logContext, topicName,
             new Reconciliation("onTopicDeleted") {
                 @Override
@@ -779,6 +766,9 @@ class TopicOperator {
      * Called when ZK watch notifies of change to topic's config
      */
     Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName) {
+        if (isStoreTopic(topicName)) {
+            return Future.succeededFuture();
+        }
         return executeWithTopicLockHeld(logContext, topicName,
                 new Reconciliation("onTopicConfigChanged") {
                     @Override
@@ -796,6 +786,9 @@ class TopicOperator {
      * Called when ZK watch notifies of a change to the topic's partitions
      */
     Future<Void> onTopicPartitionsChanged(LogContext logContext, TopicName topicName) {
+        if (isStoreTopic(topicName)) {
+            return Future.succeededFuture();
+        }
         Reconciliation action = new Reconciliation("onTopicPartitionsChanged") {
             @Override
             public Future<Void> execute() {
@@ -864,6 +857,9 @@ class TopicOperator {
 
     /** Called when a topic znode is created in ZK */
     Future<Void> onTopicCreated(LogContext logContext, TopicName topicName) {
+        if (isStoreTopic(topicName)) {
+            return Future.succeededFuture();
+        }
         // XXX currently runs on the ZK thread, requiring a synchronized inFlight
         // is it better to put this check in the topic deleted event?
         Reconciliation action = new Reconciliation("onTopicCreated") {
@@ -908,12 +904,24 @@ class TopicOperator {
 
     abstract class Reconciliation {
         private final String name;
+        private final boolean usesDescribedMetadata;
         public AsyncResult<Void> result;
         public volatile KafkaTopic topic;
         Timer.Sample reconciliationTimerSample;
+        private TopicMetadata describedMetadata;
 
         public Reconciliation(String name) {
+            this(name, false);
+        }
+
+        /**
+         * @param name The name of the reconciliation
+         * @param usesDescribedMetadata Whether the reconciliation uses the topic metadata fetched for the window of
+         *                              a full reconciliation, if it is still current when the reconciliation runs
+         */
+        public Reconciliation(String name, boolean usesDescribedMetadata) {
             this.name = name;
+            this.usesDescribedMetadata = usesDescribedMetadata;
             this.reconciliationTimerSample = Timer.start(metrics.meterRegistry());
             reconciliationsCounter.increment();
         }
@@ -1173,8 +1181,8 @@ class TopicOperator {
     }
 
     public boolean isWorkInflight() {
-        LOGGER.debug("Outstanding: {}", inflight);
-        return inflight.size() > 0;
+        LOGGER.debug("Outstanding: {}", topicExecutor);
+        return topicExecutor.size() > 0;
     }
 
     /**
@@ -1211,13 +1219,23 @@ class TopicOperator {
         }
     }
 
+    /**
+     * Whether the given topic is the one the {@link KafkaTopicStore} keeps its state in.
+     * That topic is owned by the store, so it is not reconciled with a KafkaTopic.
+     */
+    private boolean isStoreTopic(TopicName topicName) {
+        return Config.TOPIC_STORE_KAFKA.equals(config.get(Config.TOPIC_STORE))
+                && config.get(Config.TOPIC_STORE_TOPIC).equals(topicName.toString());
+    }
+
     Future<?> reconcileAllTopics(String reconciliationType) {
         LOGGER.info("Starting {} reconciliation", reconciliationType);
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
         )).compose(topicNamesFromKafka ->
                 // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
+                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new)
+                        .filter(topicName -> !isStoreTopic(topicName)).collect(Collectors.toList()))
         ).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
@@ -1227,7 +1245,7 @@ class TopicOperator {
                 return reconcileState;
             });
         }).compose(reconcileState -> {
-            List<Future> futs = new ArrayList<>();
+            List<Supplier<Future<?>>> tasks = new ArrayList<>();
             topicCounter.set(reconcileState.ktList.size());
             for (KafkaTopic kt : reconcileState.ktList) {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.getMetadata().getName()).withKubeTopic(kt);
@@ -1242,7 +1260,7 @@ class TopicOperator {
                     LOGGER.trace("{}: Already successfully reconciled {}", logContext, topicName);
                 } else if (reconcileState.undetermined.contains(topicName)) {
                     // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    tasks.add(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
                         // if success then remove from undetermined add to success
                         reconcileState.undetermined.remove(topicName);
                         reconcileState.succeeded.add(topicName);
@@ -1251,34 +1269,96 @@ class TopicOperator {
                 } else {
                     // Topic exists in kube, but not in Kafka
                     LOGGER.debug("{}: Topic {} exists in Kubernetes, but not Kafka", logContext, topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    tasks.add(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
                         // if success then add to success
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
                     }));
                 }
             }
-            return CompositeFuture.join(futs).compose(joined -> {
-                List<Future> futs2 = new ArrayList<>();
-                for (Throwable exception : reconcileState.failed.values()) {
-                    futs2.add(Future.failedFuture(exception));
-                }
+            return joinInWindows(tasks, window -> Future.succeededFuture(), Supplier::get).compose(joined -> {
+                List<Throwable> failures = new ArrayList<>(reconcileState.failed.values());
                 // anything left in undetermined doesn't exist in topic store nor kube
-                for (TopicName tn : reconcileState.undetermined) {
+                List<TopicName> remaining = new ArrayList<>(reconcileState.undetermined);
+                return joinInWindows(remaining, window -> Future.succeededFuture(), tn -> {
                     LogContext logContext = LogContext.periodic(reconciliationType + "-" + tn);
-                    futs2.add(executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining") {
+                    return executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining") {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
                             return getKafkaAndReconcile(this, logContext, tn, null, null);
                         }
-                    }));
-                }
-                return CompositeFuture.join(futs2);
+                    });
+                }).recover(error -> {
+                    // The failures of the earlier phases are reported first, like CompositeFuture.join would
+                    failures.add(error);
+                    return Future.succeededFuture();
+                }).compose(ignored -> failures.isEmpty() ? Future.succeededFuture() : Future.failedFuture(failures.get(0)));
             });
         });
     }
 
+    /**
+     * Runs the given {@code task} for the given {@code items} in consecutive windows of at most
+     * {@link Config#FULL_RECONCILIATION_CONCURRENCY} items, so that the number of concurrent reconciliations and
+     * requests stays bounded regardless of the number of topics. The {@code prepareWindow} function is completed
+     * before the tasks of each window are started.
+     * Like {@link CompositeFuture#join(List)}, the returned future completes when all the tasks have completed, and
+     * fails with the first failure if any of them failed.
+     */
+    private <T> Future<Void> joinInWindows(List<T> items, Function<List<T>, Future<Void>> prepareWindow, Function<T, Future<?>> task) {
+        int windowSize = config.get(Config.FULL_RECONCILIATION_CONCURRENCY);
+        List<Throwable> failures = new ArrayList<>();
+        Future<Void> result = Future.succeededFuture();
+        for (int from = 0; from < items.size(); from += windowSize) {
+            List<T> window = items.subList(from, Math.min(from + windowSize, items.size()));
+            result = result
+                .compose(ignored -> prepareWindow.apply(window))
+                .compose(ignored -> {
+                    List<Future> futures = new ArrayList<>(window.size());
+                    for (T item : window) {
+                        futures.add(task.apply(item));
+                    }
+                    return CompositeFuture.join(futures);
+                })
+                .<Void>mapEmpty()
+                .recover(error -> {
+                    failures.add(error);
+                    return Future.succeededFuture();
+                });
+        }
+        return result.compose(ignored -> failures.isEmpty() ? Future.succeededFuture() : Future.failedFuture(failures.get(0)));
+    }
+
+    /**
+     * Fetches the metadata of the given topics of a full reconciliation window from Kafka in one batch. The metadata
+     * of a topic is discarded as soon as another action on the topic starts or completes, because it might be stale.
+     */
+    private Future<Void> describeWindow(List<TopicName> window) {
+        describing.addAll(window);
+        return kafka.topicMetadata(window).map(metadata -> {
+            for (Map.Entry<TopicName, TopicMetadata> entry : metadata.entrySet()) {
+                if (describing.remove(entry.getKey())) {
+                    described.put(entry.getKey(), entry.getValue());
+                }
+            }
+            describing.removeAll(window);
+            return (Void) null;
+        }).recover(error -> {
+            LOGGER.warn("Error getting the metadata of {} topics, getting it for each topic instead", window.size(), error);
+            describing.removeAll(window);
+            return Future.succeededFuture();
+        });
+    }
+
+    /**
+     * Discards the metadata fetched for the given topic in a full reconciliation window, returning it if it was there.
+     */
+    private TopicMetadata forgetDescribed(TopicName topicName) {
+        describing.remove(topicName);
+        return described.remove(topicName);
+    }
+
 
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
@@ -1292,10 +1372,9 @@ class TopicOperator {
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
         if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
+            return joinInWindows(topicsFromKafka, this::describeWindow, topicName -> {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka") {
+                return executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka", true) {
                     @Override
                     public Future<Void> execute() {
                         return getFromTopicStore(topicName).recover(error -> {
@@ -1324,9 +1403,8 @@ class TopicOperator {
                         });
 
                     }
-                }));
-            }
-            return join(futures).map(state);
+                });
+            }).map(state);
         } else {
             return Future.succeededFuture(state);
         }
@@ -1334,12 +1412,6 @@ class TopicOperator {
 
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> CompositeFuture join(List<T> futures) {
-        return CompositeFuture.join((List) futures);
-    }
-
-
     /**
      * Reconcile the given topic which has the given {@code privateTopic} in the topic store.
      */
@@ -1365,7 +1437,8 @@ class TopicOperator {
         Promise<Void> topicPromise = Promise.promise();
         try {
             Topic k8sTopic = kafkaTopicResource != null ? TopicSerialization.fromTopicResource(kafkaTopicResource) : null;
-            kafka.topicMetadata(topicName)
+            TopicMetadata describedMetadata = reconciliation.describedMetadata;
+            (describedMetadata != null ? Future.succeededFuture(describedMetadata) : kafka.topicMetadata(topicName))
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -0,0 +1,152 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class AdminTopicsPollerTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testPollNotifiesTheChangesSinceThePreviousPoll(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        Map<String, Topic> topics = new HashMap<>();
+        topics.put("unchanged", new Topic.Builder("unchanged", 1, (short) 1, emptyMap()).build());
+        topics.put("deleted", new Topic.Builder("deleted", 1, (short) 1, emptyMap()).build());
+        topics.put("config", new Topic.Builder("config", 1, (short) 1, singletonMap("retention.ms", "1000")).build());
+        topics.put("partitions", new Topic.Builder("partitions", 1, (short) 1, emptyMap()).build());
+
+        List<Collection<TopicName>> windows = new ArrayList<>();
+        MockKafka kafka = new MockKafka();
+        kafka.setTopicsMetadataResponse(topicNames -> {
+            windows.add(topicNames);
+            Map<TopicName, TopicMetadata> result = new HashMap<>();
+            for (TopicName topicName : topicNames) {
+                Topic topic = topics.get(topicName.toString());
+                if (topic != null) {
+                    result.put(topicName, Utils.getTopicMetadata(topic));
+                }
+            }
+            return Future.succeededFuture(result);
+        });
+
+        TopicOperator topicOperator = mock(TopicOperator.class);
+        when(topicOperator.onTopicCreated(any(), any())).thenReturn(Future.succeededFuture());
+        when(topicOperator.onTopicDeleted(any(), any())).thenReturn(Future.succeededFuture());
+        when(topicOperator.onTopicConfigChanged(any(), any())).thenReturn(Future.succeededFuture());
+
+        AdminTopicsPoller poller = new AdminTopicsPoller(vertx, kafka, topicOperator, 60_000, 3);
+
+        kafka.setTopicsList(new HashSet<>(topics.keySet()));
+        poller.poll()
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(poller.started(), is(true));
+                assertThat(windows.size(), is(2));
+                verify(topicOperator, never()).onTopicCreated(any(), any());
+                verify(topicOperator, never()).onTopicDeleted(any(), any());
+                verify(topicOperator, never()).onTopicConfigChanged(any(), any());
+
+                topics.remove("deleted");
+                topics.put("created", new Topic.Builder("created", 1, (short) 1, emptyMap()).build());
+                topics.put("config", new Topic.Builder("config", 1, (short) 1, singletonMap("retention.ms", "2000")).build());
+                topics.put("partitions", new Topic.Builder("partitions", 2, (short) 1, emptyMap()).build());
+                kafka.setTopicsList(new HashSet<>(topics.keySet()));
+            })))
+            .compose(v -> poller.poll())
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(topicOperator).onTopicCreated(any(), eq(new TopicName("created")));
+                verify(topicOperator).onTopicDeleted(any(), eq(new TopicName("deleted")));
+                verify(topicOperator).onTopicConfigChanged(any(), eq(new TopicName("config")));
+                verify(topicOperator).onTopicConfigChanged(any(), eq(new TopicName("partitions")));
+                verify(topicOperator, never()).onTopicConfigChanged(any(), eq(new TopicName("unchanged")));
+                verify(topicOperator, never()).onTopicConfigChanged(any(), eq(new TopicName("created")));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testTopicWhichCouldNotBeDescribedIsNotifiedAsChanged(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        Map<String, Topic> topics = new HashMap<>();
+        topics.put("described", new Topic.Builder("described", 1, (short) 1, emptyMap()).build());
+        topics.put("flaky", new Topic.Builder("flaky", 1, (short) 1, emptyMap()).build());
+
+        Set<String> failing = new HashSet<>(singleton("flaky"));
+        MockKafka kafka = new MockKafka();
+        kafka.setTopicsMetadataResponse(topicNames -> {
+            Map<TopicName, TopicMetadata> result = new HashMap<>();
+            for (TopicName topicName : topicNames) {
+                // The topics whose metadata could not be obtained are omitted
+                if (!failing.contains(topicName.toString())) {
+                    result.put(topicName, Utils.getTopicMetadata(topics.get(topicName.toString())));
+                }
+            }
+            return Future.succeededFuture(result);
+        });
+
+        TopicOperator topicOperator = mock(TopicOperator.class);
+        when(topicOperator.onTopicConfigChanged(any(), any())).thenReturn(Future.succeededFuture());
+
+        AdminTopicsPoller poller = new AdminTopicsPoller(vertx, kafka, topicOperator, 60_000, 3);
+
+        kafka.setTopicsList(new HashSet<>(topics.keySet()));
+        poller.poll()
+            .compose(v -> poller.poll())
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // Nothing is notified while the topic cannot be described
+                verify(topicOperator, never()).onTopicConfigChanged(any(), any());
+                failing.clear();
+            })))
+            .compose(v -> poller.poll())
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The topic was not described before, so it might have changed
+                verify(topicOperator).onTopicConfigChanged(any(), eq(new TopicName("flaky")));
+                verify(topicOperator, never()).onTopicConfigChanged(any(), eq(new TopicName("described")));
+                async.flag();
+            })));
+    }
+}
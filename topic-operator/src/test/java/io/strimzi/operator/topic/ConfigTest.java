@@ -75,4 +75,16 @@ public class ConfigTest {
         Config c = new Config(map);
         assertThat(c.get(Config.TOPIC_METADATA_MAX_ATTEMPTS).intValue(), is(3));
     }
+
+    @Test
+    public void testTopicStore() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.TOPIC_STORE), is(Config.TOPIC_STORE_ZOOKEEPER));
+
+        map.put(Config.TC_TOPIC_STORE, "kafka");
+        assertThat(new Config(map).get(Config.TOPIC_STORE), is(Config.TOPIC_STORE_KAFKA));
+
+        map.put(Config.TC_TOPIC_STORE, "etcd");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
 }
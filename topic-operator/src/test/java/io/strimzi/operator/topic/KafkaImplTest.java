@@ -4,14 +4,21 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DeleteTopicsResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
@@ -24,12 +31,18 @@ import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -250,5 +263,53 @@ public class KafkaImplTest {
             testContext.completeNow();
         })));
     }
-}
 
+    @Test
+    public void testTopicsMetadataOmitsTopicsNotFound(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        Map<String, Either<TopicDescription, Exception>> descriptions = new HashMap<>();
+        descriptions.put("found", Either.ofLeft(mock(TopicDescription.class)));
+        descriptions.put("not-found", Either.ofRight(new UnknownTopicOrPartitionException()));
+        mockDescribeTopics(admin, descriptions);
+        Map<ConfigResource, Either<Config, Exception>> configs = new HashMap<>();
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "found"), Either.ofLeft(mock(Config.class)));
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "not-found"), Either.ofRight(new UnknownTopicOrPartitionException()));
+        mockDescribeConfigs(admin, configs);
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        impl.topicMetadata(asList(new TopicName("found"), new TopicName("not-found"))).onComplete(testContext.succeeding(topicsMetadata -> testContext.verify(() -> {
+            assertEquals(1, topicsMetadata.size());
+            assertNotNull(topicsMetadata.get(new TopicName("found")).getDescription());
+            assertNotNull(topicsMetadata.get(new TopicName("found")).getConfig());
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    public void testCreateTopicsAreBatched(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
+        Map<String, KafkaFuture<Void>> values = new HashMap<>();
+        for (String topic : asList("topic-a", "topic-b", "topic-c")) {
+            values.put(topic, KafkaFuture.completedFuture(null));
+        }
+        when(createTopicsResult.values()).thenReturn(values);
+        when(admin.createTopics(any())).thenReturn(createTopicsResult);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        // The linger time is long enough for the batch to be sent only once it is full
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 60_000, 3, new MicrometerMetricsProvider(registry));
+        CompositeFuture.all(
+                impl.createTopic(new Topic.Builder("topic-a", 1).build()),
+                impl.createTopic(new Topic.Builder("topic-b", 1).build()),
+                impl.createTopic(new Topic.Builder("topic-c", 1).build()))
+            .onComplete(testContext.succeeding(ignored -> testContext.verify(() -> {
+                verify(admin, times(1)).createTopics(argThat(newTopics -> newTopics.size() == 3));
+                DistributionSummary batchSize = registry.get(TopicOperator.METRICS_PREFIX + "admin.batch.size")
+                        .tag("operation", "create").summary();
+                assertEquals(1, batchSize.count());
+                assertEquals(3.0, batchSize.totalAmount());
+                testContext.completeNow();
+            })));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaTopicStoreTest {
+
+    private static final String STORE_TOPIC = "__strimzi_topic_operator_store";
+
+    private static Vertx vertx;
+
+    private MockProducer<String, byte[]> producer;
+    private KafkaTopicStore store;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        store = new KafkaTopicStore(vertx, producer, STORE_TOPIC);
+    }
+
+    @Test
+    public void testCrud(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        Topic topic = new Topic.Builder("my_topic", 2, (short) 3, singletonMap("foo", "bar"), new ObjectMeta()).build();
+        Topic updatedTopic = new Topic.Builder("my_topic", 2, (short) 3, singletonMap("foo", "baz"), new ObjectMeta()).build();
+
+        store.create(topic)
+            .compose(ignored -> store.read(topic.getTopicName()))
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> assertThat(readTopic, is(topic)))))
+            .compose(ignored -> store.create(topic))
+            .onComplete(context.failing(e -> context.verify(() -> assertThat(e, instanceOf(TopicStore.EntityExistsException.class)))))
+            .recover(ignored -> store.update(updatedTopic))
+            .compose(ignored -> store.read(topic.getTopicName()))
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> assertThat(readTopic, is(updatedTopic)))))
+            .compose(ignored -> store.delete(topic.getTopicName()))
+            .compose(ignored -> store.read(topic.getTopicName()))
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> assertThat(readTopic, is(nullValue())))))
+            .compose(ignored -> store.delete(topic.getTopicName()))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TopicStore.NoSuchEntityExistsException.class));
+
+                List<ProducerRecord<String, byte[]>> history = producer.history();
+                assertThat(history.size(), is(3));
+                assertThat(history.get(0).key(), is("my_topic"));
+                assertThat(TopicSerialization.fromJson(history.get(1).value()), is(updatedTopic));
+                assertThat(history.get(2).value(), is(nullValue()));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testConcurrentCreatesAndFailedWrites(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        MockProducer<String, byte[]> producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        KafkaTopicStore store = new KafkaTopicStore(vertx, producer, STORE_TOPIC);
+
+        Topic topic = new Topic.Builder("my_topic", 2, (short) 3, singletonMap("foo", "bar"), new ObjectMeta()).build();
+
+        Future<Void> first = store.create(topic);
+        // The first create is not acknowledged yet, but the second one must already see it
+        store.create(topic).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, instanceOf(TopicStore.EntityExistsException.class));
+            assertThat(producer.history().size(), is(1));
+
+            producer.errorNext(new RuntimeException("failed write"));
+            first.onComplete(context.failing(error -> context.verify(() -> {
+                // The failed write must not leave the topic in the store
+                store.read(topic.getTopicName()).onComplete(context.succeeding(readTopic -> context.verify(() -> {
+                    assertThat(readTopic, is(nullValue()));
+                    async.flag();
+                })));
+            })));
+        })));
+    }
+
+    @Test
+    public void testRestoreReplaysTheStoreTopic(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        Topic topic1 = new Topic.Builder("topic1", 1, (short) 1, Collections.emptyMap(), new ObjectMeta()).build();
+        Topic topic2 = new Topic.Builder("topic2", 1, (short) 1, Collections.emptyMap(), new ObjectMeta()).build();
+        Topic updatedTopic2 = new Topic.Builder("topic2", 3, (short) 1, Collections.emptyMap(), new ObjectMeta()).build();
+        Topic topic3 = new Topic.Builder("topic3", 1, (short) 1, Collections.emptyMap(), new ObjectMeta()).build();
+
+        TopicPartition partition = new TopicPartition(STORE_TOPIC, 0);
+        MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(STORE_TOPIC, Collections.singletonList(new PartitionInfo(STORE_TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(singletonMap(partition, 0L));
+        consumer.updateEndOffsets(singletonMap(partition, 5L));
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 0, "topic1", TopicSerialization.toJson(topic1)));
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 1, "topic2", TopicSerialization.toJson(topic2)));
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 2, "topic3", TopicSerialization.toJson(topic3)));
+        });
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 3, "topic2", TopicSerialization.toJson(updatedTopic2)));
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 4, "topic3", null));
+        });
+
+        store.restore(consumer)
+            .compose(ignored -> store.read(topic1.getTopicName()))
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> assertThat(readTopic, is(topic1)))))
+            .compose(ignored -> store.read(topic2.getTopicName()))
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> assertThat(readTopic, is(updatedTopic2)))))
+            .compose(ignored -> store.read(topic3.getTopicName()))
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> {
+                assertThat(readTopic, is(nullValue()));
+                assertThat(consumer.closed(), is(true));
+                async.flag();
+            })));
+    }
+}
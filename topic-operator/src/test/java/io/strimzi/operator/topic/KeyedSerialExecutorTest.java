@@ -0,0 +1,92 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KeyedSerialExecutorTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testTasksForTheSameKeyRunInOrderAndOtherKeysRunConcurrently(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        DistributionSummary queueDepth = DistributionSummary.builder("queue.depth").register(new SimpleMeterRegistry());
+        KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>(vertx, queueDepth);
+
+        List<String> events = new ArrayList<>();
+        Promise<Void> firstA = Promise.promise();
+        Future<Void> a1 = executor.execute("a", () -> {
+            events.add("start a1");
+            return firstA.future();
+        });
+        Future<Void> a2 = executor.execute("a", () -> {
+            events.add("start a2");
+            return Future.succeededFuture();
+        });
+        Future<Void> a3 = executor.execute("a", () -> {
+            throw new RuntimeException("a3");
+        });
+        Future<Void> a4 = executor.execute("a", () -> {
+            events.add("start a4");
+            return Future.succeededFuture();
+        });
+        assertThat(executor.queueDepth("a"), is(4));
+        assertThat(executor.size(), is(4));
+
+        Future<Void> b1 = executor.execute("b", () -> {
+            events.add("start b1");
+            // a1 is still running
+            firstA.complete();
+            events.add("end a1");
+            return Future.succeededFuture();
+        });
+
+        CompositeFuture.join(a1, a2, a3, a4, b1).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(a3.failed(), is(true));
+            assertThat(a4.succeeded(), is(true));
+            assertThat(events, is(asList("start a1", "start b1", "end a1", "start a2", "start a4")));
+            assertThat(queueDepth.count(), is(5L));
+            assertThat(queueDepth.totalAmount(), is(11.0));
+            // The mailbox is removed right after the last task's future completes
+            vertx.runOnContext(v -> context.verify(() -> {
+                assertThat(executor.queueDepth("a"), is(0));
+                assertThat(executor.size(), is(0));
+                async.flag();
+            }));
+        })));
+    }
+}
@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
@@ -17,6 +18,7 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.junit5.Checkpoint;
@@ -35,14 +37,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
@@ -583,7 +589,6 @@ public class TopicOperatorTest {
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations").tag("kind", "KafkaTopic").counter().count(), is(1.0));
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "KafkaTopic").counter().count(), is(0.0));
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.failed").tag("kind", "KafkaTopic").counter().count(), is(0.0));
-                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.locked").tag("kind", "KafkaTopic").counter().count(), is(0.0));
 
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.duration").tag("kind", "KafkaTopic").timer().count(), is(0L));
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.duration").tag("kind", "KafkaTopic").timer().totalTime(TimeUnit.MILLISECONDS), is(0.0));
@@ -1071,6 +1076,95 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testQueuedReconciliationsGauge(VertxTestContext context) {
+        LogContext logContext = LogContext.zkWatch("///", topicName.toString());
+        Promise<Void> running = Promise.promise();
+        Future<Void> first = topicOperator.executeWithTopicLockHeld(logContext, topicName, topicOperator.new Reconciliation("first") {
+            @Override
+            public Future<Void> execute() {
+                return running.future();
+            }
+        });
+        Future<Void> second = topicOperator.executeWithTopicLockHeld(logContext, new TopicName("other"), topicOperator.new Reconciliation("second") {
+            @Override
+            public Future<Void> execute() {
+                return Promise.<Void>promise().future();
+            }
+        });
+
+        Gauge queued = metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.queued").tag("kind", "KafkaTopic").gauge();
+        assertThat(queued.value(), is(2.0));
+
+        running.complete();
+        first.onComplete(context.succeeding(v -> vertx.runOnContext(ignored -> context.verify(() -> {
+            assertThat(second.isComplete(), is(false));
+            assertThat(queued.value(), is(1.0));
+            context.completeNow();
+        }))));
+    }
+
+    @Test
+    public void testStoreTopicIsNotReconciled(VertxTestContext context) {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.TOPIC_STORE.key, Config.TOPIC_STORE_KAFKA);
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap), metrics);
+
+        TopicName storeTopic = new TopicName(Config.TOPIC_STORE_TOPIC.defaultValue);
+        List<Set<TopicName>> windows = new ArrayList<>();
+        mockKafka.setTopicsListResponse(Future.succeededFuture(Collections.singleton(storeTopic.toString())));
+        mockKafka.setTopicsMetadataResponse(topicNames -> {
+            windows.add(new HashSet<>(topicNames));
+            return Future.succeededFuture(Collections.emptyMap());
+        });
+
+        LogContext logContext = LogContext.zkWatch("///", storeTopic.toString());
+        topicOperator.onTopicCreated(logContext, storeTopic)
+            .compose(v -> topicOperator.reconcileAllTopics("periodic"))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                mockK8s.assertNotExists(context, storeTopic.asKubeName());
+                assertThat(windows, is(Collections.emptyList()));
+                context.completeNow();
+            })));
+    }
+
+    @Test
+    public void testReconcileAllTopics_inWindowsWithBatchedMetadata(VertxTestContext context) {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.FULL_RECONCILIATION_CONCURRENCY.key, "2");
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap), metrics);
+
+        Map<TopicName, TopicMetadata> metadata = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            TopicName name = new TopicName("topic-" + i);
+            Topic topic = new Topic.Builder(name, name.asKubeName(), 10, (short) 2, map("cleanup.policy", "bar"), null).build();
+            mockKafka.setCreateTopicResponse(topic.getTopicName().toString(), null).createTopic(topic);
+            mockTopicStore.setCreateTopicResponse(topic.getTopicName(), null).create(topic);
+            KafkaTopic resource = TopicSerialization.toTopicResource(topic, labels);
+            mockK8s.setCreateResponse(new ResourceName(resource), null).createResource(resource);
+            metadata.put(topic.getTopicName(), Utils.getTopicMetadata(topic));
+        }
+
+        List<Set<TopicName>> windows = new ArrayList<>();
+        mockKafka.setTopicsListResponse(Future.succeededFuture(metadata.keySet().stream().map(TopicName::toString).collect(Collectors.toSet())));
+        // Every topic is reconciled with the metadata fetched for its window, never individually
+        mockKafka.setTopicsMetadataResponse(topicNames -> {
+            windows.add(new HashSet<>(topicNames));
+            Map<TopicName, TopicMetadata> result = new HashMap<>();
+            for (TopicName topicName : topicNames) {
+                result.put(topicName, metadata.get(topicName));
+            }
+            return Future.succeededFuture(result);
+        });
+
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(windows.size(), is(2));
+            assertThat(windows.get(0).size(), is(2));
+            assertThat(windows.get(1).size(), is(1));
+            context.completeNow();
+        })));
+    }
+
     @Test
     public void testReconcileAllTopics_listMapsFails(VertxTestContext context) {
         RuntimeException error = new RuntimeException("some failure");
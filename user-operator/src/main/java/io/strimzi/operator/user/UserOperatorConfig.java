@@ -8,10 +8,11 @@ import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Locale;
 import java.util.Map;
 
 /**
- * Cluster Operator configuration
+ * User Operator configuration
  */
 public class UserOperatorConfig {
 
@@ -29,12 +30,28 @@ public class UserOperatorConfig {
     public static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
+    public static final String STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS = "STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_CERT_ISSUANCE_THREADS = "STRIMZI_CERT_ISSUANCE_THREADS";
+    public static final String STRIMZI_ACLS_BATCH_LINGER_MS = "STRIMZI_ACLS_BATCH_LINGER_MS";
+    public static final String STRIMZI_QUOTAS_BACKEND = "STRIMZI_QUOTAS_BACKEND";
+    public static final String STRIMZI_QUOTAS_BATCH_LINGER_MS = "STRIMZI_QUOTAS_BATCH_LINGER_MS";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_ZOOKEEPER_CONNECT = "localhost:2181";
     public static final long DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS = 6_000;
     public static final String DEFAULT_SECRET_PREFIX = "";
+    public static final boolean DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS = false;
+    public static final String CERT_MANAGER_OPENSSL = "openssl";
+    public static final String CERT_MANAGER_BOUNCYCASTLE = "bouncycastle";
+    public static final String DEFAULT_CERT_MANAGER = CERT_MANAGER_OPENSSL;
+    public static final int DEFAULT_CERT_ISSUANCE_THREADS = 1;
+    public static final long DEFAULT_ACLS_BATCH_LINGER_MS = 10;
+    public static final String QUOTAS_BACKEND_ZOOKEEPER = "zookeeper";
+    public static final String QUOTAS_BACKEND_ADMIN = "admin";
+    public static final String DEFAULT_QUOTAS_BACKEND = QUOTAS_BACKEND_ZOOKEEPER;
+    public static final long DEFAULT_QUOTAS_BATCH_LINGER_MS = 10;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -48,54 +65,39 @@ public class UserOperatorConfig {
     private final String eoKeySecretName;
     private final String caNamespace;
     private final String secretPrefix;
-
-    /**
-     * Constructor
-     *
-     * @param namespace namespace in which the operator will run and create resources.
-     * @param reconciliationIntervalMs How many milliseconds between reconciliation runs.
-     * @param kafkaBootstrapServers Kafka bootstrap servers list
-     * @param zookeperConnect Connecton URL for Zookeeper.
-     * @param zookeeperSessionTimeoutMs Session timeout for Zookeeper connections.
-     * @param labels Map with labels which should be used to find the KafkaUser resources.
-     * @param caCertSecretName Name of the secret containing the clients Certification Authority certificate.
-     * @param caKeySecretName The name of the secret containing the clients Certification Authority key.
-     * @param clusterCaCertSecretName Name of the secret containing the cluster Certification Authority certificate.
-     * @param eoKeySecretName The name of the secret containing the Entity Operator key and certificate
-     * @param caNamespace Namespace with the CA secret.
-     * @param secretPrefix Prefix used for the Secret names
-     */
-    @SuppressWarnings({"checkstyle:ParameterNumber"}) //TODO: to remove when removing the zookeeper related parameters
-    public UserOperatorConfig(String namespace,
-                              long reconciliationIntervalMs,
-                              String kafkaBootstrapServers,
-                              String zookeperConnect,
-                              long zookeeperSessionTimeoutMs,
-                              Labels labels, String caCertSecretName,
-                              String caKeySecretName,
-                              String clusterCaCertSecretName,
-                              String eoKeySecretName,
-                              String caNamespace,
-                              String secretPrefix) {
-        this.namespace = namespace;
-        this.reconciliationIntervalMs = reconciliationIntervalMs;
-        this.kafkaBootstrapServers = kafkaBootstrapServers;
-        this.zookeperConnect = zookeperConnect;
-        this.zookeeperSessionTimeoutMs = zookeeperSessionTimeoutMs;
-        this.labels = labels;
-        this.caCertSecretName = caCertSecretName;
-        this.caKeySecretName = caKeySecretName;
-        this.clusterCaCertSecretName = clusterCaCertSecretName;
-        this.eoKeySecretName = eoKeySecretName;
-        this.caNamespace = caNamespace;
-        this.secretPrefix = secretPrefix;
+    private final boolean skipUnchangedReconciliations;
+    private final String certManager;
+    private final int certIssuanceThreads;
+    private final long aclsBatchLingerMs;
+    private final String quotasBackend;
+    private final long quotasBatchLingerMs;
+
+    private UserOperatorConfig(UserOperatorConfigBuilder builder) {
+        this.namespace = builder.namespace;
+        this.reconciliationIntervalMs = builder.reconciliationIntervalMs;
+        this.kafkaBootstrapServers = builder.kafkaBootstrapServers;
+        this.zookeperConnect = builder.zookeperConnect;
+        this.zookeeperSessionTimeoutMs = builder.zookeeperSessionTimeoutMs;
+        this.labels = builder.labels;
+        this.caCertSecretName = builder.caCertSecretName;
+        this.caKeySecretName = builder.caKeySecretName;
+        this.clusterCaCertSecretName = builder.clusterCaCertSecretName;
+        this.eoKeySecretName = builder.eoKeySecretName;
+        this.caNamespace = builder.caNamespace;
+        this.secretPrefix = builder.secretPrefix;
+        this.skipUnchangedReconciliations = builder.skipUnchangedReconciliations;
+        this.certManager = builder.certManager;
+        this.certIssuanceThreads = builder.certIssuanceThreads;
+        this.aclsBatchLingerMs = builder.aclsBatchLingerMs;
+        this.quotasBackend = builder.quotasBackend;
+        this.quotasBatchLingerMs = builder.quotasBatchLingerMs;
     }
 
     /**
      * Loads configuration parameters from a related map
      *
      * @param map   map from which loading configuration parameters
-     * @return  Cluster Operator configuration instance
+     * @return  User Operator configuration instance
      */
     @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity"})
     public static UserOperatorConfig fromMap(Map<String, String> map) {
@@ -161,8 +163,77 @@ public class UserOperatorConfig {
             secretPrefix = DEFAULT_SECRET_PREFIX;
         }
 
-        return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, zookeeperConnect, zookeeperSessionTimeoutMs, labels,
-                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix);
+        boolean skipUnchangedReconciliations = DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS;
+        String skipUnchangedReconciliationsEnvVar = map.get(UserOperatorConfig.STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS);
+        if (skipUnchangedReconciliationsEnvVar != null) {
+            skipUnchangedReconciliations = Boolean.parseBoolean(skipUnchangedReconciliationsEnvVar);
+        }
+
+        String certManager = DEFAULT_CERT_MANAGER;
+        String certManagerEnvVar = map.get(UserOperatorConfig.STRIMZI_CERT_MANAGER);
+        if (certManagerEnvVar != null) {
+            certManager = certManagerEnvVar.trim().toLowerCase(Locale.ENGLISH);
+            if (!CERT_MANAGER_OPENSSL.equals(certManager) && !CERT_MANAGER_BOUNCYCASTLE.equals(certManager)) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_CERT_MANAGER + " has to be " + CERT_MANAGER_OPENSSL + " or " + CERT_MANAGER_BOUNCYCASTLE);
+            }
+        }
+
+        int certIssuanceThreads = DEFAULT_CERT_ISSUANCE_THREADS;
+        String certIssuanceThreadsEnvVar = map.get(UserOperatorConfig.STRIMZI_CERT_ISSUANCE_THREADS);
+        if (certIssuanceThreadsEnvVar != null) {
+            certIssuanceThreads = Integer.parseInt(certIssuanceThreadsEnvVar);
+            if (certIssuanceThreads < 1) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_CERT_ISSUANCE_THREADS + " has to be a positive number");
+            }
+        }
+
+        long aclsBatchLingerMs = DEFAULT_ACLS_BATCH_LINGER_MS;
+        String aclsBatchLingerMsEnvVar = map.get(UserOperatorConfig.STRIMZI_ACLS_BATCH_LINGER_MS);
+        if (aclsBatchLingerMsEnvVar != null) {
+            aclsBatchLingerMs = Long.parseLong(aclsBatchLingerMsEnvVar);
+            if (aclsBatchLingerMs < 0) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_ACLS_BATCH_LINGER_MS + " cannot be negative");
+            }
+        }
+
+        String quotasBackend = DEFAULT_QUOTAS_BACKEND;
+        String quotasBackendEnvVar = map.get(UserOperatorConfig.STRIMZI_QUOTAS_BACKEND);
+        if (quotasBackendEnvVar != null) {
+            quotasBackend = quotasBackendEnvVar.trim().toLowerCase(Locale.ENGLISH);
+            if (!QUOTAS_BACKEND_ZOOKEEPER.equals(quotasBackend) && !QUOTAS_BACKEND_ADMIN.equals(quotasBackend)) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_QUOTAS_BACKEND + " has to be " + QUOTAS_BACKEND_ZOOKEEPER + " or " + QUOTAS_BACKEND_ADMIN);
+            }
+        }
+
+        long quotasBatchLingerMs = DEFAULT_QUOTAS_BATCH_LINGER_MS;
+        String quotasBatchLingerMsEnvVar = map.get(UserOperatorConfig.STRIMZI_QUOTAS_BATCH_LINGER_MS);
+        if (quotasBatchLingerMsEnvVar != null) {
+            quotasBatchLingerMs = Long.parseLong(quotasBatchLingerMsEnvVar);
+            if (quotasBatchLingerMs < 0) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_QUOTAS_BATCH_LINGER_MS + " cannot be negative");
+            }
+        }
+
+        return new UserOperatorConfigBuilder()
+                .withNamespace(namespace)
+                .withReconciliationIntervalMs(reconciliationInterval)
+                .withKafkaBootstrapServers(kafkaBootstrapServers)
+                .withZookeperConnect(zookeeperConnect)
+                .withZookeeperSessionTimeoutMs(zookeeperSessionTimeoutMs)
+                .withLabels(labels)
+                .withCaCertSecretName(caCertSecretName)
+                .withCaKeySecretName(caKeySecretName)
+                .withClusterCaCertSecretName(clusterCaCertSecretName)
+                .withEoKeySecretName(eoKeySecretName)
+                .withCaNamespace(caNamespace)
+                .withSecretPrefix(secretPrefix)
+                .withSkipUnchangedReconciliations(skipUnchangedReconciliations)
+                .withCertManager(certManager)
+                .withCertIssuanceThreads(certIssuanceThreads)
+                .withAclsBatchLingerMs(aclsBatchLingerMs)
+                .withQuotasBackend(quotasBackend)
+                .withQuotasBatchLingerMs(quotasBatchLingerMs)
+                .build();
     }
 
     public static int getClientsCaValidityDays() {
@@ -266,9 +337,54 @@ public class UserOperatorConfig {
         return secretPrefix;
     }
 
+    /**
+     * @return  Indicates whether the reconciliation of users which did not change since their last reconciliation should be skipped
+     */
+    public boolean isSkipUnchangedReconciliations() {
+        return skipUnchangedReconciliations;
+    }
+
+    /**
+     * @return  The implementation of the certificate manager used to generate the user certificates
+     *          ({@value CERT_MANAGER_OPENSSL} or {@value CERT_MANAGER_BOUNCYCASTLE})
+     */
+    public String getCertManager() {
+        return certManager;
+    }
+
+    /**
+     * @return  The maximal number of user certificates issued at the same time
+     */
+    public int getCertIssuanceThreads() {
+        return certIssuanceThreads;
+    }
+
+    /**
+     * @return  The time to wait for the ACL changes of other users to send them in a single request, or 0 to send the
+     *          ACL changes of each user on their own
+     */
+    public long getAclsBatchLingerMs() {
+        return aclsBatchLingerMs;
+    }
+
+    /**
+     * @return  The backend used to manage the user quotas ({@value QUOTAS_BACKEND_ZOOKEEPER} or {@value QUOTAS_BACKEND_ADMIN})
+     */
+    public String getQuotasBackend() {
+        return quotasBackend;
+    }
+
+    /**
+     * @return  The time to wait for the quota changes of other users to send them in a single request when using the
+     *          {@value QUOTAS_BACKEND_ADMIN} backend, or 0 to send the quota changes of each user on their own
+     */
+    public long getQuotasBatchLingerMs() {
+        return quotasBatchLingerMs;
+    }
+
     @Override
     public String toString() {
-        return "ClusterOperatorConfig(" +
+        return "UserOperatorConfig(" +
                 "namespace=" + namespace +
                 ",reconciliationIntervalMs=" + reconciliationIntervalMs +
                 ",kafkaBootstrapServers=" + kafkaBootstrapServers +
@@ -279,6 +395,202 @@ public class UserOperatorConfig {
                 ",clusterCaCertSecretName=" + clusterCaCertSecretName +
                 ",eoKeySecretName=" + eoKeySecretName +
                 ",caNamespace=" + caNamespace +
+                ",skipUnchangedReconciliations=" + skipUnchangedReconciliations +
+                ",certManager=" + certManager +
+                ",certIssuanceThreads=" + certIssuanceThreads +
+                ",aclsBatchLingerMs=" + aclsBatchLingerMs +
+                ",quotasBackend=" + quotasBackend +
+                ",quotasBatchLingerMs=" + quotasBatchLingerMs +
                 ")";
     }
+
+    /**
+     * Builds the User Operator configuration. The options which are not set have their default values.
+     */
+    public static class UserOperatorConfigBuilder {
+        private String namespace = null;
+        private long reconciliationIntervalMs = DEFAULT_FULL_RECONCILIATION_INTERVAL_MS;
+        private String kafkaBootstrapServers = DEFAULT_KAFKA_BOOTSTRAP_SERVERS;
+        private String zookeperConnect = DEFAULT_ZOOKEEPER_CONNECT;
+        private long zookeeperSessionTimeoutMs = DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS;
+        private Labels labels = Labels.EMPTY;
+        private String caCertSecretName = null;
+        private String caKeySecretName = null;
+        private String clusterCaCertSecretName = null;
+        private String eoKeySecretName = null;
+        private String caNamespace = null;
+        private String secretPrefix = DEFAULT_SECRET_PREFIX;
+        private boolean skipUnchangedReconciliations = DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS;
+        private String certManager = DEFAULT_CERT_MANAGER;
+        private int certIssuanceThreads = DEFAULT_CERT_ISSUANCE_THREADS;
+        private long aclsBatchLingerMs = DEFAULT_ACLS_BATCH_LINGER_MS;
+        private String quotasBackend = DEFAULT_QUOTAS_BACKEND;
+        private long quotasBatchLingerMs = DEFAULT_QUOTAS_BATCH_LINGER_MS;
+
+        /**
+         * @param namespace Namespace in which the operator will run and create resources
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withNamespace(String namespace) {
+            this.namespace = namespace;
+            return this;
+        }
+
+        /**
+         * @param reconciliationIntervalMs How many milliseconds between reconciliation runs
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withReconciliationIntervalMs(long reconciliationIntervalMs) {
+            this.reconciliationIntervalMs = reconciliationIntervalMs;
+            return this;
+        }
+
+        /**
+         * @param kafkaBootstrapServers Kafka bootstrap servers list
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withKafkaBootstrapServers(String kafkaBootstrapServers) {
+            this.kafkaBootstrapServers = kafkaBootstrapServers;
+            return this;
+        }
+
+        /**
+         * @param zookeperConnect Connection URL for Zookeeper
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withZookeperConnect(String zookeperConnect) {
+            this.zookeperConnect = zookeperConnect;
+            return this;
+        }
+
+        /**
+         * @param zookeeperSessionTimeoutMs Session timeout for Zookeeper connections
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withZookeeperSessionTimeoutMs(long zookeeperSessionTimeoutMs) {
+            this.zookeeperSessionTimeoutMs = zookeeperSessionTimeoutMs;
+            return this;
+        }
+
+        /**
+         * @param labels Labels which should be used to find the KafkaUser resources
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withLabels(Labels labels) {
+            this.labels = labels;
+            return this;
+        }
+
+        /**
+         * @param caCertSecretName Name of the secret containing the clients Certification Authority certificate
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withCaCertSecretName(String caCertSecretName) {
+            this.caCertSecretName = caCertSecretName;
+            return this;
+        }
+
+        /**
+         * @param caKeySecretName Name of the secret containing the clients Certification Authority key
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withCaKeySecretName(String caKeySecretName) {
+            this.caKeySecretName = caKeySecretName;
+            return this;
+        }
+
+        /**
+         * @param clusterCaCertSecretName Name of the secret containing the cluster Certification Authority certificate
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withClusterCaCertSecretName(String clusterCaCertSecretName) {
+            this.clusterCaCertSecretName = clusterCaCertSecretName;
+            return this;
+        }
+
+        /**
+         * @param eoKeySecretName Name of the secret containing the Entity Operator key and certificate
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withEoKeySecretName(String eoKeySecretName) {
+            this.eoKeySecretName = eoKeySecretName;
+            return this;
+        }
+
+        /**
+         * @param caNamespace Namespace with the CA secret
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withCaNamespace(String caNamespace) {
+            this.caNamespace = caNamespace;
+            return this;
+        }
+
+        /**
+         * @param secretPrefix Prefix used for the Secret names
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withSecretPrefix(String secretPrefix) {
+            this.secretPrefix = secretPrefix;
+            return this;
+        }
+
+        /**
+         * @param skipUnchangedReconciliations True to skip the reconciliation of users which did not change since their last reconciliation
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withSkipUnchangedReconciliations(boolean skipUnchangedReconciliations) {
+            this.skipUnchangedReconciliations = skipUnchangedReconciliations;
+            return this;
+        }
+
+        /**
+         * @param certManager Implementation of the certificate manager used to generate the user certificates (openssl or bouncycastle)
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withCertManager(String certManager) {
+            this.certManager = certManager;
+            return this;
+        }
+
+        /**
+         * @param certIssuanceThreads Maximal number of user certificates issued at the same time
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withCertIssuanceThreads(int certIssuanceThreads) {
+            this.certIssuanceThreads = certIssuanceThreads;
+            return this;
+        }
+
+        /**
+         * @param aclsBatchLingerMs Time to wait for the ACL changes of other users to send them in a single request
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withAclsBatchLingerMs(long aclsBatchLingerMs) {
+            this.aclsBatchLingerMs = aclsBatchLingerMs;
+            return this;
+        }
+
+        /**
+         * @param quotasBackend Backend used to manage the user quotas (zookeeper or admin)
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withQuotasBackend(String quotasBackend) {
+            this.quotasBackend = quotasBackend;
+            return this;
+        }
+
+        /**
+         * @param quotasBatchLingerMs Time to wait for the quota changes of other users to send them in a single request when using the admin backend
+         * @return  This builder
+         */
+        public UserOperatorConfigBuilder withQuotasBatchLingerMs(long quotasBatchLingerMs) {
+            this.quotasBatchLingerMs = quotasBatchLingerMs;
+            return this;
+        }
+
+        public UserOperatorConfig build() {
+            return new UserOperatorConfig(this);
+        }
+    }
 }
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.AclRule;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserAuthentication;
@@ -108,6 +109,29 @@ public class KafkaUserModel {
                                          Secret clientsCaCert,
                                          Secret clientsCaKey,
                                          Secret userSecret, String secretPrefix) {
+        return fromCrd(certManager, passwordGenerator, kafkaUser, clientsCaCert, clientsCaKey, userSecret, secretPrefix, null);
+    }
+
+    /**
+     * Creates instance of KafkaUserModel from CRD definition.
+     *
+     * @param certManager CertManager instance for work with certificates.
+     * @param passwordGenerator A password generator.
+     * @param kafkaUser The Custom Resource based on which the model should be created.
+     * @param clientsCaCert The clients CA certificate Secret.
+     * @param clientsCaKey The clients CA key Secret.
+     * @param userSecret Kubernetes secret with existing user certificate.
+     * @param secretPrefix The prefix used to add to the name of the Secret generated from the KafkaUser resource.
+     * @param certIssuanceTimer The timer recording the time needed to issue the user certificate. May be null.
+     * @return The user model.
+     */
+    public static KafkaUserModel fromCrd(CertManager certManager,
+                                         PasswordGenerator passwordGenerator,
+                                         KafkaUser kafkaUser,
+                                         Secret clientsCaCert,
+                                         Secret clientsCaKey,
+                                         Secret userSecret, String secretPrefix,
+                                         Timer certIssuanceTimer) {
         KafkaUserModel result = new KafkaUserModel(kafkaUser.getMetadata().getNamespace(),
                 kafkaUser.getMetadata().getName(),
                 Labels.fromResource(kafkaUser).withStrimziKind(kafkaUser.getKind()),
@@ -121,7 +145,7 @@ public class KafkaUserModel {
             }
 
             result.maybeGenerateCertificates(certManager, passwordGenerator, clientsCaCert, clientsCaKey, userSecret,
-                    UserOperatorConfig.getClientsCaValidityDays(), UserOperatorConfig.getClientsCaRenewalDays());
+                    UserOperatorConfig.getClientsCaValidityDays(), UserOperatorConfig.getClientsCaRenewalDays(), certIssuanceTimer);
         } else if (kafkaUser.getSpec().getAuthentication() instanceof KafkaUserScramSha512ClientAuthentication) {
             result.maybeGeneratePassword(passwordGenerator, userSecret);
         }
@@ -177,11 +201,12 @@ public class KafkaUserModel {
      * @param userSecret Secret with the user certificate
      * @param validityDays The number of days the certificate should be valid for.
      * @param renewalDays The renewal days.
+     * @param certIssuanceTimer The timer recording the time needed to issue the user certificate. May be null.
      */
     @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     public void maybeGenerateCertificates(CertManager certManager, PasswordGenerator passwordGenerator,
                                           Secret clientsCaCertSecret, Secret clientsCaKeySecret,
-                                          Secret userSecret, int validityDays, int renewalDays) {
+                                          Secret userSecret, int validityDays, int renewalDays, Timer certIssuanceTimer) {
         if (clientsCaCertSecret == null) {
             throw new NoCertificateSecretException("The Clients CA Cert Secret is missing");
         } else if (clientsCaKeySecret == null) {
@@ -196,6 +221,7 @@ public class KafkaUserModel {
                     renewalDays,
                     false,
                     null);
+            clientsCa.setCertIssuance(null, certIssuanceTimer);
             this.caCert = clientsCa.currentCaCertBase64();
             if (userSecret != null) {
                 // Secret already exists -> lets verify if it has keys from the same CA
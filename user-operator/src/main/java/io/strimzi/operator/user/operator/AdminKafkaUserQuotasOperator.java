@@ -0,0 +1,208 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.AdminRequestBatcher;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manages the quotas of the users through the Kafka Admin API instead of ZooKeeper.
+ *
+ * <p>The quotas of a user are altered only when they differ from the quotas described by the brokers. With batching,
+ * the quotas of all the users are described by a single Admin API request for the users reconciled within the linger
+ * time, and the alterations of many users are sent in a single Admin API request.</p>
+ */
+public class AdminKafkaUserQuotasOperator implements UserQuotasOperator {
+    private static final Logger log = LogManager.getLogger(AdminKafkaUserQuotasOperator.class.getName());
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    /*test*/ static final String PRODUCER_BYTE_RATE = "producer_byte_rate";
+    /*test*/ static final String CONSUMER_BYTE_RATE = "consumer_byte_rate";
+    /*test*/ static final String REQUEST_PERCENTAGE = "request_percentage";
+    private static final List<String> QUOTA_KEYS = Arrays.asList(PRODUCER_BYTE_RATE, CONSUMER_BYTE_RATE, REQUEST_PERCENTAGE);
+
+    private final Vertx vertx;
+    private final Admin adminClient;
+    private final AdminRequestBatcher<ClientQuotaEntity, ClientQuotaEntity, Map<String, Double>> describeBatcher;
+    private final AdminRequestBatcher<ClientQuotaEntity, ClientQuotaAlteration, Void> alterBatcher;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param batchLingerMs The time to wait for the reconciliations of other users, so that the quotas of many users are
+     *                      described and changed by single Admin API requests. Zero describes and changes the quotas
+     *                      of each user on their own.
+     * @param metrics The metrics provider for the batch metrics, required when batching.
+     */
+    public AdminKafkaUserQuotasOperator(Vertx vertx, Admin adminClient, long batchLingerMs, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.adminClient = adminClient;
+        if (batchLingerMs > 0) {
+            this.describeBatcher = new AdminRequestBatcher<>(vertx, "KafkaUser", "describeClientQuotas", batchLingerMs, MAX_BATCH_SIZE,
+                this::describeAll, metrics);
+            this.alterBatcher = new AdminRequestBatcher<>(vertx, "KafkaUser", "alterClientQuotas", batchLingerMs, MAX_BATCH_SIZE,
+                alterations -> Util.kafkaFuturesToVertxFutures(vertx, adminClient.alterClientQuotas(alterations.values()).values()),
+                metrics);
+        } else {
+            this.describeBatcher = null;
+            this.alterBatcher = null;
+        }
+    }
+
+    @Override
+    public Future<ReconcileResult<KafkaUserQuotas>> reconcile(String username, KafkaUserQuotas quotas) {
+        ClientQuotaEntity entity = new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+        Map<String, Double> desired = toQuotaMap(quotas);
+
+        return describe(entity).compose(current -> {
+            if (current.equals(desired)) {
+                log.debug("Nothing to update in quotas for user {}", username);
+                return Future.succeededFuture(ReconcileResult.noop(quotas));
+            }
+
+            List<ClientQuotaAlteration.Op> ops = new ArrayList<>(QUOTA_KEYS.size());
+            for (String key : QUOTA_KEYS) {
+                if (desired.containsKey(key) || current.containsKey(key)) {
+                    // A null value removes the quota
+                    ops.add(new ClientQuotaAlteration.Op(key, desired.get(key)));
+                }
+            }
+
+            ReconcileResult<KafkaUserQuotas> result;
+            if (desired.isEmpty()) {
+                log.debug("Deleting quotas for user {}", username);
+                result = ReconcileResult.deleted();
+            } else if (current.isEmpty()) {
+                log.debug("Creating quotas for user {}", username);
+                result = ReconcileResult.created(quotas);
+            } else {
+                log.debug("Updating quotas for user {}", username);
+                result = ReconcileResult.patched(quotas);
+            }
+
+            return alter(new ClientQuotaAlteration(entity, ops))
+                    .recover(e -> {
+                        log.error("Altering quotas for user {} failed", username, e);
+                        return Future.failedFuture(e);
+                    })
+                    .map(result);
+        });
+    }
+
+    /**
+     * Describes the quotas managed by this operator of a single user.
+     *
+     * @param entity The quota entity of the user
+     *
+     * @return Future with the quotas of the user, which is empty when the user has no quotas
+     */
+    private Future<Map<String, Double>> describe(ClientQuotaEntity entity) {
+        if (describeBatcher != null) {
+            return describeBatcher.submit(entity, entity);
+        }
+
+        return Util.kafkaFutureToVertxFuture(vertx, adminClient.describeClientQuotas(userFilter(entity)).entities())
+                .map(entities -> managedQuotas(entities.get(entity)));
+    }
+
+    private static ClientQuotaFilter userFilter(ClientQuotaEntity entity) {
+        return ClientQuotaFilter.containsOnly(Collections.singletonList(
+                ClientQuotaFilterComponent.ofEntity(ClientQuotaEntity.USER, entity.entries().get(ClientQuotaEntity.USER))));
+    }
+
+    /**
+     * Describes the quotas of all the users in a single Admin API request, because the filter of the request cannot
+     * select a list of users. A batch of a single user describes only that user.
+     */
+    private Map<ClientQuotaEntity, Future<Map<String, Double>>> describeAll(Map<ClientQuotaEntity, ClientQuotaEntity> requests) {
+        ClientQuotaFilter filter = requests.size() == 1
+                ? userFilter(requests.keySet().iterator().next())
+                : ClientQuotaFilter.containsOnly(Collections.singletonList(ClientQuotaFilterComponent.ofEntityType(ClientQuotaEntity.USER)));
+        Future<Map<ClientQuotaEntity, Map<String, Double>>> entities =
+                Util.kafkaFutureToVertxFuture(vertx, adminClient.describeClientQuotas(filter).entities());
+
+        Map<ClientQuotaEntity, Future<Map<String, Double>>> results = new HashMap<>(requests.size());
+        for (ClientQuotaEntity entity : requests.keySet()) {
+            results.put(entity, entities.map(described -> managedQuotas(described.get(entity))));
+        }
+        return results;
+    }
+
+    /**
+     * Selects the quotas managed by this operator.
+     *
+     * @param described The described quotas of a user, or null when the user has no quotas
+     *
+     * @return The quotas, which are empty when the user has no quotas
+     */
+    private static Map<String, Double> managedQuotas(Map<String, Double> described) {
+        Map<String, Double> current = new HashMap<>(QUOTA_KEYS.size());
+        if (described != null) {
+            for (String key : QUOTA_KEYS) {
+                if (described.containsKey(key)) {
+                    current.put(key, described.get(key));
+                }
+            }
+        }
+        return current;
+    }
+
+    private Future<Void> alter(ClientQuotaAlteration alteration) {
+        if (alterBatcher != null) {
+            return alterBatcher.submit(alteration.entity(), alteration);
+        }
+
+        return Util.kafkaFutureToVertxFuture(vertx, adminClient.alterClientQuotas(Collections.singleton(alteration)).all());
+    }
+
+    /**
+     * Converts the quotas of the KafkaUser resource to the quota values of the Admin API
+     *
+     * @param quotas The quotas of the user or null when the user has no quotas
+     *
+     * @return The quota values, indexed by the quota keys
+     */
+    /*test*/ static Map<String, Double> toQuotaMap(KafkaUserQuotas quotas) {
+        Map<String, Double> map = new HashMap<>(QUOTA_KEYS.size());
+
+        if (quotas != null) {
+            if (quotas.getProducerByteRate() != null) {
+                map.put(PRODUCER_BYTE_RATE, quotas.getProducerByteRate().doubleValue());
+            }
+
+            if (quotas.getConsumerByteRate() != null) {
+                map.put(CONSUMER_BYTE_RATE, quotas.getConsumerByteRate().doubleValue());
+            }
+
+            if (quotas.getRequestPercentage() != null) {
+                map.put(REQUEST_PERCENTAGE, quotas.getRequestPercentage().doubleValue());
+            }
+        }
+
+        return map;
+    }
+}
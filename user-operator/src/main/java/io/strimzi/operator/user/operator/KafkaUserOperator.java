@@ -4,9 +4,12 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.DoneableKafkaUser;
 import io.strimzi.api.kafka.model.KafkaUser;
@@ -31,6 +34,7 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -59,9 +63,11 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     private final String caNamespace;
     private final ScramShaCredentialsOperator scramShaCredentialOperator;
     private final Optional<LabelSelector> selector;
-    private final KafkaUserQuotasOperator kafkaUserQuotasOperator;
+    private final UserQuotasOperator kafkaUserQuotasOperator;
     private PasswordGenerator passwordGenerator = new PasswordGenerator(12);
     private final String secretPrefix;
+    private final Timer certIssuanceTimer;
+    private WorkerExecutor certIssuanceExecutor;
 
     /**
      * @param vertx The Vertx instance.
@@ -83,7 +89,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                              Labels labels,
                              SecretOperator secretOperations,
                              ScramShaCredentialsOperator scramShaCredentialOperator,
-                             KafkaUserQuotasOperator kafkaUserQuotasOperator,
+                             UserQuotasOperator kafkaUserQuotasOperator,
                              SimpleAclOperator aclOperations, String caCertName, String caKeyName, String caNamespace, String secretPrefix) {
         super(vertx, "KafkaUser", crdOperator, new MicrometerMetricsProvider());
         this.certManager = certManager;
@@ -97,6 +103,20 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         this.caKeyName = caKeyName;
         this.caNamespace = caNamespace;
         this.secretPrefix = secretPrefix;
+        this.certIssuanceTimer = metrics.timer(METRICS_PREFIX + "certificates.issuance",
+                "The time needed to issue a user certificate signed by the clients CA",
+                Tags.of("kind", kind()));
+    }
+
+    /**
+     * Configures the bounded pool of worker threads used to create the models of the users, including the issuance
+     * of their certificates. This allows the certificates of different users to be issued in parallel and without
+     * blocking the event loop. Without the pool, the models are created directly in the reconciliation.
+     *
+     * @param threads The maximal number of user certificates issued at the same time.
+     */
+    public void setCertIssuanceThreads(int threads) {
+        this.certIssuanceExecutor = vertx.createSharedWorkerExecutor("user-cert-issuance-pool", threads);
     }
 
     @Override
@@ -146,22 +166,59 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
      */
     @Override
     protected Future<KafkaUserStatus> createOrUpdate(Reconciliation reconciliation, KafkaUser resource) {
-        Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
-        Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
-        Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
-
         KafkaUserStatus userStatus = new KafkaUserStatus();
-        String namespace = reconciliation.namespace();
-        String userName = reconciliation.name();
-        KafkaUserModel user;
 
-        try {
-            user = KafkaUserModel.fromCrd(certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix);
-        } catch (Exception e) {
-            StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, Future.failedFuture(e));
-            return Future.failedFuture(new ReconciliationException(userStatus, e));
+        return userModel(reconciliation, resource)
+                .recover(e -> {
+                    StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, Future.failedFuture(e));
+                    return Future.failedFuture(new ReconciliationException(userStatus, e));
+                })
+                .compose(user -> reconcileUser(reconciliation, resource, user, userStatus));
+    }
+
+    /**
+     * Creates the model of the user from the custom resource and the Secrets with the clients CA and the user
+     * credentials. When a certificate issuance pool is configured (see {@link #setCertIssuanceThreads(int)}), this
+     * is done in one of its worker threads.
+     *
+     * @param reconciliation Unique identification for the reconciliation
+     * @param resource KafkaUser resources with the desired user configuration.
+     * @return A Future with the user model
+     */
+    private Future<KafkaUserModel> userModel(Reconciliation reconciliation, KafkaUser resource) {
+        if (certIssuanceExecutor == null) {
+            Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
+            Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
+            Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
+
+            try {
+                return Future.succeededFuture(KafkaUserModel.fromCrd(certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix, certIssuanceTimer));
+            } catch (Exception e) {
+                return Future.failedFuture(e);
+            }
         }
 
+        Promise<KafkaUserModel> result = Promise.promise();
+        certIssuanceExecutor.<KafkaUserModel>executeBlocking(future -> {
+            try {
+                Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
+                Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
+                Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
+
+                future.complete(KafkaUserModel.fromCrd(certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix, certIssuanceTimer));
+            } catch (Throwable t) {
+                future.fail(t);
+            }
+        },
+            false,
+            result);
+        return result.future();
+    }
+
+    private Future<KafkaUserStatus> reconcileUser(Reconciliation reconciliation, KafkaUser resource, KafkaUserModel user, KafkaUserStatus userStatus) {
+        String namespace = reconciliation.namespace();
+        String userName = reconciliation.name();
+
         log.debug("{}: Updating User {} in namespace {}", reconciliation, userName, namespace);
         Secret desired = user.generateSecret();
         String password = null;
@@ -212,6 +269,20 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         return handler.future();
     }
 
+    /**
+     * The user Secret and the clients CA Secrets determine the result of the reconciliation of the Kubernetes
+     * resources. The ACLs, quotas and SCRAM-SHA credentials stored in Kafka and ZooKeeper are not covered, so
+     * changes done to them directly are not reverted while the reconciliation of unchanged users is skipped.
+     */
+    @Override
+    protected Future<List<HasMetadata>> ownedResources(Reconciliation reconciliation, KafkaUser resource) {
+        return CompositeFuture.join(
+                    secretOperations.getAsync(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())),
+                    secretOperations.getAsync(caNamespace, caCertName),
+                    secretOperations.getAsync(caNamespace, caKeyName))
+                .map(result -> result.<HasMetadata>list());
+    }
+
     protected Future<ReconcileResult<Secret>> reconcileSecretAndSetStatus(String namespace, KafkaUserModel user, Secret desired, KafkaUserStatus userStatus) {
         return secretOperations.reconcile(namespace, user.getSecretName(), desired).compose(ar -> {
             if (desired != null) {
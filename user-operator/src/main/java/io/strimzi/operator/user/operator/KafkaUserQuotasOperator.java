@@ -23,20 +23,24 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
-public class KafkaUserQuotasOperator {
+/**
+ * Manages the quotas of the users in ZooKeeper.
+ */
+public class KafkaUserQuotasOperator implements UserQuotasOperator {
     private static final Logger log = LogManager.getLogger(KafkaUserQuotasOperator.class.getName());
 
     private final static int CONNECTION_TIMEOUT = 30_000;
 
-    private ZkClient zkClient;
-    private Vertx vertx;
+    private final ZkClient zkClient;
+    private final Vertx vertx;
 
     public KafkaUserQuotasOperator(Vertx vertx, String zookeeperUrl, int zookeeperSessionTimeout) {
         this.zkClient = new ZkClient(zookeeperUrl, zookeeperSessionTimeout, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
         this.vertx = vertx;
     }
 
-    Future<ReconcileResult<KafkaUserQuotas>> reconcile(String username, KafkaUserQuotas quotas) {
+    @Override
+    public Future<ReconcileResult<KafkaUserQuotas>> reconcile(String username, KafkaUserQuotas quotas) {
         Promise<ReconcileResult<KafkaUserQuotas>> prom = Promise.promise();
         
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
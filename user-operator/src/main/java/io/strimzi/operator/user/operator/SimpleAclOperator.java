@@ -5,6 +5,9 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.AdminRequestBatcher;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
@@ -13,11 +16,14 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.ApiException;
 import org.apache.kafka.common.errors.SecurityDisabledException;
 import org.apache.kafka.common.errors.UnknownServerException;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
@@ -29,8 +35,11 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
@@ -41,9 +50,30 @@ public class SimpleAclOperator {
     private static final Logger log = LogManager.getLogger(SimpleAclOperator.class.getName());
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
+    private static final int MAX_BATCH_SIZE = 1000;
 
     private final Vertx vertx;
     private final Admin adminClient;
+    private final long snapshotTtlMs;
+    private final AdminRequestBatcher<AclBinding, AclBinding, Void> createBatcher;
+    private final AdminRequestBatcher<AclBindingFilter, AclBindingFilter, Void> deleteBatcher;
+
+    /**
+     * The ACL rules of all the users, indexed by the principal name, as described by {@link #getUsersWithAcls()}
+     * at the start of a full reconciliation. Guarded by this.
+     */
+    private Map<String, Set<SimpleAclRule>> snapshot;
+    /** The time after which the snapshot is not used anymore. Guarded by this. */
+    private long snapshotExpiry;
+    /** The users whose ACL rules have been reconciled since the snapshot was taken. Guarded by this. */
+    private final Set<String> reconciledSinceSnapshot = new HashSet<>();
+    /** The users whose ACL rules are being changed, and might be missing from the snapshot. Guarded by this. */
+    private final Set<String> changing = new HashSet<>();
+    /**
+     * The users whose ACL rules started changing while {@link #getUsersWithAcls()} described the ACL rules of all
+     * users, or null when it does not. Guarded by this.
+     */
+    private Set<String> changedWhileDescribing;
 
     /**
      * Constructor
@@ -52,8 +82,33 @@ public class SimpleAclOperator {
      * @param adminClient Kafka Admin client instance
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient)  {
+        this(vertx, adminClient, 0, 0, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param batchLingerMs The time to wait for the ACL changes of other users, so that the changes of many users are
+     *                      sent in a single Admin API request. Zero sends the changes of each user on their own.
+     * @param snapshotTtlMs For how long the ACL rules described for all users by {@link #getUsersWithAcls()} are used
+     *                      instead of describing the ACL rules of each reconciled user. Zero disables the snapshot.
+     * @param metrics The metrics provider for the batch metrics, required when batching.
+     */
+    public SimpleAclOperator(Vertx vertx, Admin adminClient, long batchLingerMs, long snapshotTtlMs, MetricsProvider metrics)  {
         this.vertx = vertx;
         this.adminClient = adminClient;
+        this.snapshotTtlMs = snapshotTtlMs;
+        if (batchLingerMs > 0) {
+            this.createBatcher = new AdminRequestBatcher<>(vertx, "KafkaUser", "createAcls", batchLingerMs, MAX_BATCH_SIZE,
+                bindings -> Util.kafkaFuturesToVertxFutures(vertx, adminClient.createAcls(bindings.keySet()).values()), metrics);
+            this.deleteBatcher = new AdminRequestBatcher<>(vertx, "KafkaUser", "deleteAcls", batchLingerMs, MAX_BATCH_SIZE,
+                filters -> Util.kafkaFuturesToVertxFutures(vertx, failOnDeletionErrors(adminClient.deleteAcls(filters.keySet()).values())), metrics);
+        } else {
+            this.createBatcher = null;
+            this.deleteBatcher = null;
+        }
     }
 
     /**
@@ -70,7 +125,7 @@ public class SimpleAclOperator {
                 Set<SimpleAclRule> current;
 
                 try {
-                    current = getAcls(username);
+                    current = currentAcls(username);
                 } catch (Exception e)   {
                     // if authorization is not enabled in the Kafka resource, but the KafkaUser resource doesn't
                     // have ACLs, the UO can just ignore the corresponding exception
@@ -84,6 +139,7 @@ public class SimpleAclOperator {
                     }
                 }
 
+                startChanging(username);
                 if (desired == null || desired.isEmpty()) {
                     if (current.size() == 0)    {
                         log.debug("User {}: No expected Acl rules and no existing Acl rules -> NoOp", username);
@@ -105,13 +161,38 @@ public class SimpleAclOperator {
             false,
             promise
         );
-        return promise.future();
+        return promise.future().onComplete(ignored -> stopChanging(username));
+    }
+
+    /**
+     * Marks the ACL rules of the user as changing. The snapshot is not used for the user anymore, including a
+     * snapshot taken while the changes are in flight, because it might not contain them.
+     */
+    private synchronized void startChanging(String username) {
+        changing.add(username);
+        reconciledSinceSnapshot.add(username);
+        if (changedWhileDescribing != null) {
+            changedWhileDescribing.add(username);
+        }
+    }
+
+    private synchronized void stopChanging(String username) {
+        changing.remove(username);
     }
 
     /**
      * Create all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(String username, Set<SimpleAclRule> desired) {
+        if (createBatcher != null) {
+            return createBatcher.submitAll(asRequests(getAclBindings(username, desired)))
+                .recover(e -> {
+                    log.error("Adding Acl rules for user {} failed", username, e);
+                    return Future.failedFuture(e);
+                })
+                .map(ReconcileResult.created(desired));
+        }
+
         try {
             Collection<AclBinding> aclBindings = getAclBindings(username, desired);
             adminClient.createAcls(aclBindings).all().get();
@@ -171,10 +252,29 @@ public class SimpleAclOperator {
         return aclBindings;
     }
 
+    /**
+     * The batched requests of the ACL bindings and filters are indexed by themselves.
+     */
+    private static <T> Map<T, T> asRequests(Collection<T> items) {
+        Map<T, T> requests = new LinkedHashMap<>(items.size());
+        for (T item : items) {
+            requests.put(item, item);
+        }
+        return requests;
+    }
+
     /**
      * Deletes all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
+        if (deleteBatcher != null) {
+            return deleteBatcher.submitAll(asRequests(getAclBindingFilters(username, current)))
+                .recover(e -> {
+                    log.error("Deleting Acl rules for user {} failed", username, e);
+                    return Future.failedFuture(e);
+                })
+                .map(ReconcileResult.deleted());
+        }
 
         try {
             Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
@@ -186,6 +286,41 @@ public class SimpleAclOperator {
         return Future.succeededFuture(ReconcileResult.deleted());
     }
 
+    /**
+     * Fails the future of each filter which failed to delete any of the ACLs it matched,
+     * like {@code DeleteAclsResult.all()} does for the whole request.
+     */
+    private static Map<AclBindingFilter, KafkaFuture<Void>> failOnDeletionErrors(Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results) {
+        Map<AclBindingFilter, KafkaFuture<Void>> checked = new HashMap<>(results.size());
+        for (Map.Entry<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> entry : results.entrySet()) {
+            checked.put(entry.getKey(), entry.getValue().thenApply(filterResults -> {
+                for (DeleteAclsResult.FilterResult filterResult : filterResults.values()) {
+                    ApiException exception = filterResult.exception();
+                    if (exception != null) {
+                        throw exception;
+                    }
+                }
+                return null;
+            }));
+        }
+        return checked;
+    }
+
+    /**
+     * Returns the current ACLs of the user: from the snapshot when the user has not been reconciled since the snapshot
+     * was taken, and described from Kafka otherwise.
+     */
+    private Set<SimpleAclRule> currentAcls(String username) {
+        synchronized (this) {
+            if (snapshot != null && System.currentTimeMillis() < snapshotExpiry && reconciledSinceSnapshot.add(username)) {
+                Set<SimpleAclRule> current = snapshot.remove(username);
+                log.debug("Using ACL rules of user {} from the snapshot", username);
+                return current != null ? current : new HashSet<>();
+            }
+        }
+        return getAcls(username);
+    }
+
     /**
      * Returns Set of ACLs applying to single user.
      *
@@ -234,17 +369,38 @@ public class SimpleAclOperator {
 
         log.debug("Searching for Users with any ACL rules");
 
+        if (snapshotTtlMs > 0) {
+            synchronized (this) {
+                changedWhileDescribing = new HashSet<>();
+            }
+        }
+
         Collection<AclBinding> aclBindings;
         try {
             aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
         } catch (InterruptedException | ExecutionException e) {
+            synchronized (this) {
+                changedWhileDescribing = null;
+            }
             return result;
         }
 
+        Map<String, Set<SimpleAclRule>> aclsByPrincipal = new HashMap<>();
+        Set<String> notInSnapshot = new HashSet<>();
         for (AclBinding aclBinding : aclBindings) {
             KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
             if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType()))  {
+                if (snapshotTtlMs > 0) {
+                    try {
+                        aclsByPrincipal.computeIfAbsent(principal.getName(), name -> new HashSet<>())
+                            .add(SimpleAclRule.fromAclBinding(aclBinding));
+                    } catch (IllegalArgumentException e) {
+                        // The ACL rules of this user are described when the user is reconciled
+                        notInSnapshot.add(principal.getName());
+                    }
+                }
+
                 // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
                 String username = KafkaUserModel.decodeUsername(principal.getName());
 
@@ -264,6 +420,19 @@ public class SimpleAclOperator {
             }
         }
 
+        if (snapshotTtlMs > 0) {
+            log.debug("Taking a snapshot of the ACL rules of {} users", aclsByPrincipal.size());
+            synchronized (this) {
+                snapshot = aclsByPrincipal;
+                snapshotExpiry = System.currentTimeMillis() + snapshotTtlMs;
+                reconciledSinceSnapshot.clear();
+                reconciledSinceSnapshot.addAll(notInSnapshot);
+                reconciledSinceSnapshot.addAll(changing);
+                reconciledSinceSnapshot.addAll(changedWhileDescribing);
+                changedWhileDescribing = null;
+            }
+        }
+
         return result;
     }
 }
@@ -0,0 +1,24 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.Future;
+
+/**
+ * Manages the quotas of the users in Kafka.
+ */
+public interface UserQuotasOperator {
+    /**
+     * Reconciles the quotas of the given user.
+     *
+     * @param username The name of the user
+     * @param quotas The desired quotas of the user, or null when the user should have no quotas
+     *
+     * @return Future with the reconcile result
+     */
+    Future<ReconcileResult<KafkaUserQuotas>> reconcile(String username, KafkaUserQuotas quotas);
+}
@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -49,6 +50,19 @@ public class UserOperatorConfigTest {
         assertThat(config.getZookeeperSessionTimeoutMs(), is(Long.parseLong(envVars.get(UserOperatorConfig.STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS))));
     }
 
+    @Test
+    public void testBuilderSetsDefaults()  {
+        UserOperatorConfig config = new UserOperatorConfig.UserOperatorConfigBuilder()
+                .withNamespace("namespace")
+                .build();
+
+        assertThat(config.getNamespace(), is("namespace"));
+        assertThat(config.getReconciliationIntervalMs(), is(UserOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS));
+        assertThat(config.getQuotasBackend(), is(UserOperatorConfig.DEFAULT_QUOTAS_BACKEND));
+        assertThat(config.getAclsBatchLingerMs(), is(UserOperatorConfig.DEFAULT_ACLS_BATCH_LINGER_MS));
+        assertThat(config.toString(), startsWith("UserOperatorConfig(namespace=namespace,"));
+    }
+
     @Test
     public void testFromMapNamespaceEnvVarMissingThrows()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
@@ -107,4 +121,59 @@ public class UserOperatorConfigTest {
 
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
     }
+
+    @Test
+    public void testFromMapCertManager()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManager(), is(UserOperatorConfig.CERT_MANAGER_OPENSSL));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManager(), is(UserOperatorConfig.CERT_MANAGER_BOUNCYCASTLE));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "keytool");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapCertIssuanceThreads()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertIssuanceThreads(), is(UserOperatorConfig.DEFAULT_CERT_ISSUANCE_THREADS));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_ISSUANCE_THREADS, "4");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertIssuanceThreads(), is(4));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_ISSUANCE_THREADS, "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapAclsBatchLingerMs()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).getAclsBatchLingerMs(), is(UserOperatorConfig.DEFAULT_ACLS_BATCH_LINGER_MS));
+
+        envVars.put(UserOperatorConfig.STRIMZI_ACLS_BATCH_LINGER_MS, "0");
+        assertThat(UserOperatorConfig.fromMap(envVars).getAclsBatchLingerMs(), is(0L));
+
+        envVars.put(UserOperatorConfig.STRIMZI_ACLS_BATCH_LINGER_MS, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapQuotasBackend()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).getQuotasBackend(), is(UserOperatorConfig.QUOTAS_BACKEND_ZOOKEEPER));
+        assertThat(UserOperatorConfig.fromMap(envVars).getQuotasBatchLingerMs(), is(UserOperatorConfig.DEFAULT_QUOTAS_BATCH_LINGER_MS));
+
+        envVars.put(UserOperatorConfig.STRIMZI_QUOTAS_BACKEND, "Admin");
+        envVars.put(UserOperatorConfig.STRIMZI_QUOTAS_BATCH_LINGER_MS, "0");
+        assertThat(UserOperatorConfig.fromMap(envVars).getQuotasBackend(), is(UserOperatorConfig.QUOTAS_BACKEND_ADMIN));
+        assertThat(UserOperatorConfig.fromMap(envVars).getQuotasBatchLingerMs(), is(0L));
+
+        envVars.put(UserOperatorConfig.STRIMZI_QUOTAS_BATCH_LINGER_MS, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+
+        envVars.put(UserOperatorConfig.STRIMZI_QUOTAS_BATCH_LINGER_MS, "10");
+        envVars.put(UserOperatorConfig.STRIMZI_QUOTAS_BACKEND, "etcd");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
 }
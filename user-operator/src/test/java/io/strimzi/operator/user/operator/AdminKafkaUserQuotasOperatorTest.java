@@ -0,0 +1,198 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class AdminKafkaUserQuotasOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ClientQuotaEntity entity(String username) {
+        return new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+    }
+
+    /**
+     * Mocks the Admin client describing the given quotas and succeeding all the quota alterations
+     */
+    private static Admin mockAdminClient(Map<String, Map<String, Double>> quotasByUser) {
+        Admin adminClient = mock(Admin.class);
+
+        when(adminClient.describeClientQuotas(any(ClientQuotaFilter.class))).thenAnswer(invocation -> {
+            ClientQuotaFilter filter = invocation.getArgument(0);
+            Optional<String> username = filter.components().iterator().next().match();
+
+            Map<ClientQuotaEntity, Map<String, Double>> entities = new HashMap<>();
+            for (Map.Entry<String, Map<String, Double>> quotas : quotasByUser.entrySet()) {
+                // A null match selects all the users with a name
+                if (username == null || username.equals(Optional.of(quotas.getKey()))) {
+                    entities.put(entity(quotas.getKey()), quotas.getValue());
+                }
+            }
+
+            DescribeClientQuotasResult result = mock(DescribeClientQuotasResult.class);
+            when(result.entities()).thenReturn(KafkaFuture.completedFuture(entities));
+            return result;
+        });
+
+        when(adminClient.alterClientQuotas(any())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> alterations = invocation.getArgument(0);
+
+            Map<ClientQuotaEntity, KafkaFuture<Void>> values = new HashMap<>();
+            for (ClientQuotaAlteration alteration : alterations) {
+                values.put(alteration.entity(), KafkaFuture.completedFuture(null));
+            }
+
+            AlterClientQuotasResult result = mock(AlterClientQuotasResult.class);
+            when(result.values()).thenReturn(values);
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+            return result;
+        });
+
+        return adminClient;
+    }
+
+    @Test
+    public void testChangedQuotasOfManyUsersAreAlteredInSingleRequest(VertxTestContext context) {
+        Map<String, Map<String, Double>> current = new HashMap<>();
+        current.put("updated", Collections.singletonMap(AdminKafkaUserQuotasOperator.CONSUMER_BYTE_RATE, 2000.0));
+        current.put("deleted", Collections.singletonMap(AdminKafkaUserQuotasOperator.REQUEST_PERCENTAGE, 50.0));
+        current.put("unchanged", Collections.singletonMap(AdminKafkaUserQuotasOperator.PRODUCER_BYTE_RATE, 1000.0));
+        Admin adminClient = mockAdminClient(current);
+
+        KafkaUserQuotas producerQuotas = new KafkaUserQuotas();
+        producerQuotas.setProducerByteRate(1000);
+
+        UserQuotasOperator operator = new AdminKafkaUserQuotasOperator(vertx, adminClient, 100, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(
+                operator.reconcile("created", producerQuotas),
+                operator.reconcile("updated", producerQuotas),
+                operator.reconcile("deleted", null),
+                operator.reconcile("unchanged", producerQuotas),
+                operator.reconcile("without-quotas", null))
+            .onComplete(context.succeeding(res -> context.verify(() -> {
+                assertThat(res.<ReconcileResult<KafkaUserQuotas>>resultAt(0), instanceOf(ReconcileResult.Created.class));
+                assertThat(res.<ReconcileResult<KafkaUserQuotas>>resultAt(1), instanceOf(ReconcileResult.Patched.class));
+                assertThat(res.<ReconcileResult<KafkaUserQuotas>>resultAt(2), is(ReconcileResult.deleted()));
+                assertThat(res.<ReconcileResult<KafkaUserQuotas>>resultAt(3), instanceOf(ReconcileResult.Noop.class));
+                assertThat(res.<ReconcileResult<KafkaUserQuotas>>resultAt(4), instanceOf(ReconcileResult.Noop.class));
+
+                // The quotas of all the users are described at once
+                verify(adminClient, times(1)).describeClientQuotas(any());
+
+                @SuppressWarnings("unchecked")
+                ArgumentCaptor<Collection<ClientQuotaAlteration>> captor = ArgumentCaptor.forClass(Collection.class);
+                verify(adminClient, times(1)).alterClientQuotas(captor.capture());
+
+                Map<ClientQuotaEntity, List<ClientQuotaAlteration.Op>> ops = new HashMap<>();
+                for (ClientQuotaAlteration alteration : captor.getValue()) {
+                    ops.put(alteration.entity(), new ArrayList<>(alteration.ops()));
+                }
+                assertThat(ops.size(), is(3));
+
+                assertThat(ops.get(entity("created")).size(), is(1));
+                assertThat(ops.get(entity("created")).get(0).key(), is(AdminKafkaUserQuotasOperator.PRODUCER_BYTE_RATE));
+                assertThat(ops.get(entity("created")).get(0).value(), is(1000.0));
+
+                // The consumer quota which is not desired anymore is removed
+                assertThat(ops.get(entity("updated")).size(), is(2));
+                assertThat(ops.get(entity("updated")).get(1).key(), is(AdminKafkaUserQuotasOperator.CONSUMER_BYTE_RATE));
+                assertThat(ops.get(entity("updated")).get(1).value(), is(nullValue()));
+
+                assertThat(ops.get(entity("deleted")).size(), is(1));
+                assertThat(ops.get(entity("deleted")).get(0).key(), is(AdminKafkaUserQuotasOperator.REQUEST_PERCENTAGE));
+                assertThat(ops.get(entity("deleted")).get(0).value(), is(nullValue()));
+
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testBatchOfSingleUserDescribesOnlyThatUser(VertxTestContext context) {
+        Admin adminClient = mockAdminClient(Collections.singletonMap("other", Collections.singletonMap(AdminKafkaUserQuotasOperator.PRODUCER_BYTE_RATE, 1000.0)));
+
+        UserQuotasOperator operator = new AdminKafkaUserQuotasOperator(vertx, adminClient, 100, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile("user", null)
+            .onComplete(context.succeeding(res -> context.verify(() -> {
+                assertThat(res, instanceOf(ReconcileResult.Noop.class));
+
+                ArgumentCaptor<ClientQuotaFilter> captor = ArgumentCaptor.forClass(ClientQuotaFilter.class);
+                verify(adminClient, times(1)).describeClientQuotas(captor.capture());
+                assertThat(captor.getValue().components().iterator().next().match(), is(Optional.of("user")));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testQuotasAreAlteredWithoutBatching(VertxTestContext context) {
+        Admin adminClient = mockAdminClient(Collections.emptyMap());
+
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setConsumerByteRate(2000);
+        quotas.setRequestPercentage(50);
+
+        UserQuotasOperator operator = new AdminKafkaUserQuotasOperator(vertx, adminClient, 0, null);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(operator.reconcile("user-1", quotas), operator.reconcile("user-2", quotas))
+            .onComplete(context.succeeding(res -> context.verify(() -> {
+                verify(adminClient, times(2)).describeClientQuotas(any());
+                verify(adminClient, times(2)).alterClientQuotas(any());
+                async.flag();
+            })));
+    }
+}
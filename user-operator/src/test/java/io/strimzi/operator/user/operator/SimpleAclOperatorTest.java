@@ -4,12 +4,18 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.AclOperation;
 import io.strimzi.api.kafka.model.AclResourcePatternType;
 import io.strimzi.api.kafka.model.AclRuleType;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -24,6 +30,7 @@ import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
@@ -35,16 +42,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
@@ -53,6 +70,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -228,6 +247,113 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testReconcileUsesSnapshotAndBatchesCreationsOfManyUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient, 100, 60_000, new MicrometerMetricsProvider(registry));
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding fooReadAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding fooWriteAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.WRITE, AclPermissionType.ALLOW));
+        KafkaPrincipal bar = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=bar");
+        AclBinding barReadAclBinding = new AclBinding(resource, new AccessControlEntry(bar.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+        SimpleAclRule writeRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.WRITE);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, singletonList(fooReadAclBinding)));
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>();
+            for (AclBinding aclBinding : invocation.<Collection<AclBinding>>getArgument(0)) {
+                values.put(aclBinding, KafkaFuture.completedFuture(null));
+            }
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        assertThat(aclOp.getUsersWithAcls(), is(singleton("foo")));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(aclOp.reconcile("CN=foo", new HashSet<>(asList(readRule, writeRule))),
+                aclOp.reconcile("CN=bar", singleton(readRule)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // Only the snapshot was described, and the missing rules of both users were created in one request
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+                    verify(mockAdminClient, times(1)).createAcls(any());
+                    assertThat(aclBindingsCaptor.getValue(), hasSize(2));
+                    assertThat(aclBindingsCaptor.getValue(), hasItems(fooWriteAclBinding, barReadAclBinding));
+                    DistributionSummary batchSize = registry.get("strimzi.admin.batch.size")
+                            .tag("kind", "KafkaUser")
+                            .tag("operation", "createAcls").summary();
+                    assertThat(batchSize.count(), is(1L));
+                    assertThat(batchSize.totalAmount(), is(2.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testSnapshotTakenWhileCreatingIsNotUsed(VertxTestContext context) throws InterruptedException {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient, 0, 60_000, null);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding fooReadAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+
+        List<AclBinding> existing = new CopyOnWriteArrayList<>();
+        when(mockAdminClient.describeAcls(any())).thenAnswer(invocation -> {
+            DescribeAclsResult result = mock(DescribeAclsResult.class);
+            when(result.values()).thenReturn(KafkaFuture.completedFuture(new ArrayList<>(existing)));
+            return result;
+        });
+        CountDownLatch creating = new CountDownLatch(1);
+        KafkaFutureImpl<Void> created = new KafkaFutureImpl<>();
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            creating.countDown();
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.all()).thenReturn(created);
+            return result;
+        });
+        when(mockAdminClient.deleteAcls(any())).thenAnswer(invocation -> {
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(emptyList()));
+            return result;
+        });
+
+        Checkpoint async = context.checkpoint();
+        Future<ReconcileResult<Set<SimpleAclRule>>> first = aclOp.reconcile("CN=foo", singleton(readRule));
+
+        // The snapshot is taken before the creation completes, so it does not contain the rule yet
+        assertThat(creating.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(aclOp.getUsersWithAcls(), is(Collections.emptySet()));
+        existing.add(fooReadAclBinding);
+        created.complete(null);
+
+        first.compose(ignored -> aclOp.reconcile("CN=foo", singleton(readRule)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The second reconciliation described the rules instead of using the outdated snapshot,
+                    // so it did not create the existing rule again
+                    assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                    verify(mockAdminClient, times(3)).describeAcls(any());
+                    assertThat(aclBindingsCaptor.getAllValues(), hasSize(2));
+                    assertThat(aclBindingsCaptor.getAllValues().get(1), hasSize(0));
+                    async.flag();
+                })));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings)
             throws InterruptedException, ExecutionException {
         DescribeAclsResult result = mock(DescribeAclsResult.class);